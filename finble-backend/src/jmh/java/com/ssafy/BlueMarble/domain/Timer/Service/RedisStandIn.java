@@ -0,0 +1,61 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 벤치마크용 Redis 대역
+ * - 같은 JVM 안에서 jedis-mock 서버를 띄우고 운영과 같은 Lettuce 연결로 붙습니다.
+ * - 실제 Redis와 네트워크/명령 비용은 다르므로 전략 간 상대 비교에만 사용합니다.
+ */
+final class RedisStandIn implements AutoCloseable {
+
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+
+    private RedisStandIn(RedisServer server, LettuceConnectionFactory connectionFactory) {
+        this.server = server;
+        this.connectionFactory = connectionFactory;
+        this.template = new StringRedisTemplate(connectionFactory);
+    }
+
+    static RedisStandIn start() {
+        try {
+            RedisServer server = RedisServer.newRedisServer().start();
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(server.getHost(), server.getBindPort()));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            return new RedisStandIn(server, connectionFactory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Redis 대역 서버 시작 실패", e);
+        }
+    }
+
+    StringRedisTemplate template() {
+        return template;
+    }
+
+    void flushAll() {
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Override
+    public void close() {
+        connectionFactory.destroy();
+        try {
+            server.stop();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Redis 대역 서버 종료 실패", e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료된 턴 타이머를 찾는 방식 비교 (한 번 훑을 때의 처리량)
+ * - 방마다 turn_timer:room_{i}에 마감 시각을 두고 그중 1%가 이미 마감된 상태에서, 마감된 방 수를 찾는 비용만 잽니다.
+ * - 상태를 바꾸지 않도록 찾기만 하고 지우지는 않습니다.
+ * - 키 만료 알림(keyspace notification) 방식은 Redis 대역이 알림을 보내지 않아 제외했습니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class TimerStrategyBenchmark {
+
+    private static final String ROOM_KEY_PREFIX = "turn_timer:room_";
+    private static final String DEADLINES_KEY = "turn_timer:bench_deadlines";
+    private static final int BATCH_SIZE = 1000;
+    private static final int THREADS = 10;
+
+    @Param({"1000", "10000", "100000"})
+    public int rooms;
+
+    private RedisStandIn redis;
+    private StringRedisTemplate template;
+    private ExecutorService executor;
+    // 로컬 캐시 방식이 SCAN으로 미리 모아 둔 키
+    private List<String> cachedKeys;
+    // 우선순위 큐 방식이 메모리에 들고 있는 마감 시각
+    private PriorityQueue<long[]> deadlineQueue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = RedisStandIn.start();
+        template = redis.template();
+        executor = Executors.newFixedThreadPool(THREADS);
+        deadlineQueue = new PriorityQueue<>(Comparator.comparingLong(entry -> entry[1]));
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < rooms; i++) {
+            // 100개 중 1개는 이미 마감
+            long endTime = i % 100 == 0 ? now - 1000 : now + 3_600_000;
+            template.opsForValue().set(ROOM_KEY_PREFIX + i, String.valueOf(endTime));
+            template.opsForZSet().add(DEADLINES_KEY, String.valueOf(i), endTime);
+            deadlineQueue.add(new long[]{i, endTime});
+        }
+        cachedKeys = scanKeys();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+        redis.close();
+    }
+
+    /**
+     * KEYS로 전체 키를 가져온 뒤 하나씩 GET (기존 방식)
+     */
+    @Benchmark
+    public int keysThenGet() {
+        Set<String> keys = template.keys(ROOM_KEY_PREFIX + "*");
+        return countDue(keys == null ? List.of() : keys, System.currentTimeMillis());
+    }
+
+    /**
+     * SCAN으로 나눠 가져온 뒤 하나씩 GET
+     */
+    @Benchmark
+    public int scanThenGet() {
+        return countDue(scanKeys(), System.currentTimeMillis());
+    }
+
+    /**
+     * 방 번호 구간을 스레드 풀에 나눠 GET
+     */
+    @Benchmark
+    public int parallelGet() {
+        long now = System.currentTimeMillis();
+        int chunk = (rooms + THREADS - 1) / THREADS;
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(THREADS);
+        for (int start = 0; start < rooms; start += chunk) {
+            int from = start;
+            int to = Math.min(start + chunk, rooms);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<String> keys = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    keys.add(ROOM_KEY_PREFIX + i);
+                }
+                return countDue(keys, now);
+            }, executor));
+        }
+        int due = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            due += future.join();
+        }
+        return due;
+    }
+
+    /**
+     * 미리 SCAN해 둔 로컬 키 캐시를 MGET으로 나눠 조회
+     */
+    @Benchmark
+    public int localCacheMultiGet() {
+        long now = System.currentTimeMillis();
+        int due = 0;
+        for (int i = 0; i < cachedKeys.size(); i += BATCH_SIZE) {
+            List<String> values = template.opsForValue()
+                    .multiGet(cachedKeys.subList(i, Math.min(i + BATCH_SIZE, cachedKeys.size())));
+            if (values == null) {
+                continue;
+            }
+            for (String value : values) {
+                if (value != null && Long.parseLong(value) <= now) {
+                    due++;
+                }
+            }
+        }
+        return due;
+    }
+
+    /**
+     * 메모리 우선순위 큐에서 마감된 것만 꺼냄 (꺼낸 항목은 다시 넣어 상태 유지)
+     */
+    @Benchmark
+    public int priorityQueue() {
+        long now = System.currentTimeMillis();
+        List<long[]> due = new ArrayList<>();
+        while (!deadlineQueue.isEmpty() && deadlineQueue.peek()[1] <= now) {
+            due.add(deadlineQueue.poll());
+        }
+        deadlineQueue.addAll(due);
+        return due.size();
+    }
+
+    /**
+     * 정렬 집합에서 마감 시각 범위로 조회 (운영 방식)
+     */
+    @Benchmark
+    public int sortedSetRange() {
+        Set<String> due = template.opsForZSet().rangeByScore(DEADLINES_KEY, Double.NEGATIVE_INFINITY,
+                System.currentTimeMillis());
+        return due == null ? 0 : due.size();
+    }
+
+    private List<String> scanKeys() {
+        List<String> keys = new ArrayList<>(rooms);
+        ScanOptions options = ScanOptions.scanOptions().match(ROOM_KEY_PREFIX + "*").count(BATCH_SIZE).build();
+        try (Cursor<String> cursor = template.scan(options)) {
+            Set<String> seen = new HashSet<>();
+            // SCAN은 같은 키를 두 번 돌려줄 수 있음
+            cursor.forEachRemaining(key -> {
+                if (seen.add(key)) {
+                    keys.add(key);
+                }
+            });
+        }
+        return keys;
+    }
+
+    private int countDue(Iterable<String> keys, long now) {
+        int due = 0;
+        for (String key : keys) {
+            String value = template.opsForValue().get(key);
+            if (value != null && Long.parseLong(value) <= now) {
+                due++;
+            }
+        }
+        return due;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 운영 턴 타이머(TimerService → TurnDeadlineScheduler → TurnTimerWheel)의 예약/취소/만료 비용
+ * - 방 수만큼 마감 타이머가 걸려 있는 상태에서 처리량과 지연 백분위(SampleTime)를 함께 기록합니다.
+ * - 휠 설정은 운영 기본값(tick 100ms, 512칸)이라 만료 지연에는 tick 하나만큼의 대기가 포함됩니다.
+ * - TimerService는 타이머 예약/취소 경로만 쓰므로 나머지 의존성은 비워 둡니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class TurnTimerBenchmark {
+
+    private static final long TURN_SECONDS = 30L;
+
+    @Param({"1000", "10000", "100000"})
+    public int rooms;
+
+    private RedisStandIn redis;
+    private TurnTimerWheel wheel;
+    private TurnDeadlineScheduler scheduler;
+    private TimerService timerService;
+    // 만료를 기다리는 방 -> 만료되면 내려가는 래치
+    private final Map<String, CountDownLatch> waiting = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        redis = RedisStandIn.start();
+        wheel = new TurnTimerWheel(new SimpleMeterRegistry(), 100, 512);
+        wheel.start();
+        GameClock clock = new SystemGameClock(wheel);
+        scheduler = new TurnDeadlineScheduler(redis.template(), clock);
+        setField(scheduler, "claimBatchSize", 100);
+        setField(scheduler, "leaseMillis", 30000L);
+        setField(scheduler, "horizonMillis", 60000L);
+        scheduler.init();
+        scheduler.subscribe((roomId, token) -> {
+            scheduler.complete(roomId, token);
+            CountDownLatch latch = waiting.remove(roomId);
+            if (latch != null) {
+                latch.countDown();
+            }
+        });
+        timerService = new TimerService(null, null, null, null, null, null, null, null, scheduler, clock);
+
+        for (int i = 0; i < rooms; i++) {
+            timerService.startTurnTimer(room(i), TURN_SECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdown();
+        wheel.stop();
+        redis.close();
+    }
+
+    /**
+     * 턴 시작: 진행 중인 방의 마감을 새 마감으로 대체
+     */
+    @Benchmark
+    public void schedule() {
+        timerService.startTurnTimer(room(ThreadLocalRandom.current().nextInt(rooms)), TURN_SECONDS);
+    }
+
+    /**
+     * 게임 종료: 방의 마감 취소 (매번 새 방을 미리 예약해 둠)
+     */
+    @Benchmark
+    public void cancel(CancelTarget target) {
+        timerService.clearGameTimer(target.roomId);
+    }
+
+    /**
+     * 예약부터 마감된 타이머를 가져와 처리기로 넘길 때까지
+     */
+    @Benchmark
+    public void fire() throws InterruptedException {
+        String roomId = "fire-" + sequence.incrementAndGet();
+        CountDownLatch latch = new CountDownLatch(1);
+        waiting.put(roomId, latch);
+        scheduler.schedule(roomId, 0, TimeUnit.MILLISECONDS);
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            waiting.remove(roomId);
+            throw new IllegalStateException("턴 타이머가 만료되지 않음: roomId=" + roomId);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CancelTarget {
+
+        private String roomId;
+
+        @Setup(Level.Invocation)
+        public void prepare(TurnTimerBenchmark benchmark) {
+            roomId = "cancel-" + benchmark.sequence.incrementAndGet();
+            benchmark.timerService.startTurnTimer(roomId, TURN_SECONDS);
+        }
+    }
+
+    private static String room(int index) {
+        return "room-" + index;
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,83 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 상태 스냅샷 코덱별 인코딩/디코딩 시간 비교
+ * - 32칸 보드와 4명의 플레이어가 있는 게임 상태 하나를 반복해서 쓰고 읽습니다.
+ * - 코덱별 스냅샷 크기는 시작할 때 한 번 출력합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class GameSnapshotCodecBenchmark {
+
+    @Param({"json", "binary", "binary-deflate"})
+    public String codecName;
+
+    private GameSnapshotCodec codec;
+    private CreateMapPayload state;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        codec = new GameSnapshotCodecs(objectMapper, codecName).encoder();
+        state = createGameState();
+        encoded = codec.encode(state);
+        System.out.println(codec.name() + " 스냅샷 크기: " + encoded.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(state);
+    }
+
+    @Benchmark
+    public CreateMapPayload decode() throws IOException {
+        return codec.decode(encoded);
+    }
+
+    private static CreateMapPayload createGameState() {
+        // 코덱이 모든 필드를 다루는지 보도록 소유자/감옥/경제 효과/버전까지 채움
+        CreateMapPayload state = GameStateFixtures.gameState()
+                .players(4)
+                .cells(Tile.TileType.CHANCE, 3, 11, 19, 27)
+                .cell(8, Tile.TileType.JAIL)
+                .owner(1, 1)
+                .owner(6, 2)
+                .owner(16, 3)
+                .economicEffect()
+                .build();
+        CreateMapPayload.PlayerState jailed = state.getPlayers().get(GameStateFixtures.userId(2));
+        jailed.setPosition(8);
+        jailed.setInJail(true);
+        jailed.setJailTurns(3);
+        state.setCurrentPlayerIndex(2);
+        state.setGameTurn(7L);
+        state.setVersion(12L);
+        return state;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.dto.request.UseDiceRequest;
+import com.ssafy.BlueMarble.websocket.dto.MessageDto;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신 메시지를 JsonNode 트리를 거쳐 읽는 방식과 스트리밍으로 바로 읽는 방식 비교
+ * - 메시지당 할당량은 GC 프로파일러로 봅니다: ./gradlew jmh -Pjmh.includes=InboundMessageDecoderBenchmark -Pjmh.profilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@State(Scope.Benchmark)
+public class InboundMessageDecoderBenchmark {
+
+    private static final String USE_DICE = "{\"type\":\"USE_DICE\",\"payload\":{\"userName\":\"플레이어0\"}}";
+
+    private ObjectMapper objectMapper;
+    private InboundMessageDecoder decoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        decoder = new InboundMessageDecoder(objectMapper);
+        decoder.register(MessageType.USE_DICE, UseDiceRequest.class);
+    }
+
+    @Benchmark
+    public UseDiceRequest treeDecode() throws JsonProcessingException {
+        MessageDto message = objectMapper.readValue(USE_DICE, MessageDto.class);
+        return objectMapper.treeToValue(message.getPayload(), UseDiceRequest.class);
+    }
+
+    @Benchmark
+    public UseDiceRequest streamingDecode() throws IOException {
+        return decoder.decode(USE_DICE).payload(UseDiceRequest.class);
+    }
+}
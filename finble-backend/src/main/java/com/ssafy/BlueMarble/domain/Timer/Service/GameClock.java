@@ -0,0 +1,43 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임이 쓰는 시계 (현재 시각과 지연 작업 예약)
+ * - 운영에서는 실제 시각과 턴 타이머 휠을 쓰고({@link SystemGameClock}),
+ *   시뮬레이션/테스트에서는 호출할 때만 시간이 흐르는 가상 시계({@link VirtualGameClock})로 바꿉니다.
+ * - game.clock.virtual=true면 가상 시계를 씁니다.
+ */
+public interface GameClock {
+
+    /**
+     * 현재 시각 (epoch ms)
+     */
+    long millis();
+
+    /**
+     * 작업 예약
+     * @param task 시각이 되면 실행할 작업 (시계 스레드에서 실행되므로 오래 걸리는 작업은 다른 스레드로 넘길 것)
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * 호출할 때만 시간이 흐르는 가상 시계인지
+     * - 가상 시계의 시간은 시간을 흘린 스레드에서만 흐르므로, 예약한 작업이 다음 예약까지 같은 스레드에서 끝나야 합니다.
+     */
+    default boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * 예약된 작업
+     */
+    interface Timeout {
+
+        /**
+         * 실행 전이면 취소
+         * @return 취소했으면 true, 이미 실행/취소됐으면 false
+         */
+        boolean cancel();
+    }
+}
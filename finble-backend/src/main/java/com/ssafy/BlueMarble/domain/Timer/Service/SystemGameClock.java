@@ -0,0 +1,24 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실제 시각을 쓰는 게임 시계 (예약은 턴 타이머 휠에 맡김)
+ */
+@RequiredArgsConstructor
+public class SystemGameClock implements GameClock {
+
+    private final TurnTimerWheel turnTimerWheel;
+
+    @Override
+    public long millis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return turnTimerWheel.schedule(task, delay, unit);
+    }
+}
@@ -1,27 +1,28 @@
 package com.ssafy.BlueMarble.domain.Timer.Service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.BlueMarble.domain.Timer.dto.TurnInfoDto;
 import com.ssafy.BlueMarble.domain.game.dto.request.TurnSkipRequest;
 import com.ssafy.BlueMarble.domain.game.entity.GameState;
 import com.ssafy.BlueMarble.domain.game.service.GameRedisService;
+import com.ssafy.BlueMarble.domain.game.service.GameActionContext;
+import com.ssafy.BlueMarble.domain.game.service.GameActionExecutor;
+import com.ssafy.BlueMarble.domain.game.service.RoomExecutionLanes;
+import com.ssafy.BlueMarble.domain.game.service.RoomGameEngine;
 import com.ssafy.BlueMarble.domain.room.service.RoomService;
 import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
 import com.ssafy.BlueMarble.domain.game.service.EconomicHistoryService;
-import com.ssafy.BlueMarble.websocket.dto.MessageDto;
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
 import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.WebSocketSession;
 
-import java.util.Set;
-import java.util.concurrent.*;
+import java.util.concurrent.TimeUnit;
 
 
 @Service
@@ -32,38 +33,55 @@ public class TimerService {
     private final RedisTemplate<String, String> redisTemplate;
     private final GameRedisService gameRedisService;
     private final SessionMessageService sessionMessageService;
-    private final ObjectMapper objectMapper;
     private final UserRedisService userRedisService;
     private final EconomicHistoryService economicHistoryService;
     private final RoomService roomService;
-    // 턴 타이머 키 패턴
-    private static final String TURN_TIMER_PREFIX = "turn_timer:";
-
-    //
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
-    private final ConcurrentMap<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    private final GameActionExecutor gameActionExecutor;
+    private final RoomExecutionLanes roomExecutionLanes;
+    // 턴 마감 시각은 Redis(turn_timer:deadlines)에 저장, 마감되면 아무 노드나 가져가 처리
+    private final TurnDeadlineScheduler turnDeadlineScheduler;
+    private final GameClock gameClock;
+
+    @PostConstruct
+    public void subscribeDeadlines() {
+        turnDeadlineScheduler.subscribe(this::onTurnDeadline);
+    }
 
     /**
      * 턴 시작 시 타이머 설정
      */
     public void startTurnTimer(String roomId, Long seconds) {
+        // 이미 존재하는 타이머는 새 예약으로 대체
+        runAfterCommit(roomId, () -> turnDeadlineScheduler.schedule(roomId, seconds, TimeUnit.SECONDS));
+    }
 
-        // 이미 존재하는 타이머가 있다면 제거
-        ScheduledFuture<?> existingFuture = scheduledTasks.get(roomId);
-        if (existingFuture != null && !existingFuture.isDone()) {
-            existingFuture.cancel(false);
-        }
-
-        // 타이머 시작 후 할 일
-        Runnable task = () -> {
-            endTurnByTimer(roomId);
+    /**
+     * 마감된 턴 타이머 처리
+     * - 플레이어 요청과 같은 방 레인에서 턴 종료 처리 (버전 충돌 시 재실행)
+     * - 그 사이 턴이 수동으로 넘어가 다시 예약/취소되었으면 지난 타이머이므로 무시
+     * - 처리했거나 지난 타이머일 때만 마감을 지우고, 실패하면 임대가 끝난 뒤 다시 가져가 재시도하도록 남겨 둠
+     * - 가상 시계면 다음 턴 마감까지 예약한 뒤 시간을 흘린 호출이 끝나도록 레인에 넘기지 않고 바로 처리 (방 잠금은 동일)
+     */
+    void onTurnDeadline(String roomId, String token) {
+        RoomGameEngine.RoomAction timeout = () -> {
+            gameActionExecutor.execute(roomId, "TURN_TIMEOUT", () -> {
+                if (!turnDeadlineScheduler.isCurrent(roomId, token)) {
+                    log.debug("지난 턴 타이머 무시: roomId={}", roomId);
+                    return;
+                }
+                endTurnByTimer(roomId);
+            });
+            turnDeadlineScheduler.complete(roomId, token);
         };
-
-        // 타이머 예약 (seconds 후 실행)
-        ScheduledFuture<?> scheduledFuture = scheduler.schedule(task, seconds, TimeUnit.SECONDS);
-
-        // 예약 정보 저장
-        scheduledTasks.put(roomId, scheduledFuture);
+        if (!gameClock.isVirtual()) {
+            roomExecutionLanes.submit(roomId, timeout, e -> log.error("타이머 턴 종료 처리 실패, 임대 만료 후 재시도: roomId={}", roomId, e));
+            return;
+        }
+        try {
+            timeout.run();
+        } catch (Exception e) {
+            log.error("타이머 턴 종료 처리 실패, 임대 만료 후 재시도: roomId={}", roomId, e);
+        }
     }
 
     /**
@@ -82,19 +100,19 @@ public class TimerService {
             return;
         }
 
-        ScheduledFuture<?> scheduledTask = scheduledTasks.get(roomId);
-        if (scheduledTask != null && !scheduledTask.isCancelled() && !scheduledTask.isDone()) {
-            scheduledTask.cancel(false);
-            log.info("턴 타이머 취소됨: roomId={}, player={}", roomId, username);
-        } else {
-            log.warn("취소할 활성화된 타이머 없음: roomId={}", roomId);
-        }
+        runAfterCommit(roomId, () -> {
+            if (turnDeadlineScheduler.cancel(roomId)) {
+                log.info("턴 타이머 취소됨: roomId={}, player={}", roomId, username);
+            } else {
+                log.warn("취소할 활성화된 타이머 없음: roomId={}", roomId);
+            }
+        });
 
         endTurnByTimer(roomId);
     }
 
     public void endTurnManually(WebSocketSession session, TurnSkipRequest turnSkipRequest) {
-        String roomId = roomService.getRoom(session.getId());
+        String roomId = roomService.getRoom(session);
         cancelTurnTimer(roomId, turnSkipRequest.getUsername());
     }
 
@@ -102,16 +120,23 @@ public class TimerService {
      * 게임 종료 시 타이머 정리
      */
     public void clearGameTimer(String roomId) {
-        // 메모리 기반 타이머 취소
-        ScheduledFuture<?> scheduledTask = scheduledTasks.get(roomId);
-        if (scheduledTask != null && !scheduledTask.isCancelled() && !scheduledTask.isDone()) {
-            scheduledTask.cancel(false);
-        }
-        scheduledTasks.remove(roomId);
+        runAfterCommit(roomId, () -> turnDeadlineScheduler.cancel(roomId));
 
         log.info("게임 종료로 인한 타이머 정리 완료: roomId={}", roomId);
     }
 
+    /**
+     * 액션 중이면 저장이 성공한 뒤에 실행 (충돌로 재실행되면 버림), 액션 밖이면 바로 실행
+     */
+    private void runAfterCommit(String roomId, Runnable task) {
+        GameActionContext context = GameActionContext.currentFor(roomId);
+        if (context != null) {
+            context.afterCommit(task);
+        } else {
+            task.run();
+        }
+    }
+
     private void endTurnByTimer(String roomId) {
         // 턴 종료 로직 실행
         CreateMapPayload gameState = gameRedisService.getGameMapState(roomId);
@@ -185,11 +210,13 @@ public class TimerService {
                     .curPlayer(currentPlayer.getNickname())
                     .build();
 
-            JsonNode payloadNode = objectMapper.valueToTree(payload);
-            MessageDto message = new MessageDto(MessageType.GAME_STATE_CHANGE, payloadNode);
-            sessionMessageService.sendMessageToRoom(roomId, message);
+            // 저장이 충돌로 재시도될 수 있으므로 저장 후 전송
             gameRedisService.saveGameMapState(roomId, gameState);
 
+            sessionMessageService.sendMessageToRoom(roomId, MessageType.GAME_STATE_CHANGE, payload);
+
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("턴 시작 알림 전송 실패: roomId={}", roomId, e);
         }
@@ -0,0 +1,295 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis 정렬 집합(turn_timer:deadlines)에 저장하는 턴 마감 시각
+ * - 멤버는 "roomId|token", 점수는 Redis 서버 시각(TIME) 기준 마감 시각(ms)이라 재시작이나 노드 간 시계 차이에 영향을 받지 않습니다.
+ * - 가상 게임 시계({@link GameClock#isVirtual()})를 쓰면 점수는 가상 시각 기준이고, 깨우기부터 처리기 호출까지
+ *   시간을 흘린 스레드에서 바로 실행해 기다리지 않고 마감됩니다.
+ * - 방마다 현재 토큰을 turn_timer:tokens에 두고, 다시 예약/취소하면 이전 멤버를 지웁니다.
+ * - 마감이 지난 멤버는 아무 노드나 Lua 스크립트로 한 번에 가져가며, 가져간 멤버는 임대 시간만큼 뒤로 미뤄 다른 노드가 다시 가져가지 않습니다.
+ *   (처리 중 노드가 죽으면 임대가 끝난 뒤 다른 노드가 이어서 처리)
+ * - 가까운 시일(horizon) 안에 마감되는 타이머는 게임 시계에 깨우기를 걸어 두고, 주기 조회는 재시작/다른 노드가 예약한 타이머를 보충합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TurnDeadlineScheduler {
+
+    static final String DEADLINES_KEY = "turn_timer:deadlines";
+    static final String TOKENS_KEY = "turn_timer:tokens";
+    private static final char SEPARATOR = '|';
+
+    // 현재 시각(ms): 인자로 넘긴 가상 시각, 비어 있으면 Redis 서버 시각
+    private static String nowMillis(int argIndex) {
+        return "local now = tonumber(ARGV[" + argIndex + "]) "
+                + "if not now then local t = redis.call('TIME') "
+                + "now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) end ";
+    }
+
+    // KEYS[1]=마감 시각, KEYS[2]=방별 토큰 / ARGV[1]=roomId, ARGV[2]=새 토큰, ARGV[3]=지연(ms), ARGV[4]=가상 시각(ms, 없으면 "")
+    private static final RedisScript<Long> SCHEDULE = new DefaultRedisScript<>(
+            nowMillis(4)
+                    + "local old = redis.call('HGET', KEYS[2], ARGV[1]) "
+                    + "if old then redis.call('ZREM', KEYS[1], ARGV[1] .. '|' .. old) end "
+                    + "local due = now + tonumber(ARGV[3]) "
+                    + "redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) "
+                    + "redis.call('ZADD', KEYS[1], due, ARGV[1] .. '|' .. ARGV[2]) "
+                    + "return due",
+            Long.class);
+
+    // KEYS[1]=마감 시각, KEYS[2]=방별 토큰 / ARGV[1]=roomId
+    private static final RedisScript<Long> CANCEL = new DefaultRedisScript<>(
+            "local old = redis.call('HGET', KEYS[2], ARGV[1]) "
+                    + "if not old then return 0 end "
+                    + "redis.call('ZREM', KEYS[1], ARGV[1] .. '|' .. old) "
+                    + "redis.call('HDEL', KEYS[2], ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    // KEYS[1]=마감 시각 / ARGV[1]=최대 개수, ARGV[2]=임대 시간(ms), ARGV[3]=가상 시각(ms, 없으면 "")
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM = new DefaultRedisScript<>(
+            nowMillis(3)
+                    + "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, tonumber(ARGV[1])) "
+                    + "for _, member in ipairs(due) do "
+                    + "redis.call('ZADD', KEYS[1], 'XX', now + tonumber(ARGV[2]), member) end "
+                    + "return due",
+            List.class);
+
+    // KEYS[1]=마감 시각 / ARGV[1]=horizon(ms), ARGV[2]=최대 개수, ARGV[3]=가상 시각(ms, 없으면 "") → [멤버, 남은 시간(ms), ...]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> UPCOMING = new DefaultRedisScript<>(
+            nowMillis(3)
+                    + "local items = redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. now, now + tonumber(ARGV[1]), "
+                    + "'WITHSCORES', 'LIMIT', 0, tonumber(ARGV[2])) "
+                    + "local result = {} "
+                    + "for i = 1, #items, 2 do "
+                    + "result[#result + 1] = items[i] "
+                    + "result[#result + 1] = tostring(tonumber(items[i + 1]) - now) end "
+                    + "return result",
+            List.class);
+
+    // 스크립트는 트랜잭션 안에서도 바로 실행되어야 하므로 트랜잭션 지원이 없는 템플릿 사용
+    private final StringRedisTemplate stringRedisTemplate;
+    private final GameClock gameClock;
+
+    @Value("${game.timer.claim-batch-size:100}")
+    private int claimBatchSize;
+
+    @Value("${game.timer.lease-ms:30000}")
+    private long leaseMillis;
+
+    @Value("${game.timer.horizon-ms:60000}")
+    private long horizonMillis;
+
+    // roomId -> 이 노드의 게임 시계에 걸어 둔 깨우기
+    private final Map<String, Wakeup> wakeups = new ConcurrentHashMap<>();
+    private final AtomicBoolean claiming = new AtomicBoolean();
+    private volatile BiConsumer<String, String> listener;
+    private Executor executor;
+
+    @PostConstruct
+    public void init() {
+        // 시계 스레드는 넘기기만 하므로 Redis 호출은 별도 스레드에서 실행
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "turn-deadline-claimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeups.values().forEach(wakeup -> wakeup.timeout().cancel());
+        wakeups.clear();
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * 마감된 타이머를 받을 처리기 등록
+     * @param listener (roomId, token)을 받아 턴 종료 처리, 끝나면 {@link #complete}를 호출해야 함
+     */
+    public void subscribe(BiConsumer<String, String> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 방의 턴 마감 예약 (이전 예약은 대체)
+     * @return 이번 예약의 토큰
+     */
+    public String schedule(String roomId, long delay, TimeUnit unit) {
+        String token = UUID.randomUUID().toString();
+        long delayMillis = unit.toMillis(delay);
+        stringRedisTemplate.execute(SCHEDULE, List.of(DEADLINES_KEY, TOKENS_KEY),
+                roomId, token, String.valueOf(delayMillis), virtualNow());
+        wakeAt(roomId, member(roomId, token), delayMillis);
+        return token;
+    }
+
+    /**
+     * 방의 턴 마감 취소
+     * @return 취소한 예약이 있었는지
+     */
+    public boolean cancel(String roomId) {
+        Wakeup wakeup = wakeups.remove(roomId);
+        if (wakeup != null) {
+            wakeup.timeout().cancel();
+        }
+        Long result = stringRedisTemplate.execute(CANCEL, List.of(DEADLINES_KEY, TOKENS_KEY), roomId);
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 마감된 타이머의 토큰이 아직 방의 현재 예약인지 (그 사이 다시 예약/취소했으면 false)
+     */
+    public boolean isCurrent(String roomId, String token) {
+        return token.equals(stringRedisTemplate.opsForHash().get(TOKENS_KEY, roomId));
+    }
+
+    /**
+     * 가져간 타이머 처리 완료 (임대 중인 멤버 삭제)
+     */
+    public void complete(String roomId, String token) {
+        stringRedisTemplate.opsForZSet().remove(DEADLINES_KEY, member(roomId, token));
+    }
+
+    /**
+     * 마감이 지난 타이머를 가져와 처리기로 넘기고, 가까운 시일 안에 마감될 타이머는 깨우기를 걸어 둠
+     */
+    @Scheduled(fixedDelayString = "${game.timer.poll-ms:1000}")
+    public void poll() {
+        if (gameClock.isVirtual()) {
+            // 가상 시계에서는 시간을 흘리는 쪽이 깨우기로 가져가므로 실제 시간 기준 주기 조회는 하지 않음
+            return;
+        }
+        claimDue();
+        try {
+            List<?> upcoming = stringRedisTemplate.execute(UPCOMING, List.of(DEADLINES_KEY),
+                    String.valueOf(horizonMillis), String.valueOf(claimBatchSize), virtualNow());
+            if (upcoming == null) {
+                return;
+            }
+            for (int i = 0; i + 1 < upcoming.size(); i += 2) {
+                String member = String.valueOf(upcoming.get(i));
+                String roomId = roomIdOf(member);
+                Wakeup existing = wakeups.get(roomId);
+                if (roomId != null && (existing == null || !existing.member().equals(member))) {
+                    wakeAt(roomId, member, Long.parseLong(String.valueOf(upcoming.get(i + 1))));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("다가오는 턴 마감 조회 실패", e);
+        }
+    }
+
+    /**
+     * 마감이 지난 타이머를 가져와 처리기로 넘김 (한 번에 claimBatchSize개씩, 남으면 반복)
+     */
+    void claimDue() {
+        if (!claiming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<?> claimed;
+            do {
+                claimed = stringRedisTemplate.execute(CLAIM, List.of(DEADLINES_KEY),
+                        String.valueOf(claimBatchSize), String.valueOf(leaseMillis), virtualNow());
+                if (claimed == null) {
+                    return;
+                }
+                for (Object value : claimed) {
+                    dispatch(String.valueOf(value));
+                }
+            } while (claimed.size() >= claimBatchSize);
+        } catch (Exception e) {
+            log.warn("마감된 턴 타이머 가져오기 실패", e);
+        } finally {
+            claiming.set(false);
+        }
+    }
+
+    private void dispatch(String member) {
+        String roomId = roomIdOf(member);
+        if (roomId == null) {
+            stringRedisTemplate.opsForZSet().remove(DEADLINES_KEY, member);
+            return;
+        }
+        String token = member.substring(roomId.length() + 1);
+        Wakeup wakeup = wakeups.get(roomId);
+        if (wakeup != null && wakeup.member().equals(member)) {
+            wakeups.remove(roomId, wakeup);
+        }
+        BiConsumer<String, String> current = listener;
+        if (current == null) {
+            log.warn("턴 마감 처리기 없음: roomId={}", roomId);
+            return;
+        }
+        try {
+            current.accept(roomId, token);
+        } catch (Exception e) {
+            log.error("턴 마감 처리 넘기기 실패: roomId={}", roomId, e);
+        }
+    }
+
+    private void wakeAt(String roomId, String member, long delayMillis) {
+        if (delayMillis > horizonMillis) {
+            // 멀리 있는 타이머는 주기 조회가 horizon 안으로 들어왔을 때 건다
+            Wakeup old = wakeups.remove(roomId);
+            if (old != null) {
+                old.timeout().cancel();
+            }
+            return;
+        }
+        // 가상 시계는 시간을 흘린 스레드가 다음 마감 예약까지 마쳐야 하므로 넘기지 않고 바로 가져감
+        Runnable wakeup = gameClock.isVirtual() ? this::claimDue : () -> executor.execute(this::claimDue);
+        GameClock.Timeout timeout = gameClock.schedule(wakeup, Math.max(delayMillis, 0), TimeUnit.MILLISECONDS);
+        Wakeup old = wakeups.put(roomId, new Wakeup(member, timeout));
+        if (old != null) {
+            old.timeout().cancel();
+        }
+    }
+
+    /**
+     * 스크립트에 넘길 가상 시각 (운영 시계는 빈 값이라 Redis 서버 시각 사용)
+     */
+    private String virtualNow() {
+        return gameClock.isVirtual() ? String.valueOf(gameClock.millis()) : "";
+    }
+
+    static String member(String roomId, String token) {
+        return roomId + SEPARATOR + token;
+    }
+
+    // 토큰(UUID)에는 구분자가 없으므로 마지막 구분자 앞이 roomId
+    static String roomIdOf(String member) {
+        int separator = member.lastIndexOf(SEPARATOR);
+        return separator > 0 ? member.substring(0, separator) : null;
+    }
+
+    private record Wakeup(String member, GameClock.Timeout timeout) {
+    }
+}
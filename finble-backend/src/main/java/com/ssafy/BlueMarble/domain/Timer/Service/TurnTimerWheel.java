@@ -0,0 +1,274 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 해시 타이밍 휠 기반 턴 타이머
+ * - 고정 간격(tick)마다 칸 하나를 확인하며, 예약/취소는 큐에 넣기만 하므로 O(1)입니다.
+ * - 휠은 스레드 하나가 돌리고, 만료 작업은 그 스레드에서 바로 실행하므로 작업은 방 레인에 넘기기만 해야 합니다.
+ * - 예정 시각과 실제 실행 시각의 차이(turn.timer.lag)와 대기 중인 타이머 수(turn.timer.pending)를 기록합니다.
+ */
+@Slf4j
+@Component
+public class TurnTimerWheel {
+
+    private static final int STATE_WAITING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private final MeterRegistry meterRegistry;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    // 다른 스레드에서 예약/취소한 타이머 (휠 스레드가 tick마다 칸에 넣거나 칸에서 뺌)
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private Timer lagTimer;
+    private Thread workerThread;
+    private volatile boolean running;
+    private volatile long startTime;
+    private long tick;
+
+    public TurnTimerWheel(MeterRegistry meterRegistry,
+                          @Value("${game.timer.tick-ms:100}") long tickMillis,
+                          @Value("${game.timer.wheel-size:512}") int wheelSize) {
+        this.meterRegistry = meterRegistry;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        // 칸 수는 2의 거듭제곱으로 올림 (칸 번호를 나머지 대신 비트 연산으로 계산)
+        int size = Integer.highestOneBit(Math.max(1, wheelSize) - 1) << 1;
+        size = Math.max(size, 1);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+    }
+
+    @PostConstruct
+    public void start() {
+        lagTimer = Timer.builder("turn.timer.lag")
+                .description("턴 타이머 예정 시각과 실제 만료 처리 시각의 차이")
+                .register(meterRegistry);
+        Gauge.builder("turn.timer.pending", pendingCount, AtomicInteger::get)
+                .description("만료를 기다리는 턴 타이머 수")
+                .register(meterRegistry);
+        startTime = System.nanoTime();
+        running = true;
+        workerThread = new Thread(this::run, "turn-timer-wheel");
+        workerThread.setDaemon(true);
+        workerThread.start();
+        log.info("턴 타이머 휠 시작: tickMs={}, wheelSize={}", TimeUnit.NANOSECONDS.toMillis(tickNanos), wheel.length);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workerThread != null) {
+            workerThread.interrupt();
+        }
+    }
+
+    /**
+     * 작업 예약
+     * @param task 만료 시 휠 스레드에서 실행할 작업 (오래 걸리는 작업은 다른 스레드로 넘길 것)
+     * @param delay 지연 시간
+     * @param unit 지연 시간 단위
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        Timeout timeout = new Timeout(task, deadline);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                continue;
+            }
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * 다음 tick 시각까지 대기
+     * @return 이번 tick 시각 (시작 기준), 중지되면 -1
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (running) {
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0) {
+                return deadline;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+        return -1;
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() == STATE_CANCELLED) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 시각이면 이번 칸에 넣어 바로 만료
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 예약된 작업 하나 (cancel은 아무 스레드에서나 호출 가능)
+     */
+    public final class Timeout implements GameClock.Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_WAITING);
+
+        // 아래는 휠 스레드에서만 사용
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 만료 전이면 취소
+         * @return 취소했으면 true, 이미 만료/취소됐으면 false
+         */
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_WAITING, STATE_CANCELLED)) {
+                return false;
+            }
+            pendingCount.decrementAndGet();
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        /**
+         * 아직 만료되지도 취소되지도 않았는지
+         */
+        public boolean isPending() {
+            return state.get() == STATE_WAITING;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_WAITING, STATE_EXPIRED)) {
+                return;
+            }
+            pendingCount.decrementAndGet();
+            lagTimer.record(System.nanoTime() - startTime - deadline, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("턴 타이머 작업 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 휠의 칸 하나 (이중 연결 리스트, 휠 스레드에서만 사용)
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출할 때만 시간이 흐르는 가상 게임 시계 (부하/장시간/회귀 시뮬레이션, 테스트용)
+ * - advance/advanceToNext를 부른 스레드에서 예정 시각 순서대로 작업을 실행하며, 실제로 기다리지 않습니다.
+ * - 작업이 실행되는 동안 현재 시각은 그 작업의 예정 시각이고, 실행 중 예약한 작업도 범위 안이면 같은 호출에서 실행합니다.
+ */
+@Slf4j
+public class VirtualGameClock implements GameClock {
+
+    // 예정 시각 순, 같으면 예약한 순서대로
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>(
+            Comparator.comparingLong((Task task) -> task.dueMillis).thenComparingLong(task -> task.sequence));
+
+    private long now;
+    private long sequence;
+
+    public VirtualGameClock(long startMillis) {
+        this.now = startMillis;
+    }
+
+    @Override
+    public synchronized long millis() {
+        return now;
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return true;
+    }
+
+    @Override
+    public synchronized Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Task scheduled = new Task(task, now + Math.max(unit.toMillis(delay), 0), sequence++);
+        tasks.add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * 시간을 흘리고 그 사이 예정된 작업을 모두 실행
+     */
+    public void advance(long amount, TimeUnit unit) {
+        long target;
+        synchronized (this) {
+            target = now + unit.toMillis(amount);
+        }
+        Task task;
+        while ((task = pollDue(target)) != null) {
+            task.run();
+        }
+        synchronized (this) {
+            now = Math.max(now, target);
+        }
+    }
+
+    /**
+     * 다음 예정 시각으로 건너뛰고 그 시각의 작업을 모두 실행
+     * @return 예정된 작업이 없으면 false
+     */
+    public boolean advanceToNext() {
+        Task next;
+        synchronized (this) {
+            next = tasks.peek();
+        }
+        if (next == null) {
+            return false;
+        }
+        advance(Math.max(next.dueMillis - millis(), 0), TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * 실행을 기다리는 작업 수
+     */
+    public synchronized int pending() {
+        return tasks.size();
+    }
+
+    private synchronized Task pollDue(long target) {
+        Task next = tasks.peek();
+        if (next == null || next.dueMillis > target) {
+            return null;
+        }
+        tasks.poll();
+        now = Math.max(now, next.dueMillis);
+        return next;
+    }
+
+    private final class Task implements Timeout {
+
+        private final Runnable task;
+        private final long dueMillis;
+        private final long sequence;
+
+        private Task(Runnable task, long dueMillis, long sequence) {
+            this.task = task;
+            this.dueMillis = dueMillis;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean cancel() {
+            synchronized (VirtualGameClock.this) {
+                return tasks.remove(this);
+            }
+        }
+
+        private void run() {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("가상 시계 작업 실패", e);
+            }
+        }
+    }
+}
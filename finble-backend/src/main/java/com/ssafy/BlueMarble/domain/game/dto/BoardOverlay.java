@@ -0,0 +1,48 @@
+package com.ssafy.BlueMarble.domain.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 방마다 따로 가지는 보드의 변경 가능한 부분 (칸 번호가 배열 인덱스)
+ * - ownerIndex     : 소유자의 playerOrder 인덱스 (없으면 -1)
+ * - buildingLevel  : Tile.BuildingType의 ordinal (없으면 -1)
+ * - landMultiplier : 기본 땅값에 곱하는 누적 경제 효과 배수
+ * - buildMultiplier: 기본 건설비에 곱하는 누적 경제 효과 배수
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardOverlay {
+
+    public static final int NO_OWNER = -1;
+    public static final byte NO_BUILDING = -1;
+
+    private int[] ownerIndex;
+    private byte[] buildingLevel;
+    private double[] landMultiplier;
+    private double[] buildMultiplier;
+
+    /**
+     * 소유자 없음, 건물은 빈 땅(FIELD), 배수 1.0으로 시작하는 오버레이
+     */
+    public static BoardOverlay initial(int size) {
+        int[] owners = new int[size];
+        Arrays.fill(owners, NO_OWNER);
+        double[] land = new double[size];
+        Arrays.fill(land, 1.0);
+        double[] build = new double[size];
+        Arrays.fill(build, 1.0);
+        return new BoardOverlay(owners, new byte[size], land, build);
+    }
+
+    /**
+     * 게임 상태 사본용 복사 (배열까지 새로 만듦)
+     */
+    public BoardOverlay copy() {
+        return new BoardOverlay(ownerIndex.clone(), buildingLevel.clone(), landMultiplier.clone(), buildMultiplier.clone());
+    }
+}
@@ -0,0 +1,259 @@
+package com.ssafy.BlueMarble.domain.game.dto;
+
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 게임 로직(주사위/통행료/건설/승리 체크)용 원시 타입 보드
+ * - 칸 정보를 배열로 들고 있어 조회 시 박싱이나 객체 생성이 없습니다.
+ * - 변경은 원본 GameMap의 Tile에도 함께 반영되므로 클라이언트 전송/저장은 기존 GameMap을 그대로 씁니다.
+ * - 소유자는 playerOrder 인덱스, 건물은 BuildingType ordinal로 저장하며 없으면 -1입니다.
+ */
+public final class BoardState {
+
+    public static final int NO_OWNER = -1;
+    public static final byte NO_TYPE = -1;
+    public static final byte NO_BUILDING = -1;
+
+    private static final Tile.TileType[] TILE_TYPES = Tile.TileType.values();
+    private static final Tile.BuildingType[] BUILDING_TYPES = Tile.BuildingType.values();
+
+    private final List<Tile> cells;
+    private final List<String> playerOrder;
+
+    private final String[] names;
+    private final String[] descriptions;
+    private final byte[] types;
+    private final byte[] buildingLevels;
+    private final int[] owners;
+    private final long[] landPrices;
+    private final long[] housePrices;
+    private final long[] buildingPrices;
+    private final long[] hotelPrices;
+    private final long[] tolls;
+    private final BitSet chanceCells;
+    private final BitSet specialCells;
+
+    private BoardState(List<Tile> cells, List<String> playerOrder) {
+        int size = cells.size();
+        this.cells = cells;
+        this.playerOrder = playerOrder;
+        this.names = new String[size];
+        this.descriptions = new String[size];
+        this.types = new byte[size];
+        this.buildingLevels = new byte[size];
+        this.owners = new int[size];
+        this.landPrices = new long[size];
+        this.housePrices = new long[size];
+        this.buildingPrices = new long[size];
+        this.hotelPrices = new long[size];
+        this.tolls = new long[size];
+        this.chanceCells = new BitSet(size);
+        this.specialCells = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            Tile tile = cells.get(i);
+            if (tile == null) {
+                types[i] = NO_TYPE;
+                buildingLevels[i] = NO_BUILDING;
+                owners[i] = NO_OWNER;
+                continue;
+            }
+            names[i] = tile.getName();
+            descriptions[i] = tile.getDescription();
+            types[i] = tile.getType() != null ? (byte) tile.getType().ordinal() : NO_TYPE;
+            buildingLevels[i] = tile.getBuildingType() != null ? (byte) tile.getBuildingType().ordinal() : NO_BUILDING;
+            owners[i] = ownerIndexOf(tile.getOwnerName());
+            landPrices[i] = unbox(tile.getLandPrice());
+            housePrices[i] = unbox(tile.getHousePrice());
+            buildingPrices[i] = unbox(tile.getBuildingPrice());
+            hotelPrices[i] = unbox(tile.getHotelPrice());
+            tolls[i] = unbox(tile.getToll());
+            if (tile.getType() == Tile.TileType.CHANCE) {
+                chanceCells.set(i);
+            } else if (tile.getType() == Tile.TileType.SPECIAL) {
+                specialCells.set(i);
+            }
+        }
+    }
+
+    /**
+     * GameMap의 칸 목록으로 보드 생성 (이후 변경은 같은 Tile 객체에도 반영)
+     */
+    public static BoardState of(GameMap gameMap, List<String> playerOrder) {
+        return new BoardState(gameMap.getCells(), playerOrder);
+    }
+
+    /**
+     * 같은 칸 목록과 플레이어 순서로 만든 보드인지 확인 (캐시 재사용 여부 판단용)
+     */
+    public boolean isViewOf(GameMap gameMap, List<String> playerOrder) {
+        return gameMap != null && gameMap.getCells() == cells && this.playerOrder == playerOrder;
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    public boolean contains(int position) {
+        return position >= 0 && position < types.length && types[position] != NO_TYPE;
+    }
+
+    public Tile.TileType typeOf(int position) {
+        byte type = types[position];
+        return type != NO_TYPE ? TILE_TYPES[type] : null;
+    }
+
+    public boolean isType(int position, Tile.TileType type) {
+        return types[position] == type.ordinal();
+    }
+
+    public boolean isChance(int position) {
+        return chanceCells.get(position);
+    }
+
+    public boolean isSpecial(int position) {
+        return specialCells.get(position);
+    }
+
+    public int specialCellCount() {
+        return specialCells.cardinality();
+    }
+
+    public int ownerIndex(int position) {
+        return owners[position];
+    }
+
+    public boolean isOwned(int position) {
+        return owners[position] != NO_OWNER;
+    }
+
+    public String ownerName(int position) {
+        int owner = owners[position];
+        return owner != NO_OWNER ? playerOrder.get(owner) : null;
+    }
+
+    /**
+     * 닉네임의 플레이어 순서 인덱스 (없으면 NO_OWNER)
+     */
+    public int ownerIndexOf(String nickname) {
+        if (nickname == null || playerOrder == null) {
+            return NO_OWNER;
+        }
+        for (int i = 0; i < playerOrder.size(); i++) {
+            if (nickname.equals(playerOrder.get(i))) {
+                return i;
+            }
+        }
+        return NO_OWNER;
+    }
+
+    /**
+     * 플레이어가 소유한 싸피 특별땅 개수
+     */
+    public int countSpecialOwnedBy(int ownerIndex) {
+        int count = 0;
+        for (int i = specialCells.nextSetBit(0); i >= 0; i = specialCells.nextSetBit(i + 1)) {
+            if (owners[i] == ownerIndex) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public byte buildingLevel(int position) {
+        return buildingLevels[position];
+    }
+
+    public long landPrice(int position) {
+        return landPrices[position];
+    }
+
+    public long toll(int position) {
+        return tolls[position];
+    }
+
+    /**
+     * 건물 레벨 하나를 올리는 비용 (VILLA=주택, BUILDING=빌딩, HOTEL=호텔, 그 외 0)
+     */
+    public long buildingCost(int position, int level) {
+        return switch (level) {
+            case 1 -> housePrices[position];
+            case 2 -> buildingPrices[position];
+            case 3 -> hotelPrices[position];
+            default -> 0L;
+        };
+    }
+
+    /**
+     * 현재 레벨 다음 단계부터 목표 레벨까지의 건설 비용 합계
+     */
+    public long totalBuildingCost(int position, int fromLevel, int toLevel) {
+        long total = 0L;
+        for (int level = fromLevel + 1; level <= toLevel; level++) {
+            total += buildingCost(position, level);
+        }
+        return total;
+    }
+
+    public void setOwner(int position, int ownerIndex) {
+        owners[position] = ownerIndex;
+        cells.get(position).setOwnerName(ownerIndex != NO_OWNER ? playerOrder.get(ownerIndex) : null);
+    }
+
+    public void setBuildingLevel(int position, int level) {
+        buildingLevels[position] = (byte) level;
+        cells.get(position).setBuildingType(level != NO_BUILDING ? BUILDING_TYPES[level] : null);
+    }
+
+    /**
+     * 경제 효과로 바뀐 칸 가격 반영 (경제 시대가 바뀔 때만 호출)
+     */
+    public void setPrices(int position, long landPrice, long housePrice, long buildingPrice, long hotelPrice) {
+        landPrices[position] = landPrice;
+        housePrices[position] = housePrice;
+        buildingPrices[position] = buildingPrice;
+        hotelPrices[position] = hotelPrice;
+        Tile tile = cells.get(position);
+        tile.setLandPrice(landPrice);
+        tile.setHousePrice(housePrice);
+        tile.setBuildingPrice(buildingPrice);
+        tile.setHotelPrice(hotelPrice);
+    }
+
+    /**
+     * 클라이언트 전송용 GameMap으로 변환 (원본과 분리된 새 Tile 목록)
+     */
+    public GameMap toGameMap() {
+        List<Tile> copy = new ArrayList<>(types.length);
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == NO_TYPE) {
+                copy.add(null);
+                continue;
+            }
+            copy.add(Tile.builder()
+                    .name(names[i])
+                    .type(TILE_TYPES[types[i]])
+                    .description(descriptions[i])
+                    .landPrice(landPrices[i])
+                    .housePrice(housePrices[i])
+                    .buildingPrice(buildingPrices[i])
+                    .hotelPrice(hotelPrices[i])
+                    .cellNumber(i)
+                    .ownerName(ownerName(i))
+                    .toll(tolls[i])
+                    .buildingType(buildingLevels[i] != NO_BUILDING ? BUILDING_TYPES[buildingLevels[i]] : null)
+                    .build());
+        }
+        GameMap gameMap = new GameMap();
+        gameMap.setCells(copy);
+        return gameMap;
+    }
+
+    private static long unbox(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssafy.BlueMarble.domain.game.dto;
+
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 보드 배치 시드별로 한 번만 만들어 모든 방이 함께 쓰는 불변 보드 정보
+ * - 칸 이름/타입/설명과 경제 효과가 적용되기 전 기본 가격만 가집니다.
+ * - 소유자, 건물, 가격 배수처럼 게임 중 바뀌는 값은 BoardOverlay에 둡니다.
+ */
+@Getter
+public final class BoardTemplate {
+
+    private final long seed;
+    private final List<Cell> cells;
+
+    public BoardTemplate(long seed, List<Cell> cells) {
+        this.seed = seed;
+        this.cells = Collections.unmodifiableList(new ArrayList<>(cells));
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    public Cell getCell(int cellNumber) {
+        return cells.get(cellNumber);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Cell {
+        private final String name;
+        private final Tile.TileType type;
+        private final String description;
+        private final long landPrice;
+        private final long housePrice;
+        private final long buildingPrice;
+        private final long hotelPrice;
+    }
+}
@@ -58,6 +58,26 @@ public class Tile {
     @Transient
     private BuildingType buildingType;
 
+    /**
+     * 게임 상태 사본용 복사 (소유자/건물/통행료 같은 게임 중 값도 함께 복사)
+     */
+    public Tile copy() {
+        return Tile.builder()
+                .id(id)
+                .name(name)
+                .type(type)
+                .landPrice(landPrice)
+                .housePrice(housePrice)
+                .buildingPrice(buildingPrice)
+                .hotelPrice(hotelPrice)
+                .description(description)
+                .cellNumber(cellNumber)
+                .ownerName(ownerName)
+                .toll(toll)
+                .buildingType(buildingType)
+                .build();
+    }
+
     // BuildingType enum 추가
     public enum BuildingType {
         FIELD,
@@ -0,0 +1,23 @@
+package com.ssafy.BlueMarble.domain.game.entity;
+
+/**
+ * 한 턴의 진행 단계 (ROLL → RESOLVE → DECIDE → END, 결정을 처리하면 다시 RESOLVE)
+ */
+public enum TurnPhase {
+    ROLL,           // 주사위 대기
+    RESOLVE,        // 도착 칸 효과 처리 (통행료, 찬스카드, 감옥 등)
+    DECIDE,         // 플레이어 결정 대기 (땅 구매/건설, 세계여행, 국세청)
+    END;            // 남은 결정 없음, 턴 종료
+
+    /**
+     * 다음 단계
+     * @param needsDecision 도착한 칸에서 플레이어가 결정할 것이 남았는지 (RESOLVE에서만 사용)
+     */
+    public TurnPhase next(boolean needsDecision) {
+        return switch (this) {
+            case ROLL, DECIDE -> RESOLVE;
+            case RESOLVE -> needsDecision ? DECIDE : END;
+            case END -> ROLL;
+        };
+    }
+}
@@ -0,0 +1,481 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.ssafy.BlueMarble.domain.game.dto.BoardOverlay;
+import com.ssafy.BlueMarble.domain.game.dto.GameMap;
+import com.ssafy.BlueMarble.domain.game.entity.GameState;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 게임 상태를 압축된 바이너리로 직렬화하는 코덱
+ * - [헤더 1바이트][스키마 버전][문자열 테이블][본문] 순서로 기록합니다.
+ * - 정수는 varint(음수는 zigzag), enum은 ordinal, 문자열은 테이블 인덱스로 기록해
+ *   칸 이름/설명/닉네임처럼 반복되는 문자열을 한 번만 저장합니다.
+ * - deflate가 켜져 있으면 헤더 뒤의 내용을 Deflate로 한 번 더 압축합니다.
+ */
+public class BinarySnapshotCodec implements GameSnapshotCodec {
+
+    // 1: 최초 형식, 2: 보드 템플릿 시드/오버레이 추가
+    private static final int SCHEMA_VERSION = 2;
+
+    private static final GameState[] GAME_STATES = GameState.values();
+    private static final Tile.TileType[] TILE_TYPES = Tile.TileType.values();
+    private static final Tile.BuildingType[] BUILDING_TYPES = Tile.BuildingType.values();
+
+    private final boolean deflate;
+
+    public BinarySnapshotCodec(boolean deflate) {
+        this.deflate = deflate;
+    }
+
+    @Override
+    public String name() {
+        return deflate ? "binary-deflate" : "binary";
+    }
+
+    @Override
+    public byte format() {
+        return deflate ? FORMAT_BINARY_DEFLATE : FORMAT_BINARY;
+    }
+
+    @Override
+    public byte[] encode(CreateMapPayload state) throws IOException {
+        Writer body = new Writer();
+        writeState(body, state);
+
+        Writer content = new Writer();
+        content.writeVarInt(SCHEMA_VERSION);
+        content.writeVarInt(body.strings.size());
+        for (String value : body.strings) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            content.writeVarInt(utf8.length);
+            content.out.write(utf8);
+        }
+        body.out.writeTo(content.out);
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream(content.out.size() + 1);
+        result.write(format());
+        if (deflate) {
+            try (DeflaterOutputStream deflater = new DeflaterOutputStream(result)) {
+                content.out.writeTo(deflater);
+            }
+        } else {
+            content.out.writeTo(result);
+        }
+        return result.toByteArray();
+    }
+
+    @Override
+    public CreateMapPayload decode(byte[] data) throws IOException {
+        if (data.length == 0 || data[0] != format()) {
+            throw new IOException("지원하지 않는 스냅샷 형식입니다: codec=" + name());
+        }
+        byte[] content = data;
+        int offset = 1;
+        if (deflate) {
+            try (InflaterInputStream inflater = new InflaterInputStream(
+                    new ByteArrayInputStream(data, 1, data.length - 1))) {
+                content = inflater.readAllBytes();
+            }
+            offset = 0;
+        }
+
+        Reader reader = new Reader(content, offset);
+        int schemaVersion = reader.readVarInt();
+        if (schemaVersion < 1 || schemaVersion > SCHEMA_VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 스키마 버전입니다: " + schemaVersion);
+        }
+        int stringCount = reader.readVarInt();
+        reader.strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int length = reader.readVarInt();
+            reader.strings[i] = new String(content, reader.take(length), length, StandardCharsets.UTF_8);
+        }
+        return readState(reader, schemaVersion);
+    }
+
+    private void writeState(Writer writer, CreateMapPayload state) throws IOException {
+        writer.writeString(state.getRoomId());
+        writer.writeEnum(state.getGameState());
+        writer.writeNullableLong(state.getGameTurn());
+        writer.writeSignedVarLong(state.getCurrentPlayerIndex());
+        writer.writeStringList(state.getPlayerOrder());
+
+        Map<String, CreateMapPayload.PlayerState> players = state.getPlayers();
+        writer.writeVarInt(players == null ? 0 : players.size() + 1);
+        if (players != null) {
+            for (Map.Entry<String, CreateMapPayload.PlayerState> entry : players.entrySet()) {
+                CreateMapPayload.PlayerState player = entry.getValue();
+                writer.writeString(entry.getKey());
+                writer.writeString(player.getUserId());
+                writer.writeString(player.getNickname());
+                writer.writeSignedVarLong(player.getPosition());
+                writer.writeNullableLong(player.getMoney());
+                writer.writeIntList(player.getOwnedProperties());
+                writer.out.write((player.isInJail() ? 1 : 0) | (player.isActive() ? 2 : 0));
+                writer.writeSignedVarLong(player.getJailTurns());
+            }
+        }
+
+        writer.writeString(state.getEconomicPeriodName());
+        writer.writeString(state.getEconomicEffectName());
+        writer.writeString(state.getEconomicDescription());
+        writer.writeString(state.getEconomicFullName());
+        writer.writeNullableDouble(state.getSalaryMultiplier());
+        writer.writeNullableDouble(state.getPropertyPriceMultiplier());
+        writer.writeNullableDouble(state.getBuildingCostMultiplier());
+        writer.out.write(state.isBoom() ? 1 : 0);
+        writer.writeSignedVarLong(state.getRemainingTurns());
+        writer.writeNullableLong(state.getVersion());
+        writer.writeNullableLong(state.getBoardSeed());
+        writeOverlay(writer, state.getBoardOverlay());
+
+        List<Tile> cells = state.getCurrentMap() != null ? state.getCurrentMap().getCells() : null;
+        writer.writeVarInt(state.getCurrentMap() == null ? 0 : cells == null ? 1 : cells.size() + 2);
+        if (cells != null) {
+            for (Tile tile : cells) {
+                writer.out.write(tile == null ? 0 : 1);
+                if (tile == null) {
+                    continue;
+                }
+                writer.writeString(tile.getName());
+                writer.writeEnum(tile.getType());
+                writer.writeString(tile.getDescription());
+                writer.writeNullableLong(tile.getLandPrice());
+                writer.writeNullableLong(tile.getHousePrice());
+                writer.writeNullableLong(tile.getBuildingPrice());
+                writer.writeNullableLong(tile.getHotelPrice());
+                writer.writeSignedVarLong(tile.getCellNumber());
+                writer.writeString(tile.getOwnerName());
+                writer.writeNullableLong(tile.getToll());
+                writer.writeEnum(tile.getBuildingType());
+            }
+        }
+    }
+
+    private CreateMapPayload readState(Reader reader, int schemaVersion) throws IOException {
+        CreateMapPayload.CreateMapPayloadBuilder builder = CreateMapPayload.builder()
+                .roomId(reader.readString())
+                .gameState(reader.readEnum(GAME_STATES))
+                .gameTurn(reader.readNullableLong())
+                .currentPlayerIndex((int) reader.readSignedVarLong())
+                .playerOrder(reader.readStringList());
+
+        int playerCount = reader.readVarInt();
+        if (playerCount > 0) {
+            Map<String, CreateMapPayload.PlayerState> players = new LinkedHashMap<>();
+            for (int i = 0; i < playerCount - 1; i++) {
+                String key = reader.readString();
+                CreateMapPayload.PlayerState.PlayerStateBuilder player = CreateMapPayload.PlayerState.builder()
+                        .userId(reader.readString())
+                        .nickname(reader.readString())
+                        .position((int) reader.readSignedVarLong())
+                        .money(reader.readNullableLong())
+                        .ownedProperties(reader.readIntList());
+                int flags = reader.readByte();
+                players.put(key, player
+                        .isInJail((flags & 1) != 0)
+                        .isActive((flags & 2) != 0)
+                        .jailTurns((int) reader.readSignedVarLong())
+                        .build());
+            }
+            builder.players(players);
+        }
+
+        builder.economicPeriodName(reader.readString())
+                .economicEffectName(reader.readString())
+                .economicDescription(reader.readString())
+                .economicFullName(reader.readString())
+                .salaryMultiplier(reader.readNullableDouble())
+                .propertyPriceMultiplier(reader.readNullableDouble())
+                .buildingCostMultiplier(reader.readNullableDouble())
+                .isBoom(reader.readByte() != 0)
+                .remainingTurns((int) reader.readSignedVarLong())
+                .version(reader.readNullableLong());
+        if (schemaVersion >= 2) {
+            builder.boardSeed(reader.readNullableLong())
+                    .boardOverlay(readOverlay(reader));
+        }
+
+        int cellMarker = reader.readVarInt();
+        if (cellMarker > 0) {
+            GameMap gameMap = new GameMap();
+            if (cellMarker > 1) {
+                List<Tile> cells = new ArrayList<>(cellMarker - 2);
+                for (int i = 0; i < cellMarker - 2; i++) {
+                    if (reader.readByte() == 0) {
+                        cells.add(null);
+                        continue;
+                    }
+                    cells.add(Tile.builder()
+                            .name(reader.readString())
+                            .type(reader.readEnum(TILE_TYPES))
+                            .description(reader.readString())
+                            .landPrice(reader.readNullableLong())
+                            .housePrice(reader.readNullableLong())
+                            .buildingPrice(reader.readNullableLong())
+                            .hotelPrice(reader.readNullableLong())
+                            .cellNumber((int) reader.readSignedVarLong())
+                            .ownerName(reader.readString())
+                            .toll(reader.readNullableLong())
+                            .buildingType(reader.readEnum(BUILDING_TYPES))
+                            .build());
+                }
+                gameMap.setCells(cells);
+            }
+            builder.currentMap(gameMap);
+        }
+        return builder.build();
+    }
+
+    // 배수는 보통 모든 칸이 같으므로 (반복 횟수, 값) 묶음으로 기록
+    private void writeOverlay(Writer writer, BoardOverlay overlay) {
+        writer.writeVarInt(overlay == null ? 0 : overlay.getOwnerIndex().length + 1);
+        if (overlay == null) {
+            return;
+        }
+        for (int owner : overlay.getOwnerIndex()) {
+            writer.writeSignedVarLong(owner);
+        }
+        for (byte level : overlay.getBuildingLevel()) {
+            writer.writeSignedVarLong(level);
+        }
+        writer.writeDoubleRuns(overlay.getLandMultiplier());
+        writer.writeDoubleRuns(overlay.getBuildMultiplier());
+    }
+
+    private BoardOverlay readOverlay(Reader reader) throws IOException {
+        int size = reader.readVarInt();
+        if (size == 0) {
+            return null;
+        }
+        int[] owners = new int[size - 1];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = (int) reader.readSignedVarLong();
+        }
+        byte[] levels = new byte[size - 1];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = (byte) reader.readSignedVarLong();
+        }
+        return new BoardOverlay(owners, levels, reader.readDoubleRuns(size - 1), reader.readDoubleRuns(size - 1));
+    }
+
+    /**
+     * 본문 바이트와 문자열 테이블을 함께 쌓는 쓰기 버퍼
+     */
+    private static final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeNullableLong(Long value) {
+            out.write(value == null ? 0 : 1);
+            if (value != null) {
+                writeSignedVarLong(value);
+            }
+        }
+
+        void writeNullableDouble(Double value) {
+            out.write(value == null ? 0 : 1);
+            if (value != null) {
+                long bits = Double.doubleToLongBits(value);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    out.write((int) (bits >>> shift));
+                }
+            }
+        }
+
+        void writeDoubleRuns(double[] values) {
+            int i = 0;
+            while (i < values.length) {
+                int run = 1;
+                while (i + run < values.length && Double.compare(values[i + run], values[i]) == 0) {
+                    run++;
+                }
+                writeVarInt(run);
+                writeNullableDouble(values[i]);
+                i += run;
+            }
+        }
+
+        // 0은 null, 그 외에는 문자열 테이블 인덱스 + 1
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer index = stringIndexes.get(value);
+            if (index == null) {
+                index = strings.size();
+                strings.add(value);
+                stringIndexes.put(value, index);
+            }
+            writeVarInt(index + 1);
+        }
+
+        void writeEnum(Enum<?> value) {
+            writeVarInt(value == null ? 0 : value.ordinal() + 1);
+        }
+
+        void writeStringList(List<String> values) {
+            writeVarInt(values == null ? 0 : values.size() + 1);
+            if (values != null) {
+                values.forEach(this::writeString);
+            }
+        }
+
+        void writeIntList(List<Integer> values) {
+            writeVarInt(values == null ? 0 : values.size() + 1);
+            if (values != null) {
+                for (Integer value : values) {
+                    writeSignedVarLong(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writer와 같은 순서로 읽는 버퍼
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+        private String[] strings;
+
+        Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        int readByte() throws EOFException {
+            if (position >= data.length) {
+                throw new EOFException("스냅샷이 예상보다 짧습니다.");
+            }
+            return data[position++] & 0xFF;
+        }
+
+        int take(int length) throws EOFException {
+            if (position + length > data.length) {
+                throw new EOFException("스냅샷이 예상보다 짧습니다.");
+            }
+            int start = position;
+            position += length;
+            return start;
+        }
+
+        int readVarInt() throws IOException {
+            return (int) readVarLong();
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("잘못된 varint 입니다.");
+        }
+
+        long readSignedVarLong() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        Long readNullableLong() throws IOException {
+            return readByte() == 0 ? null : readSignedVarLong();
+        }
+
+        Double readNullableDouble() throws IOException {
+            if (readByte() == 0) {
+                return null;
+            }
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | readByte();
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        double[] readDoubleRuns(int size) throws IOException {
+            double[] values = new double[size];
+            int i = 0;
+            while (i < size) {
+                int run = readVarInt();
+                Double value = readNullableDouble();
+                if (run <= 0 || i + run > size || value == null) {
+                    throw new IOException("잘못된 배수 묶음입니다.");
+                }
+                Arrays.fill(values, i, i + run, value);
+                i += run;
+            }
+            return values;
+        }
+
+        String readString() throws IOException {
+            int index = readVarInt();
+            return index == 0 ? null : strings[index - 1];
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+            int ordinal = readVarInt();
+            return ordinal == 0 ? null : values[ordinal - 1];
+        }
+
+        List<String> readStringList() throws IOException {
+            int size = readVarInt();
+            if (size == 0) {
+                return null;
+            }
+            List<String> values = new ArrayList<>(size - 1);
+            for (int i = 0; i < size - 1; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        List<Integer> readIntList() throws IOException {
+            int size = readVarInt();
+            if (size == 0) {
+                return null;
+            }
+            List<Integer> values = new ArrayList<>(size - 1);
+            for (int i = 0; i < size - 1; i++) {
+                values.add((int) readSignedVarLong());
+            }
+            return values;
+        }
+    }
+}
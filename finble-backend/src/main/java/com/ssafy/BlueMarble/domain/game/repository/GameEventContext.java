@@ -0,0 +1,39 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 현재 스레드에서 실행 중인 게임 액션 종류 (이벤트 로그에 기록할 이벤트 타입)
+ * - 요청 처리 시작 시 메시지 타입 등으로 지정하고, 지정되지 않은 저장은 UNKNOWN으로 기록합니다.
+ */
+public final class GameEventContext {
+
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private static final ThreadLocal<String> CURRENT_TYPE = new ThreadLocal<>();
+
+    private GameEventContext() {
+    }
+
+    public static String currentType() {
+        String type = CURRENT_TYPE.get();
+        return type != null ? type : UNKNOWN;
+    }
+
+    /**
+     * 이벤트 타입을 지정한 채로 작업 실행 (중첩 호출 시 바깥 타입을 복원)
+     */
+    public static <T> T call(String type, Callable<T> task) throws Exception {
+        String previous = CURRENT_TYPE.get();
+        CURRENT_TYPE.set(type);
+        try {
+            return task.call();
+        } finally {
+            if (previous != null) {
+                CURRENT_TYPE.set(previous);
+            } else {
+                CURRENT_TYPE.remove();
+            }
+        }
+    }
+}
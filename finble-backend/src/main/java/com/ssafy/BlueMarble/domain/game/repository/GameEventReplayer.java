@@ -0,0 +1,88 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 이벤트(스트림 항목) 생성과 스냅샷 + 이벤트 재생
+ * - 이벤트는 GameStateFields 기준으로 바뀐 필드만 담습니다.
+ *   _t = 이벤트 타입, _v = 이벤트 적용 후 버전, 그 외 필드는 "=값"(변경) 또는 "-"(삭제)
+ * - 재생은 스냅샷 버전 이후 이벤트를 버전 순서대로 적용하고, 중간 버전이 비어 있으면 실패(null)로 봅니다.
+ */
+public final class GameEventReplayer {
+
+    public static final String TYPE_FIELD = "_t";
+    public static final String VERSION_FIELD = "_v";
+
+    private static final String SET_MARK = "=";
+    private static final String DELETE_MARK = "-";
+
+    private GameEventReplayer() {
+    }
+
+    /**
+     * 필드 변경분으로 스트림에 추가할 이벤트 생성
+     */
+    public static Map<String, String> toEvent(String type, long version, Map<String, String> changes) {
+        Map<String, String> event = new LinkedHashMap<>();
+        event.put(TYPE_FIELD, type);
+        event.put(VERSION_FIELD, String.valueOf(version));
+        for (Map.Entry<String, String> change : changes.entrySet()) {
+            if (GameStateFields.VERSION.equals(change.getKey())) {
+                continue;
+            }
+            event.put(change.getKey(), change.getValue() != null ? SET_MARK + change.getValue() : DELETE_MARK);
+        }
+        return event;
+    }
+
+    public static long versionOf(Map<String, String> event) {
+        return Long.parseLong(event.get(VERSION_FIELD));
+    }
+
+    /**
+     * 스냅샷에 이후 이벤트를 순서대로 적용해 게임 상태 복원
+     * @param snapshot 마지막 스냅샷 (null이면 버전 0의 빈 상태에서 시작)
+     * @param events 스트림 순서의 이벤트 목록 (스냅샷 이전 이벤트는 건너뜀)
+     * @return 복원된 상태, 이벤트 버전이 이어지지 않으면 null
+     */
+    public static CreateMapPayload replay(CreateMapPayload snapshot, List<Map<String, String>> events) {
+        Map<String, String> fields = snapshot != null ? GameStateFields.flatten(snapshot) : new HashMap<>();
+        long version = snapshot != null && snapshot.getVersion() != null ? snapshot.getVersion() : 0L;
+        for (Map<String, String> event : events) {
+            long eventVersion = versionOf(event);
+            if (eventVersion <= version) {
+                continue;
+            }
+            if (eventVersion != version + 1) {
+                return null;
+            }
+            apply(fields, event);
+            version = eventVersion;
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+        fields.put(GameStateFields.VERSION, String.valueOf(version));
+        return GameStateFields.restore(fields);
+    }
+
+    private static void apply(Map<String, String> fields, Map<String, String> event) {
+        for (Map.Entry<String, String> entry : event.entrySet()) {
+            String field = entry.getKey();
+            if (TYPE_FIELD.equals(field) || VERSION_FIELD.equals(field)) {
+                continue;
+            }
+            String value = entry.getValue();
+            if (value.startsWith(SET_MARK)) {
+                fields.put(field, value.substring(SET_MARK.length()));
+            } else {
+                fields.remove(field);
+            }
+        }
+    }
+}
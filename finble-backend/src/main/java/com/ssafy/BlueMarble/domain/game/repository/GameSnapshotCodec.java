@@ -0,0 +1,31 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+
+import java.io.IOException;
+
+/**
+ * 게임 상태 스냅샷 직렬화 방식
+ * - 첫 바이트(헤더)로 형식을 구분하므로 서로 다른 형식의 스냅샷을 함께 읽을 수 있습니다.
+ * - JSON은 별도 헤더 없이 '{'로 시작하는 기존 값 그대로입니다.
+ */
+public interface GameSnapshotCodec {
+
+    byte FORMAT_JSON = '{';
+    byte FORMAT_BINARY = 0x01;
+    byte FORMAT_BINARY_DEFLATE = 0x02;
+
+    /**
+     * 설정값(game.state.codec)에 쓰이는 이름
+     */
+    String name();
+
+    /**
+     * 이 코덱이 만드는 스냅샷의 첫 바이트
+     */
+    byte format();
+
+    byte[] encode(CreateMapPayload state) throws IOException;
+
+    CreateMapPayload decode(byte[] data) throws IOException;
+}
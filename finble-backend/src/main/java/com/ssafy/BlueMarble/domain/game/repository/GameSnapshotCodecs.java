@@ -0,0 +1,54 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스냅샷 코덱 모음
+ * - 저장은 game.state.codec으로 지정한 코덱 하나로 하고,
+ *   읽을 때는 첫 바이트를 보고 알맞은 코덱을 고릅니다.
+ */
+@Component
+public class GameSnapshotCodecs {
+
+    private final Map<Byte, GameSnapshotCodec> codecsByFormat = new HashMap<>();
+    private final GameSnapshotCodec encoder;
+
+    public GameSnapshotCodecs(ObjectMapper objectMapper, @Value("${game.state.codec:json}") String codecName) {
+        List<GameSnapshotCodec> codecs = List.of(
+                new JsonSnapshotCodec(objectMapper),
+                new BinarySnapshotCodec(false),
+                new BinarySnapshotCodec(true));
+
+        GameSnapshotCodec selected = null;
+        for (GameSnapshotCodec codec : codecs) {
+            codecsByFormat.put(codec.format(), codec);
+            if (codec.name().equalsIgnoreCase(codecName)) {
+                selected = codec;
+            }
+        }
+        if (selected == null) {
+            throw new IllegalArgumentException("알 수 없는 게임 상태 코덱입니다: " + codecName);
+        }
+        this.encoder = selected;
+    }
+
+    public GameSnapshotCodec encoder() {
+        return encoder;
+    }
+
+    public CreateMapPayload decode(byte[] data) throws IOException {
+        GameSnapshotCodec codec = data.length > 0 ? codecsByFormat.get(data[0]) : null;
+        if (codec == null) {
+            throw new IOException("알 수 없는 스냅샷 형식입니다.");
+        }
+        return codec.decode(data);
+    }
+}
@@ -0,0 +1,267 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.ssafy.BlueMarble.domain.game.dto.BoardOverlay;
+import com.ssafy.BlueMarble.domain.game.dto.GameMap;
+import com.ssafy.BlueMarble.domain.game.entity.GameState;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 상태(CreateMapPayload)를 필드 단위의 평탄한 key/value로 변환하는 매퍼
+ * - meta.{필드}            : 턴, 현재 플레이어 인덱스, 경제 효과 등 방 단위 정보
+ * - player.{userId}.{필드} : 플레이어별 돈/위치/감옥 상태
+ * - tile.{칸번호}.{필드}    : 칸별 소유자/건물/가격 (게임 중 변경되는 값)
+ * - board.{칸번호}.{필드}   : 칸 이름/타입/설명 (게임 중 변경되지 않는 값)
+ * 보드 템플릿 시드가 있는 게임은 board.* 없이 tile.*에 오버레이(소유자 인덱스/건물 레벨/가격 배수)만 기록합니다.
+ * 값이 null인 필드는 포함하지 않습니다.
+ */
+public final class GameStateFields {
+
+    public static final String META = "meta.";
+    public static final String PLAYER = "player.";
+    public static final String TILE = "tile.";
+    public static final String BOARD = "board.";
+    public static final String VERSION = META + "version";
+
+    // 닉네임 목록 구분자 (닉네임에 등장하지 않는 제어 문자)
+    private static final String LIST_SEPARATOR = "\u001F";
+
+    private GameStateFields() {
+    }
+
+    public static Map<String, String> flatten(CreateMapPayload state) {
+        Map<String, String> fields = new LinkedHashMap<>();
+
+        put(fields, META + "roomId", state.getRoomId());
+        put(fields, META + "gameState", state.getGameState() != null ? state.getGameState().name() : null);
+        put(fields, META + "gameTurn", state.getGameTurn());
+        put(fields, META + "currentPlayerIndex", state.getCurrentPlayerIndex());
+        put(fields, META + "playerOrder", joinStrings(state.getPlayerOrder()));
+        put(fields, META + "economicPeriodName", state.getEconomicPeriodName());
+        put(fields, META + "economicEffectName", state.getEconomicEffectName());
+        put(fields, META + "economicDescription", state.getEconomicDescription());
+        put(fields, META + "economicFullName", state.getEconomicFullName());
+        put(fields, META + "salaryMultiplier", state.getSalaryMultiplier());
+        put(fields, META + "propertyPriceMultiplier", state.getPropertyPriceMultiplier());
+        put(fields, META + "buildingCostMultiplier", state.getBuildingCostMultiplier());
+        put(fields, META + "isBoom", state.isBoom());
+        put(fields, META + "remainingTurns", state.getRemainingTurns());
+        put(fields, VERSION, state.getVersion());
+        put(fields, META + "boardSeed", state.getBoardSeed());
+
+        if (state.getPlayers() != null) {
+            put(fields, META + "playerIds", joinStrings(new ArrayList<>(state.getPlayers().keySet())));
+            for (Map.Entry<String, CreateMapPayload.PlayerState> entry : state.getPlayers().entrySet()) {
+                String prefix = PLAYER + entry.getKey() + ".";
+                CreateMapPayload.PlayerState player = entry.getValue();
+                put(fields, prefix + "nickname", player.getNickname());
+                put(fields, prefix + "position", player.getPosition());
+                put(fields, prefix + "money", player.getMoney());
+                put(fields, prefix + "ownedProperties", joinInts(player.getOwnedProperties()));
+                put(fields, prefix + "inJail", player.isInJail());
+                put(fields, prefix + "jailTurns", player.getJailTurns());
+                put(fields, prefix + "active", player.isActive());
+            }
+        }
+
+        BoardOverlay overlay = state.getBoardOverlay();
+        if (overlay != null) {
+            put(fields, META + "cellCount", overlay.getOwnerIndex().length);
+            for (int i = 0; i < overlay.getOwnerIndex().length; i++) {
+                String tilePrefix = TILE + i + ".";
+                put(fields, tilePrefix + "ownerIndex", overlay.getOwnerIndex()[i]);
+                put(fields, tilePrefix + "buildingLevel", overlay.getBuildingLevel()[i]);
+                put(fields, tilePrefix + "landMultiplier", overlay.getLandMultiplier()[i]);
+                put(fields, tilePrefix + "buildMultiplier", overlay.getBuildMultiplier()[i]);
+            }
+        }
+
+        if (state.getCurrentMap() != null && state.getCurrentMap().getCells() != null) {
+            List<Tile> cells = state.getCurrentMap().getCells();
+            put(fields, META + "cellCount", cells.size());
+            for (int i = 0; i < cells.size(); i++) {
+                Tile tile = cells.get(i);
+                if (tile == null) {
+                    continue;
+                }
+                String tilePrefix = TILE + i + ".";
+                put(fields, tilePrefix + "ownerName", tile.getOwnerName());
+                put(fields, tilePrefix + "buildingType", tile.getBuildingType() != null ? tile.getBuildingType().name() : null);
+                put(fields, tilePrefix + "toll", tile.getToll());
+                put(fields, tilePrefix + "landPrice", tile.getLandPrice());
+                put(fields, tilePrefix + "housePrice", tile.getHousePrice());
+                put(fields, tilePrefix + "buildingPrice", tile.getBuildingPrice());
+                put(fields, tilePrefix + "hotelPrice", tile.getHotelPrice());
+
+                String boardPrefix = BOARD + i + ".";
+                put(fields, boardPrefix + "name", tile.getName());
+                put(fields, boardPrefix + "type", tile.getType() != null ? tile.getType().name() : null);
+                put(fields, boardPrefix + "description", tile.getDescription());
+            }
+        }
+        return fields;
+    }
+
+    public static CreateMapPayload restore(Map<String, String> fields) {
+        Map<String, CreateMapPayload.PlayerState> players = new LinkedHashMap<>();
+        for (String userId : splitStrings(fields.get(META + "playerIds"))) {
+            String prefix = PLAYER + userId + ".";
+            players.put(userId, CreateMapPayload.PlayerState.builder()
+                    .userId(userId)
+                    .nickname(fields.get(prefix + "nickname"))
+                    .position(parseInt(fields.get(prefix + "position")))
+                    .money(parseLong(fields.get(prefix + "money")))
+                    .ownedProperties(splitInts(fields.get(prefix + "ownedProperties")))
+                    .isInJail(Boolean.parseBoolean(fields.get(prefix + "inJail")))
+                    .jailTurns(parseInt(fields.get(prefix + "jailTurns")))
+                    .isActive(Boolean.parseBoolean(fields.get(prefix + "active")))
+                    .build());
+        }
+
+        GameMap gameMap = null;
+        BoardOverlay overlay = null;
+        Long boardSeed = parseLong(fields.get(META + "boardSeed"));
+        String cellCount = fields.get(META + "cellCount");
+        if (cellCount != null && boardSeed != null) {
+            int size = Integer.parseInt(cellCount);
+            overlay = BoardOverlay.initial(size);
+            for (int i = 0; i < size; i++) {
+                String tilePrefix = TILE + i + ".";
+                overlay.getOwnerIndex()[i] = parseInt(fields.get(tilePrefix + "ownerIndex"));
+                overlay.getBuildingLevel()[i] = (byte) parseInt(fields.get(tilePrefix + "buildingLevel"));
+                overlay.getLandMultiplier()[i] = Double.parseDouble(fields.get(tilePrefix + "landMultiplier"));
+                overlay.getBuildMultiplier()[i] = Double.parseDouble(fields.get(tilePrefix + "buildMultiplier"));
+            }
+        } else if (cellCount != null) {
+            int size = Integer.parseInt(cellCount);
+            List<Tile> cells = new ArrayList<>(Collections.nCopies(size, null));
+            for (int i = 0; i < size; i++) {
+                String boardPrefix = BOARD + i + ".";
+                String tilePrefix = TILE + i + ".";
+                String type = fields.get(boardPrefix + "type");
+                if (type == null) {
+                    continue;
+                }
+                Tile tile = Tile.builder()
+                        .name(fields.get(boardPrefix + "name"))
+                        .type(Tile.TileType.valueOf(type))
+                        .description(fields.get(boardPrefix + "description"))
+                        .landPrice(parseLong(fields.get(tilePrefix + "landPrice")))
+                        .housePrice(parseLong(fields.get(tilePrefix + "housePrice")))
+                        .buildingPrice(parseLong(fields.get(tilePrefix + "buildingPrice")))
+                        .hotelPrice(parseLong(fields.get(tilePrefix + "hotelPrice")))
+                        .build();
+                tile.setCellNumber(i);
+                tile.setOwnerName(fields.get(tilePrefix + "ownerName"));
+                tile.setToll(parseLong(fields.get(tilePrefix + "toll")));
+                String buildingType = fields.get(tilePrefix + "buildingType");
+                tile.setBuildingType(buildingType != null ? Tile.BuildingType.valueOf(buildingType) : null);
+                cells.set(i, tile);
+            }
+            gameMap = new GameMap();
+            gameMap.setCells(cells);
+        }
+
+        String gameState = fields.get(META + "gameState");
+        return CreateMapPayload.builder()
+                .roomId(fields.get(META + "roomId"))
+                .gameState(gameState != null ? GameState.valueOf(gameState) : null)
+                .currentMap(gameMap)
+                .gameTurn(parseLong(fields.get(META + "gameTurn")))
+                .playerOrder(splitStrings(fields.get(META + "playerOrder")))
+                .players(players)
+                .currentPlayerIndex(parseInt(fields.get(META + "currentPlayerIndex")))
+                .economicPeriodName(fields.get(META + "economicPeriodName"))
+                .economicEffectName(fields.get(META + "economicEffectName"))
+                .economicDescription(fields.get(META + "economicDescription"))
+                .economicFullName(fields.get(META + "economicFullName"))
+                .salaryMultiplier(parseDouble(fields.get(META + "salaryMultiplier")))
+                .propertyPriceMultiplier(parseDouble(fields.get(META + "propertyPriceMultiplier")))
+                .buildingCostMultiplier(parseDouble(fields.get(META + "buildingCostMultiplier")))
+                .isBoom(Boolean.parseBoolean(fields.get(META + "isBoom")))
+                .remainingTurns(parseInt(fields.get(META + "remainingTurns")))
+                .version(parseLong(fields.get(VERSION)))
+                .boardSeed(boardSeed)
+                .boardOverlay(overlay)
+                .build();
+    }
+
+    /**
+     * 이전 값과 비교해 바뀐 필드만 반환 (삭제된 필드는 값이 null)
+     */
+    public static Map<String, String> diff(Map<String, String> before, Map<String, String> after) {
+        Map<String, String> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                changed.put(key, null);
+            }
+        }
+        return changed;
+    }
+
+    private static void put(Map<String, String> fields, String key, Object value) {
+        if (value != null) {
+            fields.put(key, String.valueOf(value));
+        }
+    }
+
+    private static String joinStrings(List<String> values) {
+        return values == null ? null : String.join(LIST_SEPARATOR, values);
+    }
+
+    private static List<String> splitStrings(String value) {
+        if (value == null || value.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(value.split(LIST_SEPARATOR, -1)));
+    }
+
+    private static String joinInts(List<Integer> values) {
+        if (values == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Integer value : values) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    private static List<Integer> splitInts(String value) {
+        List<Integer> values = new ArrayList<>();
+        if (value == null || value.isEmpty()) {
+            return values;
+        }
+        for (String token : value.split(",")) {
+            values.add(Integer.parseInt(token));
+        }
+        return values;
+    }
+
+    private static int parseInt(String value) {
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    private static Long parseLong(String value) {
+        return value == null ? null : Long.parseLong(value);
+    }
+
+    private static Double parseDouble(String value) {
+        return value == null ? null : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+
+/**
+ * 방 게임 상태의 Redis 저장 방식(레이아웃)
+ * - prepare()는 상태를 변경하는 쪽과 같은 잠금 안에서 호출하고,
+ *   반환된 PreparedWrite.write()는 잠금 밖에서 호출해도 됩니다.
+ */
+public interface GameStateStore {
+
+    PreparedWrite prepare(String roomId, CreateMapPayload state);
+
+    CreateMapPayload load(String roomId);
+
+    void delete(String roomId);
+
+    boolean exists(String roomId);
+
+    void expire(String roomId);
+
+    default void save(String roomId, CreateMapPayload state) {
+        prepare(roomId, state).write();
+    }
+
+    /**
+     * 직렬화가 끝난 저장 작업
+     */
+    @FunctionalInterface
+    interface PreparedWrite {
+        void write();
+    }
+}
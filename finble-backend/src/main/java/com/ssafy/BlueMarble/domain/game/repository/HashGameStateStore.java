@@ -0,0 +1,294 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 게임 상태를 Redis Hash 여러 개로 나누어 저장하는 레이아웃
+ * - room:game:{roomId}:meta            턴, 현재 플레이어 인덱스, 경제 효과
+ * - room:game:{roomId}:player:{userId} 플레이어별 돈/위치/감옥 상태
+ * - room:game:{roomId}:tiles           칸별 소유자/건물/가격 ("{칸번호}.{필드}")
+ * - room:game:{roomId}:board           칸 이름/타입/설명 (게임 시작 시 한 번만 기록)
+ * 마지막으로 기록한 필드를 기억해 두고 바뀐 필드만 HSET/HDEL 합니다 (TTL 동안 기록이 없던 방은 잊음).
+ * 기억한 필드가 없으면 방의 Hash를 모두 지운 뒤 전체를 기록합니다 (null이 된 필드가 남지 않도록).
+ * meta의 version 필드가 읽었던 버전과 같을 때만 Lua 스크립트 안에서 한 번에 반영합니다 (CAS).
+ * 스냅샷 레이아웃(room:map:{roomId})으로 저장된 게임은 처음 읽을 때 Hash로 옮깁니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class HashGameStateStore implements GameStateStore {
+
+    private static final String GAME_KEY_PREFIX = "room:game:";
+
+    // KEYS[1]=meta, KEYS[2..]=방의 나머지 Hash / ARGV[1]=읽었던 버전, ARGV[2]=TTL,
+    // ARGV[3]=전체 기록 여부(1이면 먼저 모든 키 삭제), ARGV[4..]=(연산 S|D, 키 인덱스, 필드, 값) 묶음
+    private static final RedisScript<Long> COMPARE_AND_WRITE = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'version') or '0' "
+                    + "if current ~= ARGV[1] then return 0 end "
+                    + "if ARGV[3] == '1' then for i = 1, #KEYS do redis.call('DEL', KEYS[i]) end end "
+                    + "for i = 4, #ARGV, 4 do "
+                    + "  local key = KEYS[tonumber(ARGV[i + 1])] "
+                    + "  if ARGV[i] == 'S' then redis.call('HSET', key, ARGV[i + 2], ARGV[i + 3]) "
+                    + "  else redis.call('HDEL', key, ARGV[i + 2]) end "
+                    + "end "
+                    + "for i = 1, #KEYS do redis.call('EXPIRE', KEYS[i], ARGV[2]) end "
+                    + "return 1",
+            Long.class);
+
+    // 트랜잭션 지원이 켜진 redisTemplate은 @Transactional 안에서 스크립트 결과가 null이 되므로 사용하지 않음
+    private final StringRedisTemplate redisTemplate;
+    private final SnapshotGameStateStore snapshotGameStateStore;
+
+    // 방별로 마지막에 Redis에 기록된 필드 (변경분 계산용)
+    private final LastWrittenFields lastWritten = new LastWrittenFields();
+
+    @Override
+    public PreparedWrite prepare(String roomId, CreateMapPayload state) {
+        long expected = state.getVersion() != null ? state.getVersion() : 0L;
+        long next = expected + 1;
+        Map<String, String> fields = GameStateFields.flatten(state);
+        fields.put(GameStateFields.VERSION, String.valueOf(next));
+        Map<String, String> previous = lastWritten.get(roomId);
+        boolean full = previous == null;
+        Map<String, String> changes = full ? fields : GameStateFields.diff(previous, fields);
+        Set<String> playerIds = state.getPlayers() != null
+                ? new LinkedHashSet<>(state.getPlayers().keySet())
+                : new LinkedHashSet<>();
+
+        return () -> {
+            if (full) {
+                // 이미 나간 플레이어의 Hash도 함께 지우도록 Redis에 남은 플레이어 목록을 더함
+                playerIds.addAll(knownPlayerIds(roomId));
+            }
+            if (!write(roomId, expected, full, changes, playerIds)) {
+                // 다른 요청이 먼저 저장했으므로 마지막 기록 기준도 더 이상 믿을 수 없음
+                lastWritten.remove(roomId);
+                log.warn("게임 맵 상태 버전 충돌(hash): roomId={}, expectedVersion={}", roomId, expected);
+                throw new GameStateConflictException(roomId);
+            }
+            state.setVersion(next);
+            lastWritten.put(roomId, fields);
+            log.info("게임 맵 상태 저장 완료(hash): roomId={}, version={}, changedFields={}",
+                    roomId, next, changes.size());
+        };
+    }
+
+    @Override
+    public CreateMapPayload load(String roomId) {
+        Map<Object, Object> meta = redisTemplate.opsForHash().entries(metaKey(roomId));
+        if (meta.isEmpty()) {
+            return migrateLegacy(roomId);
+        }
+        return loadHash(roomId, meta);
+    }
+
+    private CreateMapPayload loadHash(String roomId, Map<Object, Object> meta) {
+        Map<String, String> fields = new HashMap<>();
+        meta.forEach((field, value) -> fields.put(GameStateFields.META + field, (String) value));
+
+        List<String> playerIds = new ArrayList<>();
+        String joinedIds = fields.get(GameStateFields.META + "playerIds");
+        if (joinedIds != null && !joinedIds.isEmpty()) {
+            playerIds.addAll(GameStateFields.restore(Map.of(GameStateFields.META + "playerIds", joinedIds))
+                    .getPlayers().keySet());
+        }
+
+        List<Object> results = pipelined(ops -> {
+            ops.opsForHash().entries(tilesKey(roomId));
+            ops.opsForHash().entries(boardKey(roomId));
+            for (String userId : playerIds) {
+                ops.opsForHash().entries(playerKey(roomId, userId));
+            }
+        });
+
+        putAll(fields, GameStateFields.TILE, results.get(0));
+        putAll(fields, GameStateFields.BOARD, results.get(1));
+        for (int i = 0; i < playerIds.size(); i++) {
+            putAll(fields, GameStateFields.PLAYER + playerIds.get(i) + ".", results.get(i + 2));
+        }
+
+        lastWritten.put(roomId, fields);
+        return GameStateFields.restore(fields);
+    }
+
+    @Override
+    public void delete(String roomId) {
+        Set<String> keys = new LinkedHashSet<>(roomKeys(roomId, knownPlayerIds(roomId)));
+        redisTemplate.delete(keys);
+        snapshotGameStateStore.delete(roomId);
+        lastWritten.remove(roomId);
+    }
+
+    /**
+     * 게임 상태 TTL 동안 기록이 없던 방의 변경분 기준을 정리 (Redis 키는 이미 만료됨)
+     */
+    @Scheduled(fixedDelayString = "${game.state.last-written.sweep-ms:60000}")
+    public void evictIdleRooms() {
+        int evicted = lastWritten.evictIdle(TimeUnit.SECONDS.toMillis(SnapshotGameStateStore.GAME_STATE_TTL));
+        if (evicted > 0) {
+            log.debug("유휴 방의 변경분 기준 정리(hash): rooms={}", evicted);
+        }
+    }
+
+    @Override
+    public boolean exists(String roomId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(metaKey(roomId))) || snapshotGameStateStore.exists(roomId);
+    }
+
+    @Override
+    public void expire(String roomId) {
+        List<String> keys = roomKeys(roomId, knownPlayerIds(roomId));
+        pipelined(ops -> keys.forEach(key -> ops.expire(key, SnapshotGameStateStore.GAME_STATE_TTL, TimeUnit.SECONDS)));
+    }
+
+    /**
+     * 스냅샷 레이아웃으로 저장된 진행 중 게임을 읽어 Hash 레이아웃으로 옮김
+     */
+    private CreateMapPayload migrateLegacy(String roomId) {
+        CreateMapPayload legacy = snapshotGameStateStore.load(roomId);
+        if (legacy == null) {
+            return null;
+        }
+        // Hash 레이아웃의 버전은 새로 시작
+        legacy.setVersion(null);
+        try {
+            save(roomId, legacy);
+        } catch (GameStateConflictException e) {
+            // 다른 서버가 먼저 옮기고 저장까지 했으므로 Hash 레이아웃을 다시 읽음
+            log.info("다른 요청이 먼저 Hash 레이아웃으로 이전함: roomId={}", roomId);
+            Map<Object, Object> meta = redisTemplate.opsForHash().entries(metaKey(roomId));
+            return meta.isEmpty() ? null : loadHash(roomId, meta);
+        }
+        snapshotGameStateStore.delete(roomId);
+        log.info("스냅샷 게임 상태를 Hash 레이아웃으로 이전: roomId={}", roomId);
+        return legacy;
+    }
+
+    private boolean write(String roomId, long expected, boolean full, Map<String, String> changes,
+                          Set<String> playerIds) {
+        List<String> keys = roomKeys(roomId, playerIds);
+        Map<String, Integer> keyIndexes = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            keyIndexes.put(keys.get(i), i + 1);
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(expected));
+        args.add(String.valueOf(SnapshotGameStateStore.GAME_STATE_TTL));
+        args.add(full ? "1" : "0");
+        for (Map.Entry<String, String> change : changes.entrySet()) {
+            String[] target = toHashField(roomId, change.getKey());
+            Integer keyIndex = keyIndexes.get(target[0]);
+            if (keyIndex == null) {
+                // 이미 나간 플레이어의 Hash 등 목록에 없는 키
+                keys.add(target[0]);
+                keyIndex = keys.size();
+                keyIndexes.put(target[0], keyIndex);
+            }
+            args.add(change.getValue() != null ? "S" : "D");
+            args.add(String.valueOf(keyIndex));
+            args.add(target[1]);
+            args.add(change.getValue() != null ? change.getValue() : "");
+        }
+
+        Long result = redisTemplate.execute(COMPARE_AND_WRITE, keys, args.toArray());
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 평탄화된 필드 이름을 (Redis 키, Hash 필드)로 변환
+     */
+    private String[] toHashField(String roomId, String field) {
+        if (field.startsWith(GameStateFields.META)) {
+            return new String[]{metaKey(roomId), field.substring(GameStateFields.META.length())};
+        }
+        if (field.startsWith(GameStateFields.TILE)) {
+            return new String[]{tilesKey(roomId), field.substring(GameStateFields.TILE.length())};
+        }
+        if (field.startsWith(GameStateFields.BOARD)) {
+            return new String[]{boardKey(roomId), field.substring(GameStateFields.BOARD.length())};
+        }
+        String rest = field.substring(GameStateFields.PLAYER.length());
+        int dot = rest.lastIndexOf('.');
+        return new String[]{playerKey(roomId, rest.substring(0, dot)), rest.substring(dot + 1)};
+    }
+
+    private Set<String> knownPlayerIds(String roomId) {
+        Set<String> playerIds = new LinkedHashSet<>();
+        Map<String, String> fields = lastWritten.get(roomId);
+        String joinedIds = fields != null ? fields.get(GameStateFields.META + "playerIds") : null;
+        if (joinedIds == null) {
+            joinedIds = (String) redisTemplate.opsForHash().get(metaKey(roomId), "playerIds");
+        }
+        if (joinedIds != null && !joinedIds.isEmpty()) {
+            playerIds.addAll(GameStateFields.restore(Map.of(GameStateFields.META + "playerIds", joinedIds))
+                    .getPlayers().keySet());
+        }
+        return playerIds;
+    }
+
+    private List<String> roomKeys(String roomId, Set<String> playerIds) {
+        List<String> keys = new ArrayList<>();
+        keys.add(metaKey(roomId));
+        keys.add(tilesKey(roomId));
+        keys.add(boardKey(roomId));
+        for (String userId : playerIds) {
+            keys.add(playerKey(roomId, userId));
+        }
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void putAll(Map<String, String> fields, String prefix, Object hash) {
+        if (hash instanceof Map<?, ?> entries) {
+            ((Map<Object, Object>) entries).forEach((field, value) -> fields.put(prefix + field, (String) value));
+        }
+    }
+
+    private List<Object> pipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private String metaKey(String roomId) {
+        return GAME_KEY_PREFIX + roomId + ":meta";
+    }
+
+    private String tilesKey(String roomId) {
+        return GAME_KEY_PREFIX + roomId + ":tiles";
+    }
+
+    private String boardKey(String roomId) {
+        return GAME_KEY_PREFIX + roomId + ":board";
+    }
+
+    private String playerKey(String roomId, String userId) {
+        return GAME_KEY_PREFIX + roomId + ":player:" + userId;
+    }
+}
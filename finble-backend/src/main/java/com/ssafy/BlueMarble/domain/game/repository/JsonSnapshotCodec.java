@@ -0,0 +1,36 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * 기존과 같은 Jackson JSON 스냅샷
+ */
+@RequiredArgsConstructor
+public class JsonSnapshotCodec implements GameSnapshotCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public byte format() {
+        return FORMAT_JSON;
+    }
+
+    @Override
+    public byte[] encode(CreateMapPayload state) throws IOException {
+        return objectMapper.writeValueAsBytes(state);
+    }
+
+    @Override
+    public CreateMapPayload decode(byte[] data) throws IOException {
+        return objectMapper.readValue(data, CreateMapPayload.class);
+    }
+}
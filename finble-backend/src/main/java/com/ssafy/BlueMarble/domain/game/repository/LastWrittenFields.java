@@ -0,0 +1,59 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 방별로 마지막에 Redis에 기록한 필드 (변경분 계산용)
+ * - 기준이 없으면 저장소가 다음 load에서 다시 채우거나 전체를 기록하므로, 언제 버려도 결과는 같습니다.
+ * - 방 삭제 없이 Redis 키만 TTL로 만료된 방도 남지 않도록, 일정 시간 기록이 없던 방은 evictIdle로 정리합니다.
+ */
+final class LastWrittenFields {
+
+    private record Entry(Map<String, String> fields, long writtenAt) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    LastWrittenFields() {
+        this(System::currentTimeMillis);
+    }
+
+    LastWrittenFields(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    Map<String, String> get(String roomId) {
+        Entry entry = entries.get(roomId);
+        return entry != null ? entry.fields() : null;
+    }
+
+    void put(String roomId, Map<String, String> fields) {
+        entries.put(roomId, new Entry(fields, clock.getAsLong()));
+    }
+
+    void remove(String roomId) {
+        entries.remove(roomId);
+    }
+
+    /**
+     * idleMillis보다 오래 기록이 없던 방을 정리하고 정리한 방 수를 반환
+     */
+    int evictIdle(long idleMillis) {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            // 확인한 뒤에 새로 기록된 방은 지우지 않음
+            if (now - entry.getValue().writtenAt() > idleMillis && entries.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 상태 전체를 스냅샷 하나로 room:map:{roomId}에 저장하는 레이아웃
+ * - 스냅샷 형식은 GameSnapshotCodecs가 정하며, 기존 JSON 값도 그대로 읽습니다.
+ * - 버전은 room:map:{roomId}:version에 따로 두고, 읽었던 버전과 같을 때만 저장합니다 (CAS).
+ */
+@Slf4j
+@Repository
+public class SnapshotGameStateStore implements GameStateStore {
+
+    public static final String GAME_MAP_PREFIX = "room:map:";
+    public static final String VERSION_SUFFIX = ":version";
+    public static final int GAME_STATE_TTL = 1800;
+
+    // KEYS[1]=상태, KEYS[2]=버전 / ARGV[1]=읽었던 버전, ARGV[2]=새 버전, ARGV[3]=스냅샷, ARGV[4]=TTL
+    private static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[2]) or '0' "
+                    + "if current ~= ARGV[1] then return 0 end "
+                    + "redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[4]) "
+                    + "redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[4]) "
+                    + "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, byte[]> redisBytesTemplate;
+    private final GameSnapshotCodecs codecs;
+
+    public SnapshotGameStateStore(@Qualifier("redisBytesTemplate") RedisTemplate<String, byte[]> redisBytesTemplate,
+                                  GameSnapshotCodecs codecs) {
+        this.redisBytesTemplate = redisBytesTemplate;
+        this.codecs = codecs;
+    }
+
+    @Override
+    public PreparedWrite prepare(String roomId, CreateMapPayload state) {
+        String key = GAME_MAP_PREFIX + roomId;
+        Long current = state.getVersion();
+        long expected = current != null ? current : 0L;
+        long next = expected + 1;
+        byte[] value;
+        try {
+            // 스냅샷에는 저장 성공 후의 버전을 기록
+            state.setVersion(next);
+            value = codecs.encoder().encode(state);
+        } catch (IOException e) {
+            log.error("게임 맵 상태 저장 실패: roomId={}", roomId, e);
+            return () -> { };
+        } finally {
+            state.setVersion(current);
+        }
+
+        return () -> {
+            Long result = redisBytesTemplate.execute(COMPARE_AND_SET, List.of(key, key + VERSION_SUFFIX),
+                    bytes(expected), bytes(next), value, bytes(GAME_STATE_TTL));
+            if (result == null || result == 0L) {
+                log.warn("게임 맵 상태 버전 충돌: roomId={}, expectedVersion={}", roomId, expected);
+                throw new GameStateConflictException(roomId);
+            }
+            state.setVersion(next);
+            log.info("게임 맵 상태 저장 완료: roomId={}, version={}, codec={}, bytes={}",
+                    roomId, next, codecs.encoder().name(), value.length);
+        };
+    }
+
+    @Override
+    public CreateMapPayload load(String roomId) {
+        try {
+            byte[] value = redisBytesTemplate.opsForValue().get(GAME_MAP_PREFIX + roomId);
+            if (value != null) {
+                return codecs.decode(value);
+            }
+        } catch (IOException e) {
+            log.error("게임 맵 상태 조회 실패: roomId={}", roomId, e);
+        }
+        return null;
+    }
+
+    @Override
+    public void delete(String roomId) {
+        redisBytesTemplate.delete(List.of(GAME_MAP_PREFIX + roomId, GAME_MAP_PREFIX + roomId + VERSION_SUFFIX));
+    }
+
+    @Override
+    public boolean exists(String roomId) {
+        return Boolean.TRUE.equals(redisBytesTemplate.hasKey(GAME_MAP_PREFIX + roomId));
+    }
+
+    @Override
+    public void expire(String roomId) {
+        redisBytesTemplate.expire(GAME_MAP_PREFIX + roomId, GAME_STATE_TTL, TimeUnit.SECONDS);
+        redisBytesTemplate.expire(GAME_MAP_PREFIX + roomId + VERSION_SUFFIX, GAME_STATE_TTL, TimeUnit.SECONDS);
+    }
+
+    private static byte[] bytes(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,251 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 액션을 방별 Redis Stream에 이벤트로 쌓는 레이아웃
+ * - room:events:{roomId}          바뀐 필드만 담은 이벤트 (GameEventReplayer 형식)
+ * - room:events:{roomId}:snapshot N개 이벤트마다 기록하는 전체 스냅샷 (GameSnapshotCodecs 형식)
+ * - room:events:{roomId}:version  마지막 이벤트 버전 (CAS 기준)
+ * 저장은 스냅샷 전체를 다시 쓰지 않고 이벤트 하나만 추가하며, 읽을 때 스냅샷 + 이후 이벤트를 재생합니다.
+ * 변경분 기준으로 기억하는 마지막 기록 필드는 TTL 동안 기록이 없던 방부터 잊습니다.
+ * 스냅샷 레이아웃(room:map:{roomId})으로 저장된 게임은 처음 읽을 때 이 레이아웃으로 옮깁니다.
+ */
+@Slf4j
+@Repository
+public class StreamGameStateStore implements GameStateStore {
+
+    private static final String EVENTS_PREFIX = "room:events:";
+    private static final String SNAPSHOT_SUFFIX = ":snapshot";
+    private static final String VERSION_SUFFIX = ":version";
+
+    // 스냅샷과 이벤트를 따로 읽는 사이에 스냅샷이 바뀌어 버전이 끊기면 다시 읽음
+    private static final int MAX_READ_ATTEMPTS = 3;
+
+    // KEYS[1]=스트림, KEYS[2]=버전, KEYS[3]=스냅샷 / ARGV[1]=읽었던 버전, ARGV[2]=새 버전, ARGV[3]=TTL,
+    // ARGV[4]=스냅샷(없으면 빈 값), ARGV[5]=스냅샷 후 남길 대략적인 이벤트 수, ARGV[6..]=이벤트 필드/값
+    private static final RedisScript<Long> COMPARE_AND_APPEND = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[2]) or '0' "
+                    + "if current ~= ARGV[1] then return 0 end "
+                    + "redis.call('XADD', KEYS[1], '*', unpack(ARGV, 6)) "
+                    + "redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3]) "
+                    + "if #ARGV[4] > 0 then "
+                    + "  redis.call('SET', KEYS[3], ARGV[4], 'EX', ARGV[3]) "
+                    + "  redis.call('XTRIM', KEYS[1], 'MAXLEN', '~', ARGV[5]) "
+                    + "end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+                    + "redis.call('EXPIRE', KEYS[3], ARGV[3]) "
+                    + "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, byte[]> redisBytesTemplate;
+    private final GameSnapshotCodecs codecs;
+    private final SnapshotGameStateStore snapshotGameStateStore;
+
+    // 방별로 마지막에 기록된 필드 (이벤트 변경분 계산용)
+    private final LastWrittenFields lastWritten = new LastWrittenFields();
+
+    // 이 개수의 이벤트마다 스냅샷 기록
+    @Value("${game.state.stream.snapshot-every:50}")
+    private int snapshotEvery;
+
+    public StreamGameStateStore(@Qualifier("redisBytesTemplate") RedisTemplate<String, byte[]> redisBytesTemplate,
+                                GameSnapshotCodecs codecs,
+                                SnapshotGameStateStore snapshotGameStateStore) {
+        this.redisBytesTemplate = redisBytesTemplate;
+        this.codecs = codecs;
+        this.snapshotGameStateStore = snapshotGameStateStore;
+    }
+
+    @Override
+    public PreparedWrite prepare(String roomId, CreateMapPayload state) {
+        Long current = state.getVersion();
+        long expected = current != null ? current : 0L;
+        long next = expected + 1;
+        String type = GameEventContext.currentType();
+
+        Map<String, String> fields = GameStateFields.flatten(state);
+        fields.put(GameStateFields.VERSION, String.valueOf(next));
+        Map<String, String> previous = lastWritten.get(roomId);
+
+        // 변경분 기준이 없거나 주기가 되면 전체 스냅샷을 함께 기록
+        byte[] snapshot = new byte[0];
+        Map<String, String> changes = Map.of();
+        if (previous == null || next % Math.max(1, snapshotEvery) == 0) {
+            try {
+                state.setVersion(next);
+                snapshot = codecs.encoder().encode(state);
+            } catch (IOException e) {
+                log.error("게임 상태 스냅샷 인코딩 실패: roomId={}", roomId, e);
+                return () -> { };
+            } finally {
+                state.setVersion(current);
+            }
+        }
+        if (previous != null) {
+            changes = GameStateFields.diff(previous, fields);
+        }
+        Map<String, String> event = GameEventReplayer.toEvent(type, next, changes);
+        byte[] snapshotValue = snapshot;
+
+        return () -> {
+            if (!append(roomId, expected, next, snapshotValue, event)) {
+                lastWritten.remove(roomId);
+                log.warn("게임 맵 상태 버전 충돌(stream): roomId={}, expectedVersion={}", roomId, expected);
+                throw new GameStateConflictException(roomId);
+            }
+            state.setVersion(next);
+            lastWritten.put(roomId, fields);
+            log.info("게임 이벤트 기록 완료: roomId={}, version={}, type={}, changedFields={}, snapshotBytes={}",
+                    roomId, next, type, event.size() - 2, snapshotValue.length);
+        };
+    }
+
+    @Override
+    public CreateMapPayload load(String roomId) {
+        for (int attempt = 1; attempt <= MAX_READ_ATTEMPTS; attempt++) {
+            byte[] value = redisBytesTemplate.opsForValue().get(snapshotKey(roomId));
+            if (value == null) {
+                return migrateLegacy(roomId);
+            }
+            CreateMapPayload snapshot;
+            try {
+                snapshot = codecs.decode(value);
+            } catch (IOException e) {
+                log.error("게임 상태 스냅샷 조회 실패: roomId={}", roomId, e);
+                return null;
+            }
+
+            CreateMapPayload state = GameEventReplayer.replay(snapshot, readEvents(roomId));
+            if (state != null) {
+                lastWritten.put(roomId, GameStateFields.flatten(state));
+                return state;
+            }
+            log.warn("게임 이벤트 버전이 이어지지 않아 다시 읽음: roomId={}, snapshotVersion={}, attempt={}",
+                    roomId, snapshot.getVersion(), attempt);
+        }
+        log.error("게임 이벤트 재생 실패: roomId={}", roomId);
+        return null;
+    }
+
+    /**
+     * 방에 남아 있는 이벤트 목록 (오래된 순)
+     */
+    public List<Map<String, String>> readEvents(String roomId) {
+        List<MapRecord<String, Object, Object>> records = redisBytesTemplate.opsForStream()
+                .range(eventsKey(roomId), Range.unbounded());
+        List<Map<String, String>> events = new ArrayList<>();
+        if (records == null) {
+            return events;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<String, String> event = new LinkedHashMap<>();
+            record.getValue().forEach((field, value) -> event.put((String) field, string(value)));
+            events.add(event);
+        }
+        return events;
+    }
+
+    @Override
+    public void delete(String roomId) {
+        redisBytesTemplate.delete(List.of(eventsKey(roomId), snapshotKey(roomId), versionKey(roomId)));
+        snapshotGameStateStore.delete(roomId);
+        lastWritten.remove(roomId);
+    }
+
+    /**
+     * 게임 상태 TTL 동안 기록이 없던 방의 변경분 기준을 정리 (Redis 키는 이미 만료됨)
+     */
+    @Scheduled(fixedDelayString = "${game.state.last-written.sweep-ms:60000}")
+    public void evictIdleRooms() {
+        int evicted = lastWritten.evictIdle(TimeUnit.SECONDS.toMillis(SnapshotGameStateStore.GAME_STATE_TTL));
+        if (evicted > 0) {
+            log.debug("유휴 방의 변경분 기준 정리(stream): rooms={}", evicted);
+        }
+    }
+
+    @Override
+    public boolean exists(String roomId) {
+        return Boolean.TRUE.equals(redisBytesTemplate.hasKey(snapshotKey(roomId))) || snapshotGameStateStore.exists(roomId);
+    }
+
+    @Override
+    public void expire(String roomId) {
+        for (String key : List.of(eventsKey(roomId), snapshotKey(roomId), versionKey(roomId))) {
+            redisBytesTemplate.expire(key, SnapshotGameStateStore.GAME_STATE_TTL, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 스냅샷 레이아웃으로 저장된 진행 중 게임을 읽어 이벤트 레이아웃으로 옮김
+     */
+    private CreateMapPayload migrateLegacy(String roomId) {
+        CreateMapPayload legacy = snapshotGameStateStore.load(roomId);
+        if (legacy == null) {
+            return null;
+        }
+        // 이벤트 레이아웃의 버전은 새로 시작
+        legacy.setVersion(null);
+        lastWritten.remove(roomId);
+        save(roomId, legacy);
+        snapshotGameStateStore.delete(roomId);
+        log.info("스냅샷 게임 상태를 이벤트 레이아웃으로 이전: roomId={}", roomId);
+        return legacy;
+    }
+
+    private boolean append(String roomId, long expected, long next, byte[] snapshot, Map<String, String> event) {
+        List<byte[]> args = new ArrayList<>();
+        args.add(bytes(String.valueOf(expected)));
+        args.add(bytes(String.valueOf(next)));
+        args.add(bytes(String.valueOf(SnapshotGameStateStore.GAME_STATE_TTL)));
+        args.add(snapshot);
+        args.add(bytes(String.valueOf(Math.max(1, snapshotEvery) * 2)));
+        event.forEach((field, value) -> {
+            args.add(bytes(field));
+            args.add(bytes(value));
+        });
+
+        Long result = redisBytesTemplate.execute(COMPARE_AND_APPEND,
+                List.of(eventsKey(roomId), versionKey(roomId), snapshotKey(roomId)), args.toArray());
+        return result != null && result == 1L;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(Object value) {
+        return value instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private String eventsKey(String roomId) {
+        return EVENTS_PREFIX + roomId;
+    }
+
+    private String snapshotKey(String roomId) {
+        return EVENTS_PREFIX + roomId + SNAPSHOT_SUFFIX;
+    }
+
+    private String versionKey(String roomId) {
+        return EVENTS_PREFIX + roomId + VERSION_SUFFIX;
+    }
+}
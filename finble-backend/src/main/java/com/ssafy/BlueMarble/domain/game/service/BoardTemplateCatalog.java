@@ -0,0 +1,218 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.game.dto.BoardOverlay;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
+import com.ssafy.BlueMarble.domain.game.dto.BoardTemplate;
+import com.ssafy.BlueMarble.domain.game.dto.GameMap;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.domain.game.repository.TileRepository;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 보드 배치 시드별 불변 템플릿 캐시
+ * - 이벤트 칸은 고정 위치, 도시 칸은 DB 타일을 id 순으로 정렬한 뒤 시드로 섞어 배치합니다.
+ * - 같은 시드를 쓰는 방들은 같은 템플릿 인스턴스를 공유합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardTemplateCatalog {
+
+    private static final int MAP_SIZE = 32;
+
+    // 이벤트 칸 위치와 타입을 매핑하는 Map (위치 -> 칸 정보)
+    private static final Map<Integer, BoardTemplate.Cell> EVENT_CELLS;
+
+    static {
+        Map<Integer, BoardTemplate.Cell> cells = new HashMap<>();
+        cells.put(0, new BoardTemplate.Cell("시작", Tile.TileType.START, "지나가거나 도착하면 월급 받음", 0L, 0L, 0L, 0L));
+        cells.put(3, new BoardTemplate.Cell("찬스", Tile.TileType.CHANCE, "찬스카드 뽑기", 0L, 0L, 0L, 0L));
+        cells.put(5, new BoardTemplate.Cell("광주", Tile.TileType.SPECIAL, "싸피특별땅 - 건설 불가", 2000000L, 0L, 0L, 0L));
+        cells.put(8, new BoardTemplate.Cell("감옥", Tile.TileType.JAIL, "3턴간 이동 불가, 보석금으로 탈출 가능", 0L, 0L, 0L, 0L));
+        cells.put(11, new BoardTemplate.Cell("찬스", Tile.TileType.CHANCE, "찬스카드 뽑기", 0L, 0L, 0L, 0L));
+        cells.put(13, new BoardTemplate.Cell("대전", Tile.TileType.SPECIAL, "싸피특별땅 - 건설 불가", 3000000L, 0L, 0L, 0L));
+        cells.put(16, new BoardTemplate.Cell("세계여행", Tile.TileType.AIRPLANE, "일정 금액 지불하고 원하는 땅으로 이동", 0L, 0L, 0L, 0L));
+        cells.put(19, new BoardTemplate.Cell("찬스", Tile.TileType.CHANCE, "찬스카드 뽑기", 0L, 0L, 0L, 0L));
+        cells.put(21, new BoardTemplate.Cell("구미", Tile.TileType.SPECIAL, "싸피특별땅 - 건설 불가", 4000000L, 0L, 0L, 0L));
+        cells.put(24, new BoardTemplate.Cell("국세청", Tile.TileType.NTS, "일정 금액을 납부", 0L, 0L, 0L, 0L));
+        cells.put(27, new BoardTemplate.Cell("찬스", Tile.TileType.CHANCE, "찬스카드 뽑기", 0L, 0L, 0L, 0L));
+        cells.put(28, new BoardTemplate.Cell("부산", Tile.TileType.SPECIAL, "싸피특별땅 - 건설 불가", 5000000L, 0L, 0L, 0L));
+        cells.put(31, new BoardTemplate.Cell("서울", Tile.TileType.SPECIAL, "싸피특별땅 - 건설 불가", 6000000L, 0L, 0L, 0L));
+        EVENT_CELLS = Collections.unmodifiableMap(cells);
+    }
+
+    private static final Tile.BuildingType[] BUILDING_TYPES = Tile.BuildingType.values();
+
+    private final TileRepository tileRepository;
+
+    private final Map<Long, BoardTemplate> templates = new ConcurrentHashMap<>();
+    private volatile List<Tile> cityTiles;
+
+    // 서로 다른 보드 배치 수 (방들은 이 중 하나의 템플릿을 공유, 템플릿 캐시도 최대 이 개수까지 커짐)
+    @Value("${game.board.layout-count:4096}")
+    private int layoutCount;
+
+    /**
+     * 새 게임에 쓸 보드 배치 시드 선택
+     */
+    public long newBoardSeed() {
+        return ThreadLocalRandom.current().nextInt(Math.max(1, layoutCount));
+    }
+
+    public BoardTemplate getTemplate(long seed) {
+        return templates.computeIfAbsent(seed, this::buildTemplate);
+    }
+
+    /**
+     * 템플릿과 오버레이로 클라이언트/게임 로직용 GameMap 생성
+     */
+    public GameMap createMap(BoardTemplate template, BoardOverlay overlay, List<String> playerOrder) {
+        List<Tile> cells = new ArrayList<>(template.size());
+        for (int i = 0; i < template.size(); i++) {
+            BoardTemplate.Cell cell = template.getCell(i);
+            if (cell == null) {
+                cells.add(null);
+                continue;
+            }
+            int owner = overlay.getOwnerIndex()[i];
+            byte level = overlay.getBuildingLevel()[i];
+            boolean affected = cell.getType() == Tile.TileType.NORMAL;
+            double land = affected ? overlay.getLandMultiplier()[i] : 1.0;
+            double build = affected ? overlay.getBuildMultiplier()[i] : 1.0;
+
+            Tile tile = Tile.builder()
+                    .name(cell.getName())
+                    .type(cell.getType())
+                    .description(cell.getDescription())
+                    .landPrice(price(cell.getLandPrice(), land))
+                    .housePrice(price(cell.getHousePrice(), build))
+                    .buildingPrice(price(cell.getBuildingPrice(), build))
+                    .hotelPrice(price(cell.getHotelPrice(), build))
+                    .build();
+            tile.setCellNumber(i);
+            tile.setOwnerName(owner >= 0 && playerOrder != null && owner < playerOrder.size()
+                    ? playerOrder.get(owner) : null);
+            tile.setToll(cell.getLandPrice());
+            tile.setBuildingType(level >= 0 ? BUILDING_TYPES[level] : null);
+            cells.add(tile);
+        }
+        GameMap gameMap = new GameMap();
+        gameMap.setCells(cells);
+        return gameMap;
+    }
+
+    /**
+     * 저장용 사본 생성: 현재 소유자/건물을 오버레이에 반영하고 칸 목록(currentMap)은 제외
+     * - 시드가 없는 기존 게임은 그대로 반환합니다.
+     */
+    public CreateMapPayload compact(CreateMapPayload state) {
+        if (state.getBoardSeed() == null || state.getBoardOverlay() == null || state.getCurrentMap() == null) {
+            return state;
+        }
+        BoardOverlay overlay = state.getBoardOverlay();
+        List<Tile> cells = state.getCurrentMap().getCells();
+        List<String> playerOrder = state.getPlayerOrder();
+        for (int i = 0; i < cells.size(); i++) {
+            Tile tile = cells.get(i);
+            if (tile == null) {
+                continue;
+            }
+            int owner = BoardOverlay.NO_OWNER;
+            if (tile.getOwnerName() != null) {
+                owner = playerOrder != null ? playerOrder.indexOf(tile.getOwnerName()) : BoardOverlay.NO_OWNER;
+                if (owner < 0) {
+                    log.warn("플레이어 순서에 없는 소유자: roomId={}, cell={}, owner={}",
+                            state.getRoomId(), i, tile.getOwnerName());
+                }
+            }
+            overlay.getOwnerIndex()[i] = owner;
+            overlay.getBuildingLevel()[i] = tile.getBuildingType() != null
+                    ? (byte) tile.getBuildingType().ordinal() : BoardOverlay.NO_BUILDING;
+        }
+        return state.toBuilder().currentMap(null).build();
+    }
+
+    /**
+     * 저장된 사본의 칸 목록(currentMap)을 템플릿과 오버레이로 다시 채움
+     */
+    public CreateMapPayload materialize(CreateMapPayload state) {
+        if (state == null || state.getCurrentMap() != null
+                || state.getBoardSeed() == null || state.getBoardOverlay() == null) {
+            return state;
+        }
+        state.setCurrentMap(createMap(getTemplate(state.getBoardSeed()), state.getBoardOverlay(), state.getPlayerOrder()));
+        return state;
+    }
+
+    /**
+     * 누적 가격 배수에 이번 경제 효과를 곱하고 일반땅 가격을 기본 가격 x 배수로 다시 계산
+     */
+    public void applyPriceMultipliers(CreateMapPayload state, double landMultiplier, double buildMultiplier) {
+        BoardOverlay overlay = state.getBoardOverlay();
+        BoardTemplate template = getTemplate(state.getBoardSeed());
+        BoardState board = state.board();
+        for (int i = 0; i < template.size(); i++) {
+            // 배수는 모든 칸에 똑같이 누적하고 (저장 시 같은 값이 이어져 압축이 잘 됨), 가격은 일반땅만 반영
+            overlay.getLandMultiplier()[i] *= landMultiplier;
+            overlay.getBuildMultiplier()[i] *= buildMultiplier;
+            BoardTemplate.Cell cell = template.getCell(i);
+            if (cell == null || cell.getType() != Tile.TileType.NORMAL) {
+                continue;
+            }
+
+            board.setPrices(i,
+                    price(cell.getLandPrice(), overlay.getLandMultiplier()[i]),
+                    price(cell.getHousePrice(), overlay.getBuildMultiplier()[i]),
+                    price(cell.getBuildingPrice(), overlay.getBuildMultiplier()[i]),
+                    price(cell.getHotelPrice(), overlay.getBuildMultiplier()[i]));
+        }
+    }
+
+    private static long price(long basePrice, double multiplier) {
+        return (long) (basePrice * multiplier);
+    }
+
+    private BoardTemplate buildTemplate(long seed) {
+        List<BoardTemplate.Cell> cells = new ArrayList<>(Collections.nCopies(MAP_SIZE, null));
+        EVENT_CELLS.forEach(cells::set);
+
+        // 도시 칸 배치 (DB 타일 순서를 고정한 뒤 시드로 섞어서 항상 같은 배치가 나오게 함)
+        List<Tile> cityPool = new ArrayList<>(loadCityTiles());
+        Collections.shuffle(cityPool, new Random(seed));
+
+        int tileIdx = 0;
+        for (int i = 0; i < MAP_SIZE; i++) {
+            if (cells.get(i) == null && tileIdx < cityPool.size()) {
+                Tile tile = cityPool.get(tileIdx++);
+                cells.set(i, new BoardTemplate.Cell(tile.getName(), Tile.TileType.NORMAL, tile.getDescription(),
+                        tile.getLandPrice(), tile.getHousePrice(), tile.getBuildingPrice(), tile.getHotelPrice()));
+            }
+        }
+        log.info("보드 템플릿 생성: seed={}, cities={}", seed, tileIdx);
+        return new BoardTemplate(seed, cells);
+    }
+
+    private List<Tile> loadCityTiles() {
+        List<Tile> tiles = cityTiles;
+        if (tiles == null) {
+            tiles = new ArrayList<>(tileRepository.findAll());
+            tiles.sort(Comparator.comparing(Tile::getId));
+            cityTiles = tiles;
+        }
+        return tiles;
+    }
+}
@@ -5,9 +5,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.BlueMarble.domain.game.entity.Card;
 import com.ssafy.BlueMarble.domain.game.entity.Tile;
 import com.ssafy.BlueMarble.domain.game.repository.CardRepository;
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.DrawCardPayload;
-import com.ssafy.BlueMarble.websocket.dto.MessageDto;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
 import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
 import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
@@ -37,7 +37,6 @@ public class CardService {
     private final CardRepository cardRepository;
     private final SessionMessageService sessionMessageService;
     private final UserRedisService userRedisService;
-    private final VictoryService victoryService;
     private final Random random = new Random();
 
     // 메모리에 로딩된 카드 리스트
@@ -85,6 +84,8 @@ public class CardService {
                 return false;
             }
             
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("카드 사용 중 오류 발생: roomId={}, userName={}, cardName={}", roomId, userName, cardName, e);
             return false;
@@ -168,6 +169,8 @@ public class CardService {
                 log.warn("즉발형이 아닌 카드는 addCard로 처리할 수 없음: cardName={}", cardName);
             }
 
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("카드 추가 실패: roomId={}, userId={}, cardName={}", roomId, userId, cardName, e);
         }
@@ -309,18 +312,14 @@ public class CardService {
                     .result(result)
                     .build();
 
-            var cardPayloadNode = objectMapper.valueToTree(cardPayload);
-            MessageDto cardMessage = new MessageDto(MessageType.DRAW_CARD, cardPayloadNode);
-
             log.info("🎲 [DRAW_CARD] 메시지 전송 중: roomId={}, userName={}, cardName={}", roomId, userName, drawnCard.getName());
-            sessionMessageService.sendMessageToRoom(roomId, cardMessage);
+            sessionMessageService.sendMessageToRoom(roomId, MessageType.DRAW_CARD, cardPayload);
             log.info("🎲 [DRAW_CARD] 메시지 전송 완료: userName={}, cardName={}", userName, drawnCard.getName());
 
-            // 찬스카드 사용 후 승리 조건 체크 (모든 승리 조건 통합 체크)
-            victoryService.checkAllVictoryConditions(roomId, gameMapState);
-
             return result;
 
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("카드 뽑기 중 오류 발생: roomId={}, userName={}", roomId, userName, e);
             return null;
@@ -383,6 +382,8 @@ public class CardService {
                     log.warn("지원되지 않는 효과 타입: cardName={}, effectType={}", card.getName(), effectType);
             }
 
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("즉발카드 효과 적용 실패: cardName={}", card.getName(), e);
         }
@@ -414,6 +415,8 @@ public class CardService {
             log.info("즉발카드 효과 적용 완료: roomId={}, userId={}, cardName={}", roomId, userId, cardName);
             return true;
 
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("즉발카드 효과 적용 실패: roomId={}, userId={}, cardName={}", roomId, userId, cardName, e);
             return false;
@@ -467,6 +470,8 @@ public class CardService {
                 gameRedisService.saveGameMapState(roomId, gameMapState);
                 log.info("플레이어 감옥 송치: roomId={}, userName={}", roomId, userName);
             }
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("감옥 송치 실패: roomId={}, userName={}", roomId, userName, e);
         }
@@ -630,14 +635,11 @@ public class CardService {
                     .currentPlayerIndex(gameMapState.getCurrentPlayerIndex())
                     .build();
 
-            MessageDto gameStateMessage = new MessageDto(
-                    MessageType.GAME_STATE_CHANGE,
-                    objectMapper.valueToTree(gameStateUpdate)
-            );
-
-            sessionMessageService.sendMessageToRoom(roomId, gameStateMessage);
+            sessionMessageService.sendMessageToRoom(roomId, MessageType.GAME_STATE_CHANGE, gameStateUpdate);
             log.info("금융정책 카드 효과 전체 적용 및 게임 상태 업데이트 메시지 전송 완료: cardName={}, roomId={}", card.getName(), roomId);
 
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("금융정책 카드 효과 적용 실패: cardName={}, roomId={}", card.getName(), roomId, e);
         }
@@ -701,14 +703,11 @@ public class CardService {
                     .currentPlayerIndex(gameMapState.getCurrentPlayerIndex())
                     .build();
 
-            MessageDto gameStateMessage = new MessageDto(
-                    MessageType.GAME_STATE_CHANGE,
-                    objectMapper.valueToTree(gameStateUpdate)
-            );
-
-            sessionMessageService.sendMessageToRoom(roomId, gameStateMessage);
+            sessionMessageService.sendMessageToRoom(roomId, MessageType.GAME_STATE_CHANGE, gameStateUpdate);
             log.info("부동산 자산 정책 적용 및 게임 상태 업데이트 메시지 전송 완료: cardName={}, roomId={}", card.getName(), roomId);
 
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("부동산 자산 정책 효과 적용 실패: cardName={}, roomId={}", card.getName(), roomId, e);
         }
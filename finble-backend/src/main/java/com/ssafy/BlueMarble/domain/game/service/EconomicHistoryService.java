@@ -1,10 +1,8 @@
 package com.ssafy.BlueMarble.domain.game.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
 import com.ssafy.BlueMarble.domain.game.entity.EconomicEffect;
 import com.ssafy.BlueMarble.domain.game.entity.Tile;
-import com.ssafy.BlueMarble.websocket.dto.MessageDto;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.EconomicEffectUpdatePayload;
@@ -14,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Random;
+import java.util.function.UnaryOperator;
 
 @Service
 @Slf4j
@@ -22,7 +21,7 @@ public class EconomicHistoryService {
 
     private final GameRedisService gameRedisService;
     private final SessionMessageService sessionMessageService;
-    private final ObjectMapper objectMapper;
+    private final BoardTemplateCatalog boardTemplateCatalog;
 
     /**
      * 게임방의 현재 경제 효과 템플릿 조회 또는 초기화
@@ -89,10 +88,16 @@ public class EconomicHistoryService {
         }
 
         // 1. 맵의 모든 타일에 부동산/건물 가격 효과 적용
-        if (gameState.getCurrentMap() != null && gameState.getCurrentMap().getCells() != null) {
-            for (Tile tile : gameState.getCurrentMap().getCells()) {
-                if (tile.getType() == Tile.TileType.NORMAL) {
-                    applyEconomicEffectToTile(tile, currentEffect);
+        // 공유 보드 템플릿을 쓰는 게임은 기본 가격 x 누적 배수로 계산
+        if (gameState.getBoardSeed() != null && gameState.getBoardOverlay() != null
+                && gameState.getCurrentMap() != null) {
+            boardTemplateCatalog.applyPriceMultipliers(gameState,
+                    currentEffect.getPropertyPriceMultiplier(), currentEffect.getBuildingCostMultiplier());
+        } else if (gameState.getCurrentMap() != null && gameState.getCurrentMap().getCells() != null) {
+            BoardState board = gameState.board();
+            for (int i = 0; i < board.size(); i++) {
+                if (board.isType(i, Tile.TileType.NORMAL)) {
+                    applyEconomicEffectToTile(board, i, gameState.getCurrentMap().getCells().get(i), currentEffect);
                 }
             }
         }
@@ -101,32 +106,16 @@ public class EconomicHistoryService {
     /**
      * 개별 타일에 경제 효과 적용 (기본 가격에서 배수 적용)
      */
-    private void applyEconomicEffectToTile(Tile tile, EconomicEffect currentEffect) {
-        // 부동산 가격 적용
-        Long originalLandPrice = tile.getLandPrice();
-        if (originalLandPrice > 0) {
-            Long newLandPrice = currentEffect.applyPropertyPriceMultiplier(originalLandPrice);
-            tile.setLandPrice(newLandPrice);
-        }
-
-        // 건물 건설 비용 적용
-        Long originalHousePrice = tile.getHousePrice();
-        if (originalHousePrice > 0) {
-            Long newHousePrice = currentEffect.applyBuildingCostMultiplier(originalHousePrice);
-            tile.setHousePrice(newHousePrice);
-        }
-
-        Long originalBuildingPrice = tile.getBuildingPrice();
-        if (originalBuildingPrice > 0) {
-            Long newBuildingPrice = currentEffect.applyBuildingCostMultiplier(originalBuildingPrice);
-            tile.setBuildingPrice(newBuildingPrice);
-        }
+    private void applyEconomicEffectToTile(BoardState board, int position, Tile tile, EconomicEffect currentEffect) {
+        board.setPrices(position,
+                applyIfPositive(tile.getLandPrice(), currentEffect::applyPropertyPriceMultiplier),
+                applyIfPositive(tile.getHousePrice(), currentEffect::applyBuildingCostMultiplier),
+                applyIfPositive(tile.getBuildingPrice(), currentEffect::applyBuildingCostMultiplier),
+                applyIfPositive(tile.getHotelPrice(), currentEffect::applyBuildingCostMultiplier));
+    }
 
-        Long originalHotelPrice = tile.getHotelPrice();
-        if (originalHotelPrice > 0) {
-            Long newHotelPrice = currentEffect.applyBuildingCostMultiplier(originalHotelPrice);
-            tile.setHotelPrice(newHotelPrice);
-        }
+    private static long applyIfPositive(Long price, UnaryOperator<Long> multiplier) {
+        return price > 0 ? multiplier.apply(price) : price;
     }
 
     /**
@@ -136,9 +125,7 @@ public class EconomicHistoryService {
         try {
             EconomicEffectUpdatePayload payload = EconomicEffectUpdatePayload.fromGameState(gameState, currentEffect);
 
-            JsonNode payloadNode = objectMapper.valueToTree(payload);
-            MessageDto message = new MessageDto(MessageType.ECONOMIC_HISTORY_UPDATE, payloadNode);
-            sessionMessageService.sendMessageToRoom(roomId, message);
+            sessionMessageService.sendMessageToRoom(roomId, MessageType.ECONOMIC_HISTORY_UPDATE, payload);
             log.info("경제 효과 업데이트 메시지 전송 완료: roomId={}, effect={}, period={}", 
                     roomId, currentEffect.getEffectName(), currentEffect.getPeriod().getDisplayName());
 
@@ -1,7 +1,6 @@
 package com.ssafy.BlueMarble.domain.game.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
 import com.ssafy.BlueMarble.domain.game.dto.request.JailRequest;
 import com.ssafy.BlueMarble.domain.game.dto.request.WorldTravelRequest;
 import com.ssafy.BlueMarble.domain.game.dto.request.UseDiceRequest;
@@ -12,7 +11,6 @@ import com.ssafy.BlueMarble.domain.Timer.Service.TimerService;
 import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
 import com.ssafy.BlueMarble.global.common.exception.BusinessError;
 import com.ssafy.BlueMarble.global.common.exception.BusinessException;
-import com.ssafy.BlueMarble.websocket.dto.MessageDto;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.JailPayload;
@@ -38,38 +36,19 @@ public class EventService {
 
     private final GameRedisService gameRedisService;
     private final RoomService roomService;
-    private final ObjectMapper objectMapper;
     private final SessionMessageService sessionMessageService;
     private final CardService cardService;
     private final UserRedisService userRedisService;
     private final TimerService timerService;
     private final EconomicHistoryService economicHistoryService;
-    private final VictoryService victoryService;
+    private final TurnPhaseService turnPhaseService;
     private final Random random = new Random();
 
-    // 찬스 칸 위치 정의 (data.sql 참고)
-    private static final int[] CHANCE_POSITIONS = {3, 11, 19, 27};
-
-    /**
-     * 해당 위치가 찬스 칸인지 확인
-     */
-    private boolean isChancePosition(int position) {
-        log.debug("🎲 isChancePosition 확인: position={}, CHANCE_POSITIONS={}", position, java.util.Arrays.toString(CHANCE_POSITIONS));
-        for (int chancePos : CHANCE_POSITIONS) {
-            if (chancePos == position) {
-                log.debug("🎲 찬스 칸 매치됨: position={}", position);
-                return true;
-            }
-        }
-        log.debug("🎲 찬스 칸 아님: position={}", position);
-        return false;
-    }
-
     /**
      * 감옥 이벤트 처리
      */
     public void handleJailEvent(WebSocketSession session, JailRequest jailRequest) {
-        String roomId = roomService.getRoom(session.getId());
+        String roomId = roomService.getRoom(session);
         log.info("roomId={}", roomId);
         // 1. 플레이어 상태 조회
         String userId = userRedisService.getUserIdByNickname(jailRequest.getNickname());
@@ -130,16 +109,14 @@ public class EventService {
 
         log.info("payload={}", payload);
 
-        JsonNode payloadNode = objectMapper.valueToTree(payload);
-        MessageDto message = new MessageDto(MessageType.JAIL_EVENT, payloadNode);
-        sessionMessageService.sendMessageToRoom(roomId, message);
+        sessionMessageService.sendMessageToRoom(roomId, MessageType.JAIL_EVENT, payload);
     }
 
     /**
      * 세계여행 이벤트 처리
      */
     public void handleWorldTravelEvent(WebSocketSession session, WorldTravelRequest worldTravelRequest) {
-        String roomId = roomService.getRoom(session.getId());
+        String roomId = roomService.getRoom(session);
 
         // 1. 게임 맵 정보
         CreateMapPayload gameState = gameRedisService.getGameMapState(roomId);
@@ -155,19 +132,20 @@ public class EventService {
         int endPosition = worldTravelRequest.getDestination();
 
         // 4. 도착지점의 땅 정보 확인
+        BoardState board = gameState.board();
         String landOwner = null;
-        Long tollAmount = 0L;
+        long tollAmount = 0L;
         CreateMapPayload.PlayerState owner = null;
 
         //2.1 TODO : 현재 여행 하려는 사람이 세계여행 칸에 있는지 체크해야함
-        if (gameState.getCurrentMap().getCells().get(traveler.getPosition()).getType() != Tile.TileType.AIRPLANE) {
+        if (!board.isType(traveler.getPosition(), Tile.TileType.AIRPLANE)) {
             throw new BusinessException(BusinessError.INVALID_BEHAVIOR);
         }
 
         // 4.1 만약 해당 땅에 주인이 있다면
-        if (gameState.getCurrentMap().getCells().get(endPosition).getOwnerName() != null) {
-            landOwner = gameState.getCurrentMap().getCells().get(endPosition).getOwnerName();
-            tollAmount = gameState.getCurrentMap().getCells().get(endPosition).getToll();
+        if (board.isOwned(endPosition)) {
+            landOwner = board.ownerName(endPosition);
+            tollAmount = board.toll(endPosition);
             String ownerUserId = userRedisService.getUserIdByNickname(landOwner);
             if (ownerUserId != null) {
                 owner = gameState.getPlayers().get(ownerUserId);
@@ -218,16 +196,17 @@ public class EventService {
                 )
                 .build();
 
-        JsonNode payloadNode = objectMapper.valueToTree(payload);
-        MessageDto message = new MessageDto(MessageType.WORLD_TRAVEL_EVENT, payloadNode);
-        sessionMessageService.sendMessageToRoom(roomId, message);
+        sessionMessageService.sendMessageToRoom(roomId, MessageType.WORLD_TRAVEL_EVENT, payload);
+
+        // 도착한 칸에서 할 결정이 없으면 바로 턴 종료
+        turnPhaseService.resolve(roomId, gameState, traveler);
     }
 
     /**
      * 국세청 이벤트 처리 (현금의 15% 세금 부과)
      */
     public void handleNtsEvent(WebSocketSession session, NtsRequest ntsRequest) {
-        String roomId = roomService.getRoom(session.getId());
+        String roomId = roomService.getRoom(session);
         CreateMapPayload gameState = gameRedisService.getGameMapState(roomId);
         if (gameState == null) {
             throw new BusinessException(BusinessError.ROOM_ID_NOT_FOUND);
@@ -266,19 +245,20 @@ public class EventService {
                 )
                 .build();
 
-        JsonNode payloadNode = objectMapper.valueToTree(payload);
-        MessageDto message = new MessageDto(MessageType.NTS_EVENT, payloadNode);
-        sessionMessageService.sendMessageToRoom(roomId, message);
+        sessionMessageService.sendMessageToRoom(roomId, MessageType.NTS_EVENT, payload);
 
         log.info("국세청 세금 처리: player={}, taxAmount={}, remainingMoney={}",
                 ntsRequest.getNickname(), taxAmount, player.getMoney());
+
+        // 세금을 냈으면 남은 결정이 없으므로 바로 턴 종료
+        turnPhaseService.complete(roomId, gameState, player);
     }
 
     /**
      * 주사위 사용 이벤트 처리
      */
     public void handleUseDiceEvent(WebSocketSession session, UseDiceRequest useDiceRequest) {
-        String roomId = roomService.getRoom(session.getId());
+        String roomId = roomService.getRoom(session);
 
         // 1. 게임 맵 정보
         CreateMapPayload gameState = gameRedisService.getGameMapState(roomId);
@@ -320,7 +300,8 @@ public class EventService {
         }
 
         //5.1 감옥 자리라면 사용자 상태 업데이트 해야함
-        if (gameState.getCurrentMap().getCells().get(newPosition).getType().equals(Tile.TileType.JAIL)) {
+        BoardState board = gameState.board();
+        if (board.isType(newPosition, Tile.TileType.JAIL)) {
             player.setInJail(true);
             player.setJailTurns(3);
             gameRedisService.saveGameMapState(roomId, gameState);
@@ -331,19 +312,20 @@ public class EventService {
 
         // 7. 도착한 땅 정보 확인 (찬스칸이 아닌 경우에만)
         String landOwner = null;
-        Long tollAmount = 0L;
+        long tollAmount = 0L;
         boolean canBuyLand = false;
+        boolean isChance = board.isChance(newPosition);
 
         // 찬스칸은 특별칸이므로 통행료 없음 - 찬스칸이 아닌 경우에만 통행료 처리
-        if (!isChancePosition(newPosition)) {
-            var targetCell = gameState.getCurrentMap().getCells().get(newPosition);
+        if (!isChance) {
+            int ownerIndex = board.ownerIndex(newPosition);
 
             // 일반땅인 경우에만 통행료 처리
-            if (targetCell.getType() == com.ssafy.BlueMarble.domain.game.entity.Tile.TileType.NORMAL) {
-                if (targetCell.getOwnerName() != null && !targetCell.getOwnerName().equals(useDiceRequest.getUserName())) {
+            if (board.isType(newPosition, Tile.TileType.NORMAL)) {
+                if (ownerIndex != BoardState.NO_OWNER && ownerIndex != board.ownerIndexOf(useDiceRequest.getUserName())) {
                     // 다른 플레이어의 땅 - 통행료 지불 (기본 통행료 사용)
-                    landOwner = targetCell.getOwnerName();
-                    tollAmount = targetCell.getToll();
+                    landOwner = board.ownerName(newPosition);
+                    tollAmount = board.toll(newPosition);
 
                     // 8. 통행료 지불
                     if (player.getMoney() >= tollAmount) {
@@ -363,17 +345,16 @@ public class EventService {
                         log.warn("통행료 부족: player={}, required={}, available={}",
                                 useDiceRequest.getUserName(), tollAmount, player.getMoney());
                     }
-                } else if (targetCell.getOwnerName() == null) {
+                } else if (ownerIndex == BoardState.NO_OWNER) {
                     // 비어있는 일반땅 - 구매 가능
                     canBuyLand = true;
                     log.info("구매 가능한 땅 도착: player={}, position={}, price={}",
-                            useDiceRequest.getUserName(), newPosition, targetCell.getToll());
+                            useDiceRequest.getUserName(), newPosition, board.toll(newPosition));
                 }
             }
         }
 
         // 9. 찬스 칸 확인 및 자동 카드 뽑기 (턴 종료 전에 먼저 처리)
-        boolean isChance = isChancePosition(newPosition);
         log.info("찬스 칸 확인: position={}, isChance={}, userName={}", newPosition, isChance, useDiceRequest.getUserName());
 
         if (isChance) {
@@ -405,11 +386,9 @@ public class EventService {
                 )
                 .build();
 
-        JsonNode payloadNode = objectMapper.valueToTree(payload);
-        MessageDto message = new MessageDto(MessageType.USE_DICE, payloadNode);
-        sessionMessageService.sendMessageToRoom(roomId, message);
+        sessionMessageService.sendMessageToRoom(roomId, MessageType.USE_DICE, payload);
 
-        // 11. 주사위 사용 후 승리 조건 체크 (모든 승리 조건 통합 체크)
-        victoryService.checkAllVictoryConditions(roomId, gameState);
+        // 11. 도착한 칸에서 할 결정이 없으면 (통행료, 감옥, 이미 지은 땅 등) 30초를 기다리지 않고 바로 턴 종료
+        turnPhaseService.resolve(roomId, gameState, player);
     }
 }
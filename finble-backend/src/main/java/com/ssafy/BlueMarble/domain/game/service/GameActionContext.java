@@ -0,0 +1,186 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게임 액션 하나의 작업 단위 (현재 스레드에 묶임)
+ * - 액션 중 게임 상태는 한 번만 읽고, 모든 서비스가 같은 인스턴스를 수정합니다.
+ * - 액션 중 저장은 보류했다가 액션이 끝날 때 한 번만 기록합니다. (파산/승리 규칙도 그 직전에 한 번)
+ * - 턴 넘기기처럼 규칙 평가 결과를 보고 해야 하는 작업은 규칙 평가 뒤에 실행합니다.
+ * - 방 브로드캐스트는 저장이 성공한 뒤에 보내도록 모아 두고, 충돌로 재실행되면 버립니다.
+ * - 액션 동안 실행된 Redis 명령 수를 셉니다.
+ */
+public final class GameActionContext {
+
+    private static final ThreadLocal<GameActionContext> CURRENT = new ThreadLocal<>();
+
+    private final String roomId;
+    private final List<Runnable> afterRules = new ArrayList<>();
+    private final List<Runnable> afterCommit = new ArrayList<>();
+    private final Map<String, Object> resources = new HashMap<>();
+
+    private CreateMapPayload state;
+    private GameChangeSet.Baseline baseline;
+    private boolean loaded;
+    private boolean dirty;
+    private boolean committing;
+    private int redisCommands;
+
+    private GameActionContext(String roomId) {
+        this.roomId = roomId;
+    }
+
+    /**
+     * 현재 스레드에 작업 단위 시작 (이미 진행 중이면 null)
+     */
+    static GameActionContext begin(String roomId) {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        GameActionContext context = new GameActionContext(roomId);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 해당 방의 작업 단위가 진행 중이면 반환 (커밋 중이거나 다른 방이면 null)
+     */
+    public static GameActionContext currentFor(String roomId) {
+        GameActionContext context = CURRENT.get();
+        if (context == null || context.committing || !context.roomId.equals(roomId)) {
+            return null;
+        }
+        return context;
+    }
+
+    /**
+     * Redis 명령 1회 기록 (작업 단위 밖에서는 무시)
+     */
+    public static void recordRedisCommand() {
+        GameActionContext context = CURRENT.get();
+        if (context != null) {
+            context.redisCommands++;
+        }
+    }
+
+    /**
+     * 액션 중 게임 상태 (처음 호출할 때만 읽음)
+     */
+    public CreateMapPayload state(Supplier<CreateMapPayload> loader) {
+        if (!loaded) {
+            state = loader.get();
+            baseline = GameChangeSet.capture(state);
+            loaded = true;
+        }
+        return state;
+    }
+
+    /**
+     * 저장을 액션 종료 시점으로 미룸 (새 인스턴스를 저장하면 이후 조회도 그 인스턴스를 반환)
+     */
+    public void deferSave(CreateMapPayload gameState) {
+        state = gameState;
+        loaded = true;
+        dirty = true;
+    }
+
+    /**
+     * 액션 중 게임이 삭제됨, 보류 중인 저장을 버림
+     */
+    public void markDeleted() {
+        state = null;
+        loaded = true;
+        dirty = false;
+    }
+
+    /**
+     * 파산/승리 규칙을 평가한 뒤, 저장하기 전에 실행할 작업 등록
+     */
+    public void afterRules(Runnable task) {
+        afterRules.add(task);
+    }
+
+    /**
+     * 저장이 성공한 뒤 실행할 작업 등록
+     */
+    public void afterCommit(Runnable task) {
+        afterCommit.add(task);
+    }
+
+    /**
+     * 작업 단위 동안 공유할 객체 (처음 요청할 때 생성, 재실행되면 버림)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T resource(String key, Supplier<T> factory) {
+        Object resource = resources.get(key);
+        if (resource == null) {
+            resource = factory.get();
+            resources.put(key, resource);
+        }
+        return (T) resource;
+    }
+
+    /**
+     * 저장이 보류된 게임 상태 (없으면 null)
+     */
+    CreateMapPayload pendingState() {
+        return dirty ? state : null;
+    }
+
+    /**
+     * 액션을 시작할 때 읽은 상태와 비교해 바뀐 플레이어/칸 (읽지 않고 저장했으면 전체)
+     */
+    GameChangeSet changes() {
+        return GameChangeSet.between(baseline, state);
+    }
+
+    boolean hasAfterRules() {
+        return !afterRules.isEmpty();
+    }
+
+    /**
+     * 규칙 평가 뒤 작업 실행, 이후 changes()는 지금 상태를 기준으로 계산 (이미 평가한 변경은 다시 보지 않음)
+     */
+    void runAfterRules() {
+        List<Runnable> tasks = new ArrayList<>(afterRules);
+        afterRules.clear();
+        baseline = GameChangeSet.capture(state);
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+
+    /**
+     * 커밋 시작: 이후 저장/조회/전송은 작업 단위를 거치지 않음
+     * @return 기록할 게임 상태, 저장할 변경이 없으면 null
+     */
+    CreateMapPayload beginCommit() {
+        committing = true;
+        return pendingState();
+    }
+
+    void runAfterCommit() {
+        for (Runnable task : afterCommit) {
+            task.run();
+        }
+        afterCommit.clear();
+    }
+
+    void close() {
+        CURRENT.remove();
+    }
+
+    String getRoomId() {
+        return roomId;
+    }
+
+    int getRedisCommands() {
+        return redisCommands;
+    }
+}
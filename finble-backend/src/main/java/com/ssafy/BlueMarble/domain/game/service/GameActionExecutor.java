@@ -0,0 +1,162 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.game.repository.GameEventContext;
+import com.ssafy.BlueMarble.global.common.event.RoomDeletedEvent;
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방 단위 게임 액션 실행기
+ * - 저장 시 버전 충돌(GameStateConflictException)이 나면 상태를 다시 읽도록 액션 전체를 재실행합니다.
+ * - 재시도는 game.state.max-retries 회까지만 하고, 충돌 횟수는 전체/방별로 기록합니다.
+ * - 시도마다 GameActionContext를 열어 상태를 한 번 읽고, 액션이 끝나면 규칙을 평가한 뒤 한 번만 저장합니다.
+ */
+@Slf4j
+@Component
+public class GameActionExecutor {
+
+    private final RoomGameEngine roomGameEngine;
+    // GameRedisService가 이 클래스에 의존하므로 커밋 시점에 꺼내 씀
+    private final ObjectProvider<GameRedisService> gameRedisService;
+    private final ObjectProvider<GameRulePipeline> gameRulePipeline;
+    private final Counter conflictCounter;
+    private final Counter exhaustedCounter;
+    private final DistributionSummary redisCommandSummary;
+
+    // 방별 충돌 횟수 (방 삭제 시 정리)
+    private final Map<String, AtomicLong> conflictsByRoom = new ConcurrentHashMap<>();
+
+    @Value("${game.state.max-retries:3}")
+    private int maxRetries;
+
+    public GameActionExecutor(RoomGameEngine roomGameEngine, MeterRegistry meterRegistry,
+                              ObjectProvider<GameRedisService> gameRedisService,
+                              ObjectProvider<GameRulePipeline> gameRulePipeline) {
+        this.roomGameEngine = roomGameEngine;
+        this.gameRedisService = gameRedisService;
+        this.gameRulePipeline = gameRulePipeline;
+        this.conflictCounter = Counter.builder("game.state.conflicts")
+                .description("게임 상태 저장 시 버전 충돌 횟수")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("game.state.conflicts.exhausted")
+                .description("재시도 후에도 충돌이 해결되지 않은 액션 수")
+                .register(meterRegistry);
+        Gauge.builder("game.state.conflict.rooms", conflictsByRoom, Map::size)
+                .description("충돌이 한 번 이상 발생한 방 수")
+                .register(meterRegistry);
+        this.redisCommandSummary = DistributionSummary.builder("game.action.redis.commands")
+                .description("게임 액션 1회(시도) 동안 실행된 Redis 명령 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 타입을 지정해 액션 실행 (이벤트 로그 레이아웃에서 이벤트 종류로 기록)
+     */
+    public void execute(String roomId, String eventType, RoomGameEngine.RoomAction action) throws Exception {
+        GameEventContext.call(eventType, () -> {
+            execute(roomId, action);
+            return null;
+        });
+    }
+
+    /**
+     * 방 작성 권한을 잡고 액션 실행, 버전 충돌 시 제한된 횟수만큼 재실행
+     */
+    public void execute(String roomId, RoomGameEngine.RoomAction action) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                executeOnce(roomId, action);
+                return;
+            } catch (GameStateConflictException e) {
+                long roomConflicts = recordConflict(roomId);
+                if (attempt > maxRetries) {
+                    exhaustedCounter.increment();
+                    log.warn("게임 상태 충돌 재시도 초과: roomId={}, attempts={}, roomConflicts={}",
+                            roomId, attempt, roomConflicts);
+                    throw e;
+                }
+                log.info("게임 상태 충돌로 액션 재실행: roomId={}, attempt={}, roomConflicts={}",
+                        roomId, attempt, roomConflicts);
+            }
+        }
+    }
+
+    /**
+     * 작업 단위 안에서 액션을 한 번 실행하고 방 작성 권한을 쥔 채로 커밋
+     * - 이미 다른 액션 안에서 호출되면 바깥 작업 단위에 합류합니다.
+     * - 실패하면 보류 중인 저장과 브로드캐스트를 버립니다.
+     */
+    private void executeOnce(String roomId, RoomGameEngine.RoomAction action) throws Exception {
+        GameActionContext context = GameActionContext.begin(roomId);
+        if (context == null) {
+            roomGameEngine.execute(roomId, action);
+            return;
+        }
+        try {
+            roomGameEngine.execute(roomId, () -> {
+                action.run();
+                commit(context);
+            });
+        } finally {
+            context.close();
+            redisCommandSummary.record(context.getRedisCommands());
+            log.debug("게임 액션 종료: roomId={}, redisCommands={}", roomId, context.getRedisCommands());
+        }
+    }
+
+    /**
+     * 바뀐 부분에 대해 파산/승리 규칙을 평가하고, 보류한 게임 상태를 한 번 저장한 뒤 모아 둔 브로드캐스트 전송
+     * - 규칙이 바꾼 상태와 보낸 메시지도 같은 작업 단위에 담깁니다.
+     * - 규칙 평가 뒤 작업(턴 넘기기)이 있으면 실행하고, 그 작업이 바꾼 부분을 다시 평가합니다. (턴 제한 등)
+     */
+    private void commit(GameActionContext context) {
+        evaluateRules(context);
+        while (context.hasAfterRules()) {
+            context.runAfterRules();
+            evaluateRules(context);
+        }
+        CreateMapPayload state = context.beginCommit();
+        if (state != null) {
+            gameRedisService.getObject().saveGameMapState(context.getRoomId(), state);
+        }
+        context.runAfterCommit();
+    }
+
+    private void evaluateRules(GameActionContext context) {
+        CreateMapPayload pending = context.pendingState();
+        if (pending != null) {
+            gameRulePipeline.getObject().evaluate(context.getRoomId(), pending, context.changes());
+        }
+    }
+
+    /**
+     * 버전 충돌 1회 기록 후 해당 방의 누적 충돌 횟수 반환
+     */
+    public long recordConflict(String roomId) {
+        conflictCounter.increment();
+        return conflictsByRoom.computeIfAbsent(roomId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long getConflictCount(String roomId) {
+        AtomicLong count = conflictsByRoom.get(roomId);
+        return count != null ? count.get() : 0L;
+    }
+
+    @EventListener
+    public void handleRoomDeletedEvent(RoomDeletedEvent event) {
+        conflictsByRoom.remove(event.getRoomId());
+    }
+}
@@ -0,0 +1,146 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게임 액션 하나가 바꾼 플레이어/칸 목록 (규칙 평가용)
+ * - 액션 시작 시 규칙에 필요한 값(자산, 활성 여부, 소유 땅, 칸 소유자/건물, 턴)만 기록해 두고
+ *   커밋 직전 상태와 비교합니다.
+ * - 기준 없이 만든 경우(full)에는 모든 플레이어와 칸이 바뀐 것으로 봅니다.
+ */
+public final class GameChangeSet {
+
+    private final boolean full;
+    private final Set<String> players;
+    private final BitSet tiles;
+    private final boolean turnChanged;
+
+    private GameChangeSet(boolean full, Set<String> players, BitSet tiles, boolean turnChanged) {
+        this.full = full;
+        this.players = players;
+        this.tiles = tiles;
+        this.turnChanged = turnChanged;
+    }
+
+    /**
+     * 모든 플레이어와 칸을 다시 평가
+     */
+    public static GameChangeSet all() {
+        return new GameChangeSet(true, Set.of(), new BitSet(), true);
+    }
+
+    /**
+     * 액션 시작 시점의 규칙 관련 값 기록
+     */
+    public static Baseline capture(CreateMapPayload state) {
+        return state != null ? new Baseline(state) : null;
+    }
+
+    /**
+     * 기준 시점 이후 바뀐 플레이어/칸 계산 (기준이 없으면 전체)
+     */
+    public static GameChangeSet between(Baseline baseline, CreateMapPayload state) {
+        if (baseline == null || state == null) {
+            return all();
+        }
+        Set<String> players = new LinkedHashSet<>();
+        if (state.getPlayers() != null) {
+            for (Map.Entry<String, CreateMapPayload.PlayerState> entry : state.getPlayers().entrySet()) {
+                PlayerMark before = baseline.players.get(entry.getKey());
+                if (before == null || !before.equals(PlayerMark.of(entry.getValue()))) {
+                    players.add(entry.getKey());
+                }
+            }
+        }
+
+        BitSet tiles = new BitSet();
+        if (state.getCurrentMap() != null) {
+            BoardState board = state.board();
+            if (board.size() != baseline.owners.length) {
+                return all();
+            }
+            for (int position = 0; position < board.size(); position++) {
+                if (board.ownerIndex(position) != baseline.owners[position]
+                        || board.buildingLevel(position) != baseline.buildingLevels[position]) {
+                    tiles.set(position);
+                }
+            }
+        }
+        boolean turnChanged = !Objects.equals(baseline.gameTurn, state.getGameTurn());
+        return new GameChangeSet(false, players, tiles, turnChanged);
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * 바뀐 플레이어 userId 목록 (full이면 비어 있음)
+     */
+    public Set<String> getPlayers() {
+        return players;
+    }
+
+    /**
+     * 소유자나 건물이 바뀐 칸 번호 (full이면 비어 있음)
+     */
+    public BitSet getTiles() {
+        return tiles;
+    }
+
+    public boolean isTurnChanged() {
+        return turnChanged;
+    }
+
+    public boolean isPlayerChanged(String userId) {
+        return full || players.contains(userId);
+    }
+
+    public boolean isEmpty() {
+        return !full && players.isEmpty() && tiles.isEmpty() && !turnChanged;
+    }
+
+    /**
+     * 액션 시작 시점의 규칙 관련 값
+     */
+    public static final class Baseline {
+
+        private final Map<String, PlayerMark> players = new HashMap<>();
+        private final int[] owners;
+        private final byte[] buildingLevels;
+        private final Long gameTurn;
+
+        private Baseline(CreateMapPayload state) {
+            if (state.getPlayers() != null) {
+                state.getPlayers().forEach((userId, player) -> players.put(userId, PlayerMark.of(player)));
+            }
+            BoardState board = state.getCurrentMap() != null ? state.board() : null;
+            int size = board != null ? board.size() : 0;
+            owners = new int[size];
+            buildingLevels = new byte[size];
+            for (int position = 0; position < size; position++) {
+                owners[position] = board.ownerIndex(position);
+                buildingLevels[position] = board.buildingLevel(position);
+            }
+            gameTurn = state.getGameTurn();
+        }
+    }
+
+    private record PlayerMark(Long money, boolean active, List<Integer> ownedProperties) {
+
+        static PlayerMark of(CreateMapPayload.PlayerState player) {
+            List<Integer> owned = player.getOwnedProperties() != null ? new ArrayList<>(player.getOwnedProperties()) : List.of();
+            return new PlayerMark(player.getMoney(), player.isActive(), owned);
+        }
+    }
+}
@@ -5,14 +5,22 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
 import java.util.Map;
 
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
 import com.ssafy.BlueMarble.domain.game.entity.EconomicEffect;
+import com.ssafy.BlueMarble.domain.game.repository.GameEventContext;
+import com.ssafy.BlueMarble.domain.game.repository.GameStateStore;
+import com.ssafy.BlueMarble.domain.game.repository.HashGameStateStore;
+import com.ssafy.BlueMarble.domain.game.repository.SnapshotGameStateStore;
+import com.ssafy.BlueMarble.domain.game.repository.StreamGameStateStore;
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -20,11 +28,25 @@ public class GameRedisService {
     
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final RoomGameEngine roomGameEngine;
+    private final SnapshotGameStateStore snapshotGameStateStore;
+    private final HashGameStateStore hashGameStateStore;
+    private final StreamGameStateStore streamGameStateStore;
+    private final GameActionExecutor gameActionExecutor;
+    private final BoardTemplateCatalog boardTemplateCatalog;
+    private final GameStateBroadcaster gameStateBroadcaster;
+
+    // snapshot: room:map:{roomId}에 스냅샷 통째로 저장, hash: 필드 단위 Hash로 변경분만 저장,
+    // stream: 변경분을 이벤트로 Redis Stream에 추가하고 주기적으로 스냅샷 기록
+    @Value("${game.state.layout:snapshot}")
+    private String layout;
+
+    // true면 게임 상태를 JVM 메모리(RoomGameEngine)에서 관리하고 Redis에는 스냅샷만 기록
+    @Value("${game.state.in-memory:false}")
+    private boolean inMemory;
 
-    private static final String GAME_MAP_PREFIX = "room:map:";
     private static final String ECONOMIC_EFFECT_PREFIX = "room:economic:";
     private static final String AFFECTED_PRICES_PREFIX = "room:prices:";
-    private static final int GAME_STATE_TTL = 1800;
 
     private static final int BASE_SALARY = 1000000; // EventService와 동일한 기본 월급
     private static final int BASE_PROPERTY_PRICE = 100000;
@@ -32,16 +54,63 @@ public class GameRedisService {
     
     /**
      * 방의 게임 맵 상태 저장
+     * - 메모리 모드에서는 RoomGameEngine에만 반영하고 Redis 스냅샷은 주기적으로 기록
+     * - 저장 후 변경분 브로드캐스트가 켜져 있으면 바뀐 필드를 방에 전송
+     * - 게임 액션 중에는 저장을 미루고 액션이 끝날 때 GameActionExecutor가 한 번만 기록
      */
     public void saveGameMapState(String roomId, CreateMapPayload gameState) {
+        GameActionContext context = GameActionContext.currentFor(roomId);
+        if (context != null) {
+            context.deferSave(gameState);
+            return;
+        }
+        if (inMemory) {
+            roomGameEngine.put(roomId, gameState);
+        } else {
+            prepareWrite(gameStateStore(), roomId, gameState).write();
+        }
+        gameStateBroadcaster.broadcastDelta(roomId, gameState);
+    }
+
+    /**
+     * 메모리 모드에서 변경된 방의 게임 상태를 Redis에 스냅샷으로 기록 (write-behind)
+     */
+    @Scheduled(fixedDelayString = "${game.state.snapshot-interval-ms:1000}")
+    public void flushGameMapSnapshots() {
+        if (!inMemory) {
+            return;
+        }
+        GameStateStore store = gameStateStore();
+        Map<String, GameStateStore.PreparedWrite> snapshots;
         try {
-            String key = GAME_MAP_PREFIX + roomId;
-            String value = objectMapper.writeValueAsString(gameState);
-            redisTemplate.opsForValue().set(key, value, GAME_STATE_TTL, TimeUnit.SECONDS);
-            log.info("게임 맵 상태 저장 완료: roomId={}", roomId);
-        } catch (JsonProcessingException e) {
-            log.error("게임 맵 상태 저장 실패: roomId={}", roomId, e);
+            // 여러 액션이 합쳐진 변경분이므로 이벤트 타입은 FLUSH로 기록
+            snapshots = GameEventContext.call("FLUSH", () -> roomGameEngine.drainDirtySnapshots(
+                    (roomId, state) -> prepareWrite(store, roomId, state)));
+        } catch (Exception e) {
+            log.error("게임 맵 스냅샷 준비 실패", e);
+            return;
+        }
+
+        for (Map.Entry<String, GameStateStore.PreparedWrite> snapshot : snapshots.entrySet()) {
+            try {
+                snapshot.getValue().write();
+            } catch (GameStateConflictException e) {
+                // 다른 서버가 먼저 저장한 방은 메모리 상태를 버리고 다음 접근 시 Redis에서 다시 읽음
+                long roomConflicts = gameActionExecutor.recordConflict(snapshot.getKey());
+                log.warn("게임 맵 스냅샷 버전 충돌, 메모리 상태 폐기: roomId={}, roomConflicts={}",
+                        snapshot.getKey(), roomConflicts);
+                roomGameEngine.remove(snapshot.getKey());
+            } catch (Exception e) {
+                log.error("게임 맵 스냅샷 저장 실패, 다음 주기에 재시도: roomId={}", snapshot.getKey(), e);
+                roomGameEngine.markDirty(snapshot.getKey());
+            }
         }
+        if (!snapshots.isEmpty()) {
+            log.debug("게임 맵 스냅샷 저장 완료: rooms={}", snapshots.size());
+        }
+
+        // TTL 동안 접근이 없던 방은 Redis 스냅샷만 남기고 메모리에서 해제
+        roomGameEngine.evictIdle(TimeUnit.SECONDS.toMillis(SnapshotGameStateStore.GAME_STATE_TTL));
     }
 
     /**
@@ -62,6 +131,8 @@ public class GameRedisService {
             saveGameMapState(roomId, gameState);
             log.info("경제 효과 포함 게임 맵 상태 저장 완료: roomId={}, effect={}", 
                     roomId, currentEffect != null ? currentEffect.getFullEffectName() : "없음");
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("경제 효과 포함 게임 맵 상태 저장 실패: roomId={}", roomId, e);
         }
@@ -69,26 +140,71 @@ public class GameRedisService {
     
     /**
      * 방의 게임 맵 상태 조회
+     * - 게임 액션 중에는 처음 한 번만 읽고 이후에는 같은 인스턴스를 반환
      */
     public CreateMapPayload getGameMapState(String roomId) {
-        try {
-            String key = GAME_MAP_PREFIX + roomId;
-            String value = redisTemplate.opsForValue().get(key);
-            if (value != null) {
-                return objectMapper.readValue(value, CreateMapPayload.class);
+        GameActionContext context = GameActionContext.currentFor(roomId);
+        if (context != null) {
+            return context.state(() -> loadGameMapState(roomId));
+        }
+        return loadGameMapState(roomId);
+    }
+
+    private CreateMapPayload loadGameMapState(String roomId) {
+        if (inMemory) {
+            CreateMapPayload cached = roomGameEngine.get(roomId);
+            if (cached == null) {
+                // 메모리에 없으면 Redis 스냅샷에서 복구
+                CreateMapPayload restored = boardTemplateCatalog.materialize(gameStateStore().load(roomId));
+                if (restored == null) {
+                    return null;
+                }
+                roomGameEngine.load(roomId, restored);
+                cached = roomGameEngine.get(roomId);
             }
-        } catch (JsonProcessingException e) {
-            log.error("게임 맵 상태 조회 실패: roomId={}", roomId, e);
+            // 액션이 중간에 실패해도 메모리 상태가 바뀌지 않도록 사본을 수정하고, 저장할 때 사본으로 교체
+            return cached.copy();
         }
-        return null;
+        return boardTemplateCatalog.materialize(gameStateStore().load(roomId));
+    }
+
+    /**
+     * 보드 템플릿을 쓰는 게임은 칸 목록 대신 오버레이만 저장하도록 사본을 만들어 저장 준비
+     * - 저장된 버전은 원본 상태에도 반영합니다.
+     */
+    private GameStateStore.PreparedWrite prepareWrite(GameStateStore store, String roomId, CreateMapPayload gameState) {
+        CreateMapPayload stored = boardTemplateCatalog.compact(gameState);
+        GameStateStore.PreparedWrite write = store.prepare(roomId, stored);
+        if (stored == gameState) {
+            return write;
+        }
+        return () -> {
+            write.write();
+            gameState.setVersion(stored.getVersion());
+        };
+    }
+
+    private GameStateStore gameStateStore() {
+        if ("hash".equalsIgnoreCase(layout)) {
+            return hashGameStateStore;
+        }
+        if ("stream".equalsIgnoreCase(layout)) {
+            return streamGameStateStore;
+        }
+        return snapshotGameStateStore;
     }
     
     /**
      * 방의 게임 맵 상태 삭제
      */
     public void deleteGameMapState(String roomId) {
-        String key = GAME_MAP_PREFIX + roomId;
-        redisTemplate.delete(key);
+        GameActionContext context = GameActionContext.currentFor(roomId);
+        if (context != null) {
+            // 액션이 끝날 때 삭제된 게임을 다시 저장하지 않도록 보류 중인 저장을 버림
+            context.markDeleted();
+        }
+        roomGameEngine.remove(roomId);
+        gameStateStore().delete(roomId);
         log.info("게임 맵 상태 삭제 완료: roomId={}", roomId);
     }
     
@@ -97,16 +213,17 @@ public class GameRedisService {
      * 게임 상태 업데이트 (TTL 갱신)
      */
     public void updateGameStateTTL(String roomId) {
-        String key = GAME_MAP_PREFIX + roomId;
-        redisTemplate.expire(key, GAME_STATE_TTL, TimeUnit.SECONDS);
+        gameStateStore().expire(roomId);
     }
     
     /**
      * 방 ID로 게임 맵 상태 존재 여부 확인
      */
     public boolean hasGameMapState(String roomId) {
-        String key = GAME_MAP_PREFIX + roomId;
-        return redisTemplate.hasKey(key);
+        if (inMemory && roomGameEngine.contains(roomId)) {
+            return true;
+        }
+        return gameStateStore().exists(roomId);
     }
 
 
@@ -0,0 +1,119 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
+import com.ssafy.BlueMarble.domain.game.entity.GameState;
+import com.ssafy.BlueMarble.global.common.game.service.BankruptcyService;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * 게임 액션 커밋 직전에 한 번 실행하는 규칙 평가 (파산 -> 스페셜 땅 -> 생존자 -> 턴 제한 순)
+ * - 액션이 바꾼 플레이어/칸(GameChangeSet)만 보고 평가합니다.
+ *   파산은 바뀐 플레이어만, 스페셜 땅은 소유자가 바뀐 칸의 새 소유자만,
+ *   생존자는 비활성 플레이어가 생겼을 때만, 턴 제한은 턴이 바뀌었을 때만 확인합니다.
+ * - 규칙이 바꾼 상태도 같은 작업 단위에 담겨 액션 결과와 함께 한 번에 저장됩니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GameRulePipeline {
+
+    private final BankruptcyService bankruptcyService;
+    private final VictoryService victoryService;
+
+    /**
+     * 바뀐 부분에 대해 파산/승리 규칙 평가
+     * @param roomId 방 ID
+     * @param state 저장할 게임 상태
+     * @param changes 액션이 바꾼 플레이어/칸
+     */
+    public void evaluate(String roomId, CreateMapPayload state, GameChangeSet changes) {
+        if (state == null || state.getPlayers() == null || !GameState.PLAYING.equals(state.getGameState())
+                || changes.isEmpty()) {
+            return;
+        }
+
+        boolean survivorsChanged = checkBankruptcy(roomId, state, changes);
+
+        String winner = findSpecialLandWinner(roomId, state, changes);
+        if (winner != null) {
+            victoryService.handleGameVictory(roomId, winner, VictoryService.SPECIAL_LAND_REASON, state);
+            return;
+        }
+
+        if (survivorsChanged) {
+            winner = victoryService.checkLastSurvivorVictory(roomId, state);
+            if (winner != null) {
+                victoryService.handleGameVictory(roomId, winner, VictoryService.LAST_SURVIVOR_REASON, state);
+                return;
+            }
+        }
+
+        if (changes.isTurnChanged()) {
+            winner = victoryService.checkTurnLimitVictory(roomId, state);
+            if (winner != null) {
+                victoryService.handleGameVictory(roomId, winner, VictoryService.TURN_LIMIT_REASON, state);
+            }
+        }
+    }
+
+    /**
+     * 바뀐 플레이어 중 자산이 음수인 활성 플레이어 파산 처리
+     * @return 비활성 플레이어가 생겼는지 여부 (생존자 조건 확인 필요)
+     */
+    private boolean checkBankruptcy(String roomId, CreateMapPayload state, GameChangeSet changes) {
+        boolean survivorsChanged = changes.isFull();
+        for (Map.Entry<String, CreateMapPayload.PlayerState> entry : state.getPlayers().entrySet()) {
+            if (!changes.isPlayerChanged(entry.getKey())) {
+                continue;
+            }
+            CreateMapPayload.PlayerState player = entry.getValue();
+            if (player.isActive() && player.getMoney() != null && player.getMoney() < 0) {
+                log.info("플레이어 파산 감지: roomId={}, userId={}, nickname={}, money={}",
+                        roomId, entry.getKey(), player.getNickname(), player.getMoney());
+                bankruptcyService.retire(state, entry.getKey());
+            }
+            if (!player.isActive()) {
+                survivorsChanged = true;
+            }
+        }
+        return survivorsChanged;
+    }
+
+    /**
+     * 소유자가 바뀐 스페셜 땅의 새 소유자가 스페셜 땅을 모두 가졌는지 확인
+     */
+    private String findSpecialLandWinner(String roomId, CreateMapPayload state, GameChangeSet changes) {
+        if (changes.isFull()) {
+            return victoryService.checkSpecialLandVictory(roomId, state);
+        }
+        BitSet tiles = changes.getTiles();
+        if (tiles.isEmpty() || state.getCurrentMap() == null) {
+            return null;
+        }
+        BoardState board = state.board();
+        int specialLandTotal = board.specialCellCount();
+        for (int position = tiles.nextSetBit(0); position >= 0; position = tiles.nextSetBit(position + 1)) {
+            if (!board.contains(position) || !board.isSpecial(position) || !board.isOwned(position)) {
+                continue;
+            }
+            int owner = board.ownerIndex(position);
+            if (specialLandTotal > 0 && board.countSpecialOwnedBy(owner) == specialLandTotal
+                    && isActive(state, board.ownerName(position))) {
+                log.info("[VICTORY] 스페셜 땅 모두 소유: roomId={}, player={}", roomId, board.ownerName(position));
+                return board.ownerName(position);
+            }
+        }
+        return null;
+    }
+
+    private boolean isActive(CreateMapPayload state, String nickname) {
+        return state.getPlayers().values().stream()
+                .anyMatch(player -> player.isActive() && nickname.equals(player.getNickname()));
+    }
+}
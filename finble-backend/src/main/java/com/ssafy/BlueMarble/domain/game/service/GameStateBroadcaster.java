@@ -0,0 +1,72 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.game.repository.GameStateFields;
+import com.ssafy.BlueMarble.global.common.event.RoomDeletedEvent;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.GameStateDeltaPayload;
+import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 상태 변경분(GAME_STATE_DELTA) 브로드캐스트
+ * - 저장할 때마다 직전에 보낸 상태와 비교해 바뀐 필드만 방 전체에 보냅니다.
+ * - 필드 값은 항상 최신 값이므로 같은 변경분을 두 번 적용해도 결과가 같습니다.
+ * - 클라이언트는 메시지 순번(seq)이 끊기면 RESYNC로 전체 상태를 다시 받습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameStateBroadcaster {
+
+    private final SessionMessageService sessionMessageService;
+
+    // 방별로 마지막에 브로드캐스트한 필드
+    private final Map<String, Map<String, String>> lastBroadcast = new ConcurrentHashMap<>();
+
+    // true면 상태 변경분을 보내고, 액션 메시지의 중복 상태 정보(플레이어 전체 목록 등)는 생략
+    @Value("${game.broadcast.delta:false}")
+    private boolean deltaEnabled;
+
+    public boolean isDeltaEnabled() {
+        return deltaEnabled;
+    }
+
+    /**
+     * 저장된 게임 상태의 변경분 전송
+     */
+    public void broadcastDelta(String roomId, CreateMapPayload state) {
+        if (!deltaEnabled) {
+            return;
+        }
+        // 오버레이는 저장용이므로 제외하고 클라이언트가 쓰는 칸 정보(currentMap) 기준으로 비교
+        Map<String, String> fields = GameStateFields.flatten(state.toBuilder().boardOverlay(null).build());
+        fields.remove(GameStateFields.VERSION);
+        Map<String, String> previous = lastBroadcast.put(roomId, fields);
+        Map<String, String> changes = previous == null ? fields : GameStateFields.diff(previous, fields);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        GameStateDeltaPayload payload = GameStateDeltaPayload.builder()
+                .version(state.getVersion())
+                .changes(changes)
+                .build();
+        sessionMessageService.sendMessageToRoom(roomId, MessageType.GAME_STATE_DELTA, payload);
+        log.debug("게임 상태 변경분 전송: roomId={}, version={}, changedFields={}",
+                roomId, state.getVersion(), changes.size());
+    }
+
+    @EventListener
+    public void handleRoomDeletedEvent(RoomDeletedEvent event) {
+        lastBroadcast.remove(event.getRoomId());
+        sessionMessageService.resetSequence(event.getRoomId());
+    }
+}
@@ -1,8 +1,6 @@
 package com.ssafy.BlueMarble.domain.game.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.BlueMarble.domain.game.dto.GameMap;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
 import com.ssafy.BlueMarble.domain.game.entity.Tile;
 import com.ssafy.BlueMarble.domain.game.dto.request.ConstructRequest;
 import com.ssafy.BlueMarble.domain.game.dto.request.TradeLandRequest;
@@ -10,7 +8,6 @@ import com.ssafy.BlueMarble.domain.room.service.RoomService;
 import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
 import com.ssafy.BlueMarble.global.common.exception.BusinessError;
 import com.ssafy.BlueMarble.global.common.exception.BusinessException;
-import com.ssafy.BlueMarble.websocket.dto.MessageDto;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.ConstructPayload;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.TradeLandPayload;
@@ -31,18 +28,18 @@ public class LandService {
 
     private final GameRedisService gameRedisService;
     private final RoomService roomService;
-    private final ObjectMapper objectMapper;
     private final SessionMessageService sessionMessageService;
     private final UserRedisService userRedisService;
     private final EconomicHistoryService economicHistoryService;
-    private final VictoryService victoryService;
+    private final GameStateBroadcaster gameStateBroadcaster;
+    private final TurnPhaseService turnPhaseService;
 
     /**
      * 땅 구매
      */
     @Transactional
     public void tradeLand(WebSocketSession session, TradeLandRequest tradeLandRequest) {
-        String roomId = roomService.getRoom(session.getId());
+        String roomId = roomService.getRoom(session);
 
         log.info("[TRADE] roomId={}, buyerName={}, landNum={}", roomId, tradeLandRequest.getBuyerName(), tradeLandRequest.getLandNum());
 
@@ -54,29 +51,33 @@ public class LandService {
 
         // 2. 맵 데이터를 가져온다.
         CreateMapPayload gameState = gameRedisService.getGameMapState(roomId);
-        GameMap mapData = gameState.getCurrentMap();
 
         // 3. 구매자의 자산 정보를 가져온다.
         CreateMapPayload.PlayerState buyer = gameState.getPlayers().get(buyerUserId);
         log.info("[TRADE] buyerUserId={}, buyerNickname={}, buyerMoney(before)={}", buyerUserId, buyer.getNickname(), buyer.getMoney());
 
         // 4. 구매하려는 땅의 정보를 찾는다.
-        Tile targetCell = mapData.getCells().get(tradeLandRequest.getLandNum());
+        BoardState board = gameState.board();
+        int landNum = tradeLandRequest.getLandNum();
+        if (!board.contains(landNum)) {
+            throw new BusinessException(BusinessError.LAND_NOT_FOUND);
+        }
+        int buyerIndex = board.ownerIndexOf(tradeLandRequest.getBuyerName());
+        if (buyerIndex == BoardState.NO_OWNER) {
+            throw new BusinessException(BusinessError.USER_NOT_FOUND);
+        }
 
         // 4.1 경제역사 효과를 적용한 실제 가격 계산
-        Long basePrice = targetCell.getLandPrice();
+        long basePrice = board.landPrice(landNum);
         Long actualPrice = economicHistoryService.calculatePropertyPriceWithEffect(basePrice, gameState.getGameTurn());
         log.info("[TRADE] 경제역사 효과 적용: 기본가격={}, 적용가격={}",
                 basePrice, actualPrice);
 
         log.info("[TRADE] targetCell: cellNumber={}, ownerName(before)={}, baseToll={}, actualPrice={}, type={}",
-                targetCell.getCellNumber(), targetCell.getOwnerName(), targetCell.getToll(), actualPrice, targetCell.getType());
-        if (targetCell.getCellNumber() != tradeLandRequest.getLandNum()) {
-            log.warn("[TRADE][WARN] landNum mismatch: req.landNum={}, cell.cellNumber={}", tradeLandRequest.getLandNum(), targetCell.getCellNumber());
-        }
+                landNum, board.ownerName(landNum), board.toll(landNum), actualPrice, board.typeOf(landNum));
 
         // 5. 땅이 이미 소유되어 있는지 확인
-        String currentOwner = targetCell.getOwnerName();
+        String currentOwner = board.ownerName(landNum);
         if (currentOwner != null) {
             // 이미 소유된 땅인 경우
             String sellerUserId = userRedisService.getUserIdByNickname(currentOwner);
@@ -103,7 +104,7 @@ public class LandService {
             seller.setMoney(seller.getMoney() + actualPrice);
             log.info("[TRADE] sellerMoney(after)={}, sellerOwnedProps(before)={}", seller.getMoney(), seller.getOwnedProperties());
             if (seller.getOwnedProperties() != null) {
-                seller.getOwnedProperties().remove(Integer.valueOf(targetCell.getCellNumber()));
+                seller.getOwnedProperties().remove(Integer.valueOf(landNum));
                 log.info("[TRADE] sellerOwnedProps(after)={}", seller.getOwnedProperties());
             }
         } else {
@@ -112,8 +113,8 @@ public class LandService {
         }
 
         // 6. 땅 주인을 구매자로 변경
-        String prevOwner = targetCell.getOwnerName();
-        targetCell.setOwnerName(tradeLandRequest.getBuyerName());
+        String prevOwner = currentOwner;
+        board.setOwner(landNum, buyerIndex);
         log.info("[TRADE] owner changed: {} -> {}", prevOwner, tradeLandRequest.getBuyerName());
 
         // 7. 구매자의 자산 업데이트 (경제역사 효과 적용된 가격)
@@ -122,7 +123,7 @@ public class LandService {
         if (buyer.getOwnedProperties() == null) {
             buyer.setOwnedProperties(new ArrayList<>());
         }
-        buyer.getOwnedProperties().add(targetCell.getCellNumber());
+        buyer.getOwnedProperties().add(landNum);
         log.info("[TRADE] buyerOwnedProps(after)={}", buyer.getOwnedProperties());
 
         // 8. 업데이트된 상태를 Redis에 저장
@@ -133,19 +134,18 @@ public class LandService {
         // 9. 다른 플레이어들에게 땅 구매 알림 전송 (경제역사 효과 적용된 가격 정보 포함)
         TradeLandPayload payload = TradeLandPayload.builder()
                 .result(true)
-                .players(gameState.getPlayers())
+                // 변경분 브로드캐스트를 쓰면 플레이어 상태는 GAME_STATE_DELTA로 이미 전달됨
+                .players(gameStateBroadcaster.isDeltaEnabled() ? null : gameState.getPlayers())
                 .actualPrice(actualPrice)
                 .basePrice(basePrice)
                 .buyerName(tradeLandRequest.getBuyerName())
                 .landNum(tradeLandRequest.getLandNum())
                 .build();
-        JsonNode payloadNode = objectMapper.valueToTree(payload);
-        MessageDto message = new MessageDto(MessageType.TRADE_LAND, payloadNode);
         log.info("[TRADE] broadcast TRADE_LAND message sent to roomId={}", roomId);
-        sessionMessageService.sendMessageToRoom(roomId, message);
+        sessionMessageService.sendMessageToRoom(roomId, MessageType.TRADE_LAND, payload);
 
-        // 10. 토지 거래 후 승리 조건 체크 (모든 승리 조건 통합 체크)
-        victoryService.checkAllVictoryConditions(roomId, gameState);
+        // 인수한 땅에 지을 건물이 남았는지 다시 확인, 없으면 턴 넘김
+        turnPhaseService.resolve(roomId, gameState, buyer);
     }
 
     /**
@@ -154,7 +154,7 @@ public class LandService {
     @Transactional
     public void constructBuilding(WebSocketSession session, ConstructRequest constructRequest) {
         //1. 건설 하려는 사람의 정보를 가져온다.
-        String roomId = roomService.getRoom(session.getId());
+        String roomId = roomService.getRoom(session);
         String userId = userRedisService.getUserIdByNickname(constructRequest.getNickname());
 
         log.info("[CONSTRUCT] roomId={}, req.nickname={}, mapped.userId={}", roomId, constructRequest.getNickname(), userId);
@@ -167,59 +167,66 @@ public class LandService {
             log.info("[CONSTRUCT] players={}", gameState.getPlayers());
         }
         log.info("[CONSTRUCT] player null? {}", user == null);
-        GameMap mapData = gameState.getCurrentMap();
+        BoardState board = gameState.board();
+        int landNum = constructRequest.getLandNum();
 
         //2.1 건설을 하려는 사람이 현재 셀에 서있는지 체크
-        if(user.getPosition() != constructRequest.getLandNum()){
+        if(user.getPosition() != landNum || !board.contains(landNum)){
             throw new BusinessException(BusinessError.INVALID_BEHAVIOR);
         }
 
         //3. 건설시도 ( 건설 자금이 충분한지 / 현재 건설하려는 땅을 소유하고 있는지 체크해야함)
-        Tile targetCell = mapData.getCells().get(constructRequest.getLandNum());
+        Tile.BuildingType targetType = constructRequest.getTargetBuildingType();
 
         //3.1 특별 땅이라면 건물을 지을 수 없음, 일반땅이 아니라면 지을 수 없음(감옥 세계여행 국세청 등등)
-        if (targetCell.getType().equals(Tile.TileType.SPECIAL) && !constructRequest.getTargetBuildingType().equals(Tile.BuildingType.FIELD)) {
+        if (board.isSpecial(landNum) && targetType != Tile.BuildingType.FIELD) {
             throw new BusinessException(BusinessError.SPECIAL_CANNOT_BUILD);
         }
 
-        if (targetCell.getType() != Tile.TileType.NORMAL && targetCell.getType() != Tile.TileType.SPECIAL) {
+        if (!board.isType(landNum, Tile.TileType.NORMAL) && !board.isSpecial(landNum)) {
             throw new BusinessException(BusinessError.CANNOT_CONSTRUCT);
         }
 
         //3.2 땅 소유 여부 확인 및 땅 구매 처리
+        int builderIndex = board.ownerIndexOf(constructRequest.getNickname());
+        if (builderIndex == BoardState.NO_OWNER) {
+            throw new BusinessException(BusinessError.USER_NOT_FOUND);
+        }
         boolean needLandPurchase = false;
-        Long landPurchaseCost = 0L;
+        long landPurchaseCost = 0L;
         
-        if (targetCell.getOwnerName() == null) {
+        if (!board.isOwned(landNum)) {
             // 땅이 소유되지 않은 경우 - 땅 구매 필요
             needLandPurchase = true;
-            landPurchaseCost = (long) targetCell.getLandPrice(); // 경제효과가 이미 적용된 가격
+            landPurchaseCost = board.landPrice(landNum); // 경제효과가 이미 적용된 가격
             log.info("[CONSTRUCT] 땅 구매 필요: 땅 가격={}", landPurchaseCost);
-        } else if (!targetCell.getOwnerName().equals(constructRequest.getNickname())) {
+        } else if (board.ownerIndex(landNum) != builderIndex) {
             // 다른 사람이 소유한 땅인 경우
             throw new BusinessException(BusinessError.CANNOT_TRADE);
         }
 
-        //3.3 목표 건물 타입까지의 총 건설 비용 계산
-        Tile.BuildingType currentType = targetCell.getBuildingType();
-        Tile.BuildingType targetType = constructRequest.getTargetBuildingType();
+        //3.3 목표 건물 타입까지의 총 건설 비용 계산 (건물이 없는 땅은 FIELD에서 시작)
+        int currentLevel = Math.max(board.buildingLevel(landNum), Tile.BuildingType.FIELD.ordinal());
+        int targetLevel = targetType.ordinal();
 
-        Long totalBuildingCost = calculateTotalConstructCost(targetType, targetCell);
+        // FIELD가 목표라면 건설 비용 없음 (땅 구매만)
+        long totalBuildingCost = targetType == Tile.BuildingType.FIELD
+                ? 0L : board.totalBuildingCost(landNum, currentLevel, targetLevel);
         log.info("[CONSTRUCT] 건설 비용 계산: {} -> {} = {} (Redis에서 가져온 경제효과 적용된 비용)",
-                currentType, targetType, totalBuildingCost);
+                currentLevel, targetType, totalBuildingCost);
 
         //3.4 총 비용 계산 (땅 구매 + 건물 건설)
-        Long totalCost = landPurchaseCost + totalBuildingCost;
+        long totalCost = landPurchaseCost + totalBuildingCost;
         log.info("[CONSTRUCT] 총 비용: 땅구매={} + 건설={} = {}", landPurchaseCost, totalBuildingCost, totalCost);
 
         //3.5 유효성 검사
         // 현재 건물 타입보다 높은 타입만 건설 가능 (FIELD는 땅 구매로 처리)
-        if (targetType != Tile.BuildingType.FIELD && targetType.ordinal() <= currentType.ordinal()) {
+        if (targetType != Tile.BuildingType.FIELD && targetLevel <= currentLevel) {
             throw new BusinessException(BusinessError.INVALID_BUILDING_TYPE);
         }
 
         // 최대 건물 타입 제한 (HOTEL까지만)
-        if (currentType == Tile.BuildingType.HOTEL) {
+        if (currentLevel == Tile.BuildingType.HOTEL.ordinal()) {
             throw new BusinessException(BusinessError.MAX_BUILDING_REACHED);
         }
 
@@ -230,17 +237,17 @@ public class LandService {
 
         //3.6 땅 구매 처리
         if (needLandPurchase) {
-            targetCell.setOwnerName(constructRequest.getNickname());
+            board.setOwner(landNum, builderIndex);
             if (user.getOwnedProperties() == null) {
                 user.setOwnedProperties(new ArrayList<>());
             }
-            user.getOwnedProperties().add(targetCell.getCellNumber());
+            user.getOwnedProperties().add(landNum);
             log.info("[CONSTRUCT] 땅 구매 완료: 소유자={}, 소유 땅 목록={}", constructRequest.getNickname(), user.getOwnedProperties());
         }
 
         //3.7 건물 타입을 목표 타입으로 변경
-        targetCell.setBuildingType(targetType);
-        log.info("[CONSTRUCT] 건물 타입 변경: {} -> {}", currentType, targetType);
+        board.setBuildingLevel(landNum, targetLevel);
+        log.info("[CONSTRUCT] 건물 타입 변경: {} -> {}", currentLevel, targetType);
 
         // 3.8 총 비용 차감 (땅 구매 + 건설 비용)
         user.setMoney(user.getMoney() - totalCost);
@@ -253,8 +260,8 @@ public class LandService {
         ConstructPayload payload = ConstructPayload.builder()
                 .result(true)
                 .nickname(constructRequest.getNickname())
-                .landNum(constructRequest.getLandNum())
-                .buildingType(targetCell.getBuildingType())
+                .landNum(landNum)
+                .buildingType(targetType)
                 .updatedAsset(
                         ConstructPayload.Asset.builder()
                                 .money(user.getMoney())
@@ -262,57 +269,12 @@ public class LandService {
                                 .build()
                 )
                 .actualBuildingCost(totalBuildingCost)
-                .baseBuildingCost(targetCell.getToll())
+                .baseBuildingCost(board.toll(landNum))
                 .build();
 
-        JsonNode payloadNode = objectMapper.valueToTree(payload);
-        MessageDto message = new MessageDto(MessageType.CONSTRUCT_BUILDING, payloadNode);
-        sessionMessageService.sendMessageToRoom(roomId, message);
-        
-        //6. 토지 거래 후 승리 조건 체크
-        victoryService.checkAllVictoryConditions(roomId, gameState);
-    }
-
-    /**
-     * 현재 건물 타입에서 목표 건물 타입까지의 총 건설 비용 계산
-     */
-    private Long calculateTotalConstructCost(Tile.BuildingType target,
-                                            Tile targetCell) {
-        Tile.BuildingType current = targetCell.getBuildingType();
-
-        // FIELD가 목표라면 땅 구매 비용 반환
-        if (target == Tile.BuildingType.FIELD) {
-            return 0L;
-        }
-
-        Long totalCost = 0L;
-
-        // 현재 타입의 다음 단계부터 목표 타입까지의 각 단계 비용 계산
-        for (int i = current.ordinal() + 1; i <= target.ordinal(); i++) {
-            Tile.BuildingType buildingType = Tile.BuildingType.values()[i];
-            Long stepCost = getBuildingCostFromTile(buildingType, targetCell);
-            totalCost += stepCost;
-
-            log.info("[CONSTRUCT] 단계별 비용: {} -> {} = {} (Redis에서 가져온 경제효과 적용된 비용)",
-                    Tile.BuildingType.values()[i - 1], buildingType, stepCost);
-        }
+        sessionMessageService.sendMessageToRoom(roomId, MessageType.CONSTRUCT_BUILDING, payload);
 
-        return totalCost;
-    }
-
-    /**
-     * Tile에서 건물 타입별 건설 비용 가져오기 (이미 경제 효과가 적용된 비용)
-     */
-    private Long getBuildingCostFromTile(Tile.BuildingType buildingType, Tile tile) {
-        switch (buildingType) {
-            case VILLA:
-                return tile.getHousePrice();
-            case BUILDING:
-                return tile.getBuildingPrice();
-            case HOTEL:
-                return tile.getHotelPrice();
-            default:
-                return 0L;
-        }
+        // 더 지을 수 없거나 돈이 모자라면 바로 턴 종료
+        turnPhaseService.resolve(roomId, gameState, user);
     }
 }
@@ -0,0 +1,110 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 방 ID로 나눈 실행 레인 (레인마다 스레드 1개)
+ * - 같은 방의 작업은 항상 같은 레인에서 들어온 순서대로 실행되므로 서로 경합하지 않습니다.
+ * - 레인 수는 기본적으로 CPU 코어 수이며, 여러 방이 레인에 고르게 나뉘어 모든 코어를 사용합니다.
+ * - 레인별 대기 작업 수(room.lane.queue.depth)와 대기 시간(room.lane.wait)을 기록합니다.
+ */
+@Slf4j
+@Component
+public class RoomExecutionLanes {
+
+    private final MeterRegistry meterRegistry;
+
+    // 0이면 CPU 코어 수만큼 레인 생성
+    @Value("${game.lanes.count:0}")
+    private int laneCount;
+
+    private Lane[] lanes;
+
+    public RoomExecutionLanes(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = new Lane(i);
+        }
+        log.info("방 실행 레인 초기화: lanes={}", count);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+    }
+
+    /**
+     * 방의 레인에 작업 추가 (실패 시 onError 호출)
+     * @param roomId 방 ID
+     * @param task 실행할 작업
+     * @param onError 작업이 예외를 던졌을 때 처리
+     */
+    public void submit(String roomId, RoomGameEngine.RoomAction task, Consumer<Exception> onError) {
+        Lane lane = laneOf(roomId);
+        long enqueuedAt = System.nanoTime();
+        lane.executor.execute(() -> {
+            lane.waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } catch (Exception e) {
+                onError.accept(e);
+            }
+        });
+    }
+
+    /**
+     * 방이 배정된 레인 번호
+     */
+    public int laneIndex(String roomId) {
+        return Math.floorMod(roomId.hashCode(), lanes.length);
+    }
+
+    private Lane laneOf(String roomId) {
+        return lanes[laneIndex(roomId)];
+    }
+
+    private final class Lane {
+
+        private final ThreadPoolExecutor executor;
+        private final Timer waitTimer;
+
+        private Lane(int index) {
+            String name = "room-lane-" + index;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            String lane = String.valueOf(index);
+            Gauge.builder("room.lane.queue.depth", executor, pool -> pool.getQueue().size())
+                    .description("레인에서 실행을 기다리는 작업 수")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder("room.lane.wait")
+                    .description("작업이 레인 큐에서 실행되기까지 기다린 시간")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * 방별 게임 상태를 JVM 메모리에 보관하는 단일 작성자(single-writer) 엔진
+ * - 같은 방의 게임 로직은 execute()로 직렬화되어 실행됩니다.
+ * - Redis에는 GameRedisService가 주기적으로 스냅샷만 기록합니다 (write-behind).
+ * - 방 슬롯과 잠금은 상태를 지워도 유지하며, 비어 있거나 유휴 상태인 슬롯은 잠금을 잡은 채로만 제거합니다.
+ *   잠금을 얻은 뒤 슬롯이 아직 등록되어 있는지 다시 확인하므로 같은 방에 잠금이 둘 생기지 않습니다.
+ */
+@Slf4j
+@Component
+public class RoomGameEngine {
+
+    private final ConcurrentHashMap<String, RoomSlot> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 예외를 던질 수 있는 방 단위 작업
+     */
+    @FunctionalInterface
+    public interface RoomAction {
+        void run() throws Exception;
+    }
+
+    /**
+     * 방의 작성 권한을 획득한 상태로 작업 실행 (재진입 가능)
+     */
+    public void execute(String roomId, RoomAction action) throws Exception {
+        RoomSlot slot = lock(roomId);
+        try {
+            action.run();
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * 메모리에 올라와 있는 게임 상태 조회 (없으면 null, 수정하려면 사본을 만들어 put으로 교체)
+     */
+    public CreateMapPayload get(String roomId) {
+        RoomSlot slot = rooms.get(roomId);
+        if (slot == null) {
+            return null;
+        }
+        slot.lastAccessMillis = System.currentTimeMillis();
+        return slot.state;
+    }
+
+    /**
+     * Redis 등에서 복구한 상태를 메모리에 적재 (스냅샷 대상 아님)
+     */
+    public void load(String roomId, CreateMapPayload state) {
+        RoomSlot slot = lock(roomId);
+        try {
+            if (slot.state == null) {
+                slot.state = state;
+                slot.dirty = false;
+            }
+            slot.lastAccessMillis = System.currentTimeMillis();
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * 변경된 게임 상태 반영 후 스냅샷 대상으로 표시
+     */
+    public void put(String roomId, CreateMapPayload state) {
+        RoomSlot slot = lock(roomId);
+        try {
+            slot.state = state;
+            slot.dirty = true;
+            slot.lastAccessMillis = System.currentTimeMillis();
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 저장에 실패한 방을 다시 dirty 상태로 표시
+     */
+    public void markDirty(String roomId) {
+        RoomSlot slot = rooms.get(roomId);
+        if (slot != null) {
+            slot.dirty = true;
+        }
+    }
+
+    public boolean contains(String roomId) {
+        RoomSlot slot = rooms.get(roomId);
+        return slot != null && slot.state != null;
+    }
+
+    /**
+     * 방의 게임 상태를 메모리에서 비움 (슬롯과 잠금은 유지, 빈 슬롯은 evictIdle이 정리)
+     * - 해당 방의 액션 안에서 호출되어도 같은 잠금을 재진입하므로 다른 액션과 겹치지 않습니다.
+     */
+    public void remove(String roomId) {
+        RoomSlot slot = rooms.get(roomId);
+        if (slot == null) {
+            return;
+        }
+        slot.lock.lock();
+        try {
+            slot.state = null;
+            slot.dirty = false;
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * dirty 상태인 방들을 방 잠금 안에서 인코딩하고 dirty 표시를 해제
+     * - 인코딩만 잠금 안에서 수행하고, 실제 Redis 쓰기는 호출자가 잠금 밖에서 수행합니다.
+     */
+    public <T> Map<String, T> drainDirtySnapshots(BiFunction<String, CreateMapPayload, T> encoder) {
+        Map<String, T> snapshots = new LinkedHashMap<>();
+        for (Map.Entry<String, RoomSlot> entry : rooms.entrySet()) {
+            RoomSlot slot = entry.getValue();
+            if (!slot.dirty) {
+                continue;
+            }
+            slot.lock.lock();
+            try {
+                if (slot.dirty && slot.state != null) {
+                    T encoded = encoder.apply(entry.getKey(), slot.state);
+                    if (encoded != null) {
+                        snapshots.put(entry.getKey(), encoded);
+                    }
+                    slot.dirty = false;
+                }
+            } finally {
+                slot.lock.unlock();
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * 일정 시간 접근이 없고 스냅샷까지 끝난 방과 상태를 비운 방의 슬롯을 메모리에서 제거
+     * - 잠금을 바로 얻을 수 있고 기다리는 스레드가 없는 슬롯만 제거합니다.
+     */
+    public int evictIdle(long idleMillis) {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        for (Map.Entry<String, RoomSlot> entry : rooms.entrySet()) {
+            RoomSlot slot = entry.getValue();
+            boolean idle = slot.state == null || now - slot.lastAccessMillis > idleMillis;
+            if (slot.dirty || !idle || !slot.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (!slot.dirty && !slot.lock.hasQueuedThreads() && rooms.remove(entry.getKey(), slot)) {
+                    evicted++;
+                }
+            } finally {
+                slot.lock.unlock();
+            }
+        }
+        if (evicted > 0) {
+            log.info("유휴 방 게임 상태 메모리 해제: count={}", evicted);
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    /**
+     * 방 슬롯의 잠금 획득 (기다리는 동안 슬롯이 제거되었으면 새 슬롯으로 다시 시도)
+     */
+    private RoomSlot lock(String roomId) {
+        while (true) {
+            RoomSlot slot = rooms.computeIfAbsent(roomId, id -> new RoomSlot());
+            slot.lock.lock();
+            if (rooms.get(roomId) == slot) {
+                return slot;
+            }
+            slot.lock.unlock();
+        }
+    }
+
+    private static class RoomSlot {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile CreateMapPayload state;
+        private volatile boolean dirty;
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,144 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.Timer.Service.TimerService;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
+import com.ssafy.BlueMarble.domain.game.entity.GameState;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.domain.game.entity.TurnPhase;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 턴 진행 단계 판단
+ * - 주사위 이동이나 플레이어 결정을 처리한 뒤(RESOLVE) 도착 칸에서 더 결정할 것이 있으면 DECIDE, 없으면 END입니다.
+ * - END면 30초 타이머나 TURN_SKIP을 기다리지 않고 바로 턴을 넘기고 다음 타이머를 시작합니다. (game.turn.auto-advance)
+ * - 턴 넘기기는 파산/승리 규칙을 평가한 뒤에 하고, 그 사이 파산했거나 게임이 끝났으면 넘기지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TurnPhaseService {
+
+    private final TimerService timerService;
+    private final EconomicHistoryService economicHistoryService;
+
+    @Value("${game.turn.auto-advance:true}")
+    private boolean autoAdvance;
+
+    /**
+     * 도착 칸 처리가 끝난 뒤 다음 단계로 진행 (결정할 것이 없으면 턴 종료)
+     * @return 다음 단계 (DECIDE 또는 END)
+     */
+    public TurnPhase resolve(String roomId, CreateMapPayload gameState, CreateMapPayload.PlayerState player) {
+        return advance(roomId, gameState, player, needsDecision(gameState, player));
+    }
+
+    /**
+     * 칸에서 할 결정을 처리해 더 남은 것이 없음 (국세청 납부처럼 한 번으로 끝나는 결정)
+     */
+    public TurnPhase complete(String roomId, CreateMapPayload gameState, CreateMapPayload.PlayerState player) {
+        return advance(roomId, gameState, player, false);
+    }
+
+    private TurnPhase advance(String roomId, CreateMapPayload gameState, CreateMapPayload.PlayerState player,
+                              boolean needsDecision) {
+        TurnPhase phase = TurnPhase.RESOLVE.next(needsDecision);
+        log.debug("턴 단계: roomId={}, player={}, position={}, phase={}",
+                roomId, player.getNickname(), player.getPosition(), phase);
+        if (phase == TurnPhase.END && autoAdvance && isCurrentPlayer(gameState, player.getNickname())) {
+            String nickname = player.getNickname();
+            GameActionContext context = GameActionContext.currentFor(roomId);
+            if (context != null) {
+                // 파산/승리 규칙을 평가한 뒤의 상태로 판단 (액션 중 새로 저장한 인스턴스일 수 있음)
+                context.afterRules(() -> advanceTurn(roomId, context.state(() -> gameState), nickname));
+            } else {
+                advanceTurn(roomId, gameState, nickname);
+            }
+        }
+        return phase;
+    }
+
+    /**
+     * 턴을 넘기고 다음 타이머 시작 (타이머 취소/예약은 저장 성공 후)
+     * - 게임이 끝났거나 삭제됐으면, 또는 플레이어가 파산했으면 넘기지 않습니다.
+     */
+    private void advanceTurn(String roomId, CreateMapPayload gameState, String nickname) {
+        if (gameState == null || !GameState.PLAYING.equals(gameState.getGameState())) {
+            log.debug("게임이 진행 중이 아니어서 턴을 넘기지 않음: roomId={}, player={}", roomId, nickname);
+            return;
+        }
+        CreateMapPayload.PlayerState player = findPlayer(gameState, nickname);
+        if (player == null || !player.isActive() || (player.getMoney() != null && player.getMoney() < 0)) {
+            log.debug("파산한 플레이어여서 턴을 넘기지 않음: roomId={}, player={}", roomId, nickname);
+            return;
+        }
+        if (!isCurrentPlayer(gameState, nickname)) {
+            return;
+        }
+        timerService.cancelTurnTimer(roomId, nickname);
+    }
+
+    private static CreateMapPayload.PlayerState findPlayer(CreateMapPayload gameState, String nickname) {
+        if (gameState.getPlayers() == null) {
+            return null;
+        }
+        return gameState.getPlayers().values().stream()
+                .filter(player -> nickname.equals(player.getNickname()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean isCurrentPlayer(CreateMapPayload gameState, String nickname) {
+        int index = gameState.getCurrentPlayerIndex();
+        return gameState.getPlayerOrder() != null && index < gameState.getPlayerOrder().size()
+                && gameState.getPlayerOrder().get(index).equals(nickname);
+    }
+
+    /**
+     * 플레이어가 현재 칸에서 더 결정할 것이 있는지
+     * - 빈 땅은 살 돈이 있을 때, 자기 일반땅은 다음 건물을 지을 돈이 있을 때만 결정이 남은 것으로 봅니다.
+     * - 남의 땅은 통행료를 낸 뒤 인수 가격(경제역사 효과 적용)을 낼 돈이 있으면 인수(TRADE_LAND) 결정이 남습니다.
+     * - 세계여행(목적지 선택)과 국세청(납부 요청)은 클라이언트가 보내는 메시지를 기다립니다.
+     */
+    boolean needsDecision(CreateMapPayload gameState, CreateMapPayload.PlayerState player) {
+        if (player.isInJail()) {
+            return false;
+        }
+        BoardState board = gameState.board();
+        int position = player.getPosition();
+        if (!board.contains(position)) {
+            return false;
+        }
+        Tile.TileType type = board.typeOf(position);
+        if (type == Tile.TileType.AIRPLANE || type == Tile.TileType.NTS) {
+            return true;
+        }
+        boolean special = board.isSpecial(position);
+        if (type != Tile.TileType.NORMAL && !special) {
+            return false;
+        }
+
+        long money = player.getMoney() != null ? player.getMoney() : 0L;
+        int ownerIndex = board.ownerIndex(position);
+        if (ownerIndex == BoardState.NO_OWNER) {
+            return money >= board.landPrice(position);
+        }
+        if (ownerIndex != board.ownerIndexOf(player.getNickname())) {
+            Long buyoutPrice = economicHistoryService.calculatePropertyPriceWithEffect(
+                    board.landPrice(position), gameState.getGameTurn());
+            return buyoutPrice != null && money >= buyoutPrice;
+        }
+        // 특별땅에는 건물을 지을 수 없음
+        if (special) {
+            return false;
+        }
+        int level = Math.max(board.buildingLevel(position), Tile.BuildingType.FIELD.ordinal());
+        if (level >= Tile.BuildingType.HOTEL.ordinal()) {
+            return false;
+        }
+        return money >= board.buildingCost(position, level + 1);
+    }
+}
@@ -1,11 +1,11 @@
 
 package com.ssafy.BlueMarble.domain.game.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.Timer.Service.GameClock;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
 import com.ssafy.BlueMarble.domain.game.entity.GameState;
-import com.ssafy.BlueMarble.domain.game.service.MapService;
 import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
-import com.ssafy.BlueMarble.websocket.dto.MessageDto;
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.EndGamePayload;
@@ -31,12 +31,17 @@ public class VictoryService {
     private final SessionMessageService sessionMessageService;
     private final GameRedisService gameRedisService;
     private final UserRedisService userRedisService;
-    private final ObjectMapper objectMapper;
     private final MapService mapService;
+    private final GameClock gameClock;
 
     // 싸피 스페셜 땅 위치 (광주, 대전, 구미, 부산, 서울)
     private static final List<Integer> SPECIAL_LAND_POSITIONS = Arrays.asList(5, 13, 21, 28, 31);
 
+    // 승리 사유
+    static final String SPECIAL_LAND_REASON = "스페셜 땅 5개 소유 달성!";
+    static final String LAST_SURVIVOR_REASON = "마지막 생존자!";
+    static final String TURN_LIMIT_REASON = "20턴 후 최고 자산가!";
+
     /**
      * 스페셜 땅 5개 모두 소유 승리 조건 체크
      * @param roomId 방 ID
@@ -45,28 +50,28 @@ public class VictoryService {
      */
     public String checkSpecialLandVictory(String roomId, CreateMapPayload gameState) {
         try {
-            if (gameState == null || gameState.getPlayers() == null) {
+            if (gameState == null || gameState.getPlayers() == null || gameState.getCurrentMap() == null) {
                 return null;
             }
 
-            // 각 플레이어가 소유한 스페셜 땅 개수 체크
+            // 각 플레이어가 소유한 스페셜 땅 개수 체크 (보드의 소유자 인덱스 기준)
+            BoardState board = gameState.board();
+            int specialLandTotal = board.specialCellCount();
             for (Map.Entry<String, CreateMapPayload.PlayerState> entry : gameState.getPlayers().entrySet()) {
                 String userId = entry.getKey();
                 CreateMapPayload.PlayerState player = entry.getValue();
 
-                if (!player.isActive() || player.getOwnedProperties() == null) {
+                if (!player.isActive()) {
                     continue;
                 }
 
                 // 플레이어가 소유한 스페셜 땅 개수 카운트
-                long specialLandCount = player.getOwnedProperties().stream()
-                        .filter(SPECIAL_LAND_POSITIONS::contains)
-                        .count();
+                int specialLandCount = board.countSpecialOwnedBy(board.ownerIndexOf(player.getNickname()));
 
-                log.info("[VICTORY_CHECK] 플레이어 {} 스페셜 땅 소유 개수: {}/5", player.getNickname(), specialLandCount);
+                log.debug("[VICTORY_CHECK] 플레이어 {} 스페셜 땅 소유 개수: {}/{}", player.getNickname(), specialLandCount, specialLandTotal);
 
-                // 스페셜 땅 5개를 모두 소유한 경우 승리
-                if (specialLandCount == 5) {
+                // 스페셜 땅을 모두 소유한 경우 승리
+                if (specialLandTotal > 0 && specialLandCount == specialLandTotal) {
                     log.info("[VICTORY] 스페셜 땅 5개 소유 승리: player={}, userId={}", player.getNickname(), userId);
                     return player.getNickname(); // 승리자만 return, 승리 처리는 상위에서
                 }
@@ -87,7 +92,7 @@ public class VictoryService {
      * @param victoryReason 승리 사유
      * @param gameState 현재 게임 상태 (동시성 보장을 위해 매개변수로 받음)
      */
-    private void handleGameVictory(String roomId, String winnerNickname, String victoryReason, CreateMapPayload gameState) {
+    void handleGameVictory(String roomId, String winnerNickname, String victoryReason, CreateMapPayload gameState) {
         try {
             // 게임 상태를 종료로 변경 (매개변수로 받은 gameState 사용)
             if (gameState != null) {
@@ -99,12 +104,10 @@ public class VictoryService {
             EndGamePayload endGamePayload = EndGamePayload.builder()
                     .winnerNickname(winnerNickname)
                     .victoryReason(victoryReason)
-                    .gameEndTime(System.currentTimeMillis())
+                    .gameEndTime(gameClock.millis())
                     .build();
 
-            var payloadNode = objectMapper.valueToTree(endGamePayload);
-            MessageDto victoryMessage = new MessageDto(MessageType.GAME_END, payloadNode);
-            sessionMessageService.sendMessageToRoom(roomId, victoryMessage);
+            sessionMessageService.sendMessageToRoom(roomId, MessageType.GAME_END, endGamePayload);
 
             log.info("[VICTORY] 게임 종료 메시지 전송 완료: roomId={}, winner={}, reason={}",
                     roomId, winnerNickname, victoryReason);
@@ -117,13 +120,15 @@ public class VictoryService {
 
             log.info("[VICTORY] 게임 정리 완료: roomId={}", roomId);
 
+        } catch (GameStateConflictException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[VICTORY] 게임 승리 처리 중 오류 발생: roomId={}, winner={}", roomId, winnerNickname, e);
         }
     }
 
     /**
-     * 부동산 거래 후 승리 조건 체크 (AOP나 이벤트에서 호출)
+     * 저장된 상태로 모든 승리 조건 체크 (게임 액션 밖에서 호출)
      * @param roomId 방 ID
      */
     public void checkVictoryAfterLandTrade(String roomId) {
@@ -155,7 +160,7 @@ public class VictoryService {
      * @param gameState 현재 게임 상태
      * @return 승리한 플레이어의 닉네임 (승리자가 없으면 null)
      */
-    private String checkLastSurvivorVictory(String roomId, CreateMapPayload gameState) {
+    String checkLastSurvivorVictory(String roomId, CreateMapPayload gameState) {
         try {
             List<CreateMapPayload.PlayerState> activePlayers = gameState.getPlayers().values().stream()
                     .filter(CreateMapPayload.PlayerState::isActive)
@@ -185,7 +190,7 @@ public class VictoryService {
      * @param gameState 현재 게임 상태
      * @return 승리한 플레이어의 닉네임 (승리자가 없으면 null)
      */
-    private String checkTurnLimitVictory(String roomId, CreateMapPayload gameState) {
+    String checkTurnLimitVictory(String roomId, CreateMapPayload gameState) {
         try {
             // 20턴을 초과한 경우에만 체크
             if (gameState.getGameTurn() <= 20) {
@@ -274,21 +279,21 @@ public class VictoryService {
             // 1. 스페셜 땅 5개 소유 승리 조건 체크 (최우선)
             String specialLandWinner = checkSpecialLandVictory(roomId, gameState);
             if (specialLandWinner != null) {
-                handleGameVictory(roomId, specialLandWinner, "스페셜 땅 5개 소유 달성!", gameState);
+                handleGameVictory(roomId, specialLandWinner, SPECIAL_LAND_REASON, gameState);
                 return specialLandWinner;
             }
 
             // 2. 생존자 승리 조건 체크 (다른 플레이어 모두 파산)
             String lastSurvivorWinner = checkLastSurvivorVictory(roomId, gameState);
             if (lastSurvivorWinner != null) {
-                handleGameVictory(roomId, lastSurvivorWinner, "마지막 생존자!", gameState);
+                handleGameVictory(roomId, lastSurvivorWinner, LAST_SURVIVOR_REASON, gameState);
                 return lastSurvivorWinner;
             }
 
             // 3. 턴 제한 승리 조건 체크 (20턴 후 최고 자산 플레이어)
             String turnLimitWinner = checkTurnLimitVictory(roomId, gameState);
             if (turnLimitWinner != null) {
-                handleGameVictory(roomId, turnLimitWinner, "20턴 후 최고 자산가!", gameState);
+                handleGameVictory(roomId, turnLimitWinner, TURN_LIMIT_REASON, gameState);
                 return turnLimitWinner;
             }
 
@@ -15,6 +15,7 @@ import com.ssafy.BlueMarble.websocket.dto.MessageDto;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
 import com.ssafy.BlueMarble.websocket.dto.dto.UserListDto;
 import com.ssafy.BlueMarble.websocket.dto.payload.room.*;
+import com.ssafy.BlueMarble.websocket.service.RoomSessionIndex;
 import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
 import com.ssafy.BlueMarble.websocket.service.WebSocketSessionService;
 import lombok.RequiredArgsConstructor;
@@ -39,12 +40,15 @@ public class RoomService {
     private final String roomIdKey = "room:id"; //room id들 관리하는 키
     private final String ROOM_NUMBER_KEY = "room:number"; //roomId관리하는 키
     private final String SESSIONID_TO_ROOM_KEY = "session:room";  // sessionId -> roomNum
+    // 세션 속성에 저장하는 방 ID (session:room과 같은 값)
+    public static final String ROOM_ID_ATTRIBUTE = "roomId";
 
     private final RedisTemplate<String, String> redisTemplate;
     private final SessionMessageService sessionMessageService;
     private final UserRedisService userRedisService;
     private final ObjectMapper objectMapper;
     private final WebSocketSessionService webSocketSessionService;
+    private final RoomSessionIndex roomSessionIndex;
     private final ApplicationEventPublisher eventPublisher;
     private final int MAX_USER_LIMIT = 4;
 
@@ -70,7 +74,7 @@ public class RoomService {
 
         //방 id -> 유저 리스트
         String sessionId = session.getId();
-        String userId = webSocketSessionService.getUserIdBySessionId(sessionId);
+        String userId = webSocketSessionService.getUserId(session);
         log.info("세션 정보 확인: sessionId={}, userId={}", sessionId, userId);
         if("null".equals(userId))
             throw new BusinessException(BusinessError.USER_ID_NOT_FOUND);
@@ -108,7 +112,8 @@ public class RoomService {
 
         //session -> roomId
         log.info("addRoom 호출 - roomId: {}, sessionId: {}", roomId, sessionId);
-        addRoom(sessionId, roomId);
+        addRoom(session, roomId);
+        roomSessionIndex.join(roomId, userId, session);
 
         // 생성 성공 응답 전송
         JsonNode okPayload = objectMapper.createObjectNode().put("roomId", roomId);
@@ -165,7 +170,7 @@ public class RoomService {
     public void enterRoom(WebSocketSession session, EnterRoomPayload enterRoomPayload) throws IOException {
         String roomId = enterRoomPayload.getRoomId();
         String sessionId = session.getId();
-        String userId = webSocketSessionService.getUserIdBySessionId(sessionId);
+        String userId = webSocketSessionService.getUserId(session);
         if(roomId == null)
             throw new BusinessException(BusinessError.ROOM_ID_NOT_FOUND);
         if("null".equals(userId))
@@ -217,7 +222,7 @@ public class RoomService {
         sessionMessageService.sendMessage(session, message);
 
         //이후 roomId에 속한 session들에게 새로운 유저 정보 전달
-        String nickname = userRedisService.getNickname(userId);
+        String nickname = nicknameOf(session, userId);
 
         JsonNode jsonNode = objectMapper.valueToTree(new NewUserPayload(userId, nickname));
         message = new MessageDto(MessageType.ENTER_NEW_USER, jsonNode);
@@ -228,23 +233,26 @@ public class RoomService {
 
         //redis방에 사람 추가
         redisTemplate.opsForSet().add(usersKey, userId);
-        addRoom(sessionId, roomId);
+        addRoom(session, roomId);
+        roomSessionIndex.join(roomId, userId, session);
 
     }
 
     public void exitRoom(WebSocketSession session) {
-        String roomId = getRoom(session.getId());
+        String roomId = getRoom(session);
         String sessionId = session.getId();
-        String userId = webSocketSessionService.getUserIdBySessionId(sessionId);
-        String userNickName = userRedisService.getNickname(userId);
+        String userId = webSocketSessionService.getUserId(session);
+        String userNickName = nicknameOf(session, userId);
         //세션->방번호 삭제
         redisTemplate.opsForHash().delete(SESSIONID_TO_ROOM_KEY, sessionId);
+        session.getAttributes().remove(ROOM_ID_ATTRIBUTE);
         //
         webSocketSessionService.removeSession(sessionId);
 
         //방 번호 -> 유저 id 삭제
         String usersKey = "room:" + roomId + ":users";
         redisTemplate.opsForSet().remove(usersKey, userId);
+        roomSessionIndex.leave(roomId, userId);
 
         //방에 아무도 없다면 방을 삭제하기
         Set<String> userSet = redisTemplate.opsForSet().members(usersKey);
@@ -299,13 +307,13 @@ public class RoomService {
     }
 
     public void kick(WebSocketSession session, KickRoomPayload kickRoomPayload) {
-        String sessionId = session.getId();
         String kickedUserNickname = kickRoomPayload.getUserNickname();
         String kickedUserId = userRedisService.getUserIdByNickname(kickedUserNickname);
-        String roomId = getRoom(sessionId);
+        String roomId = getRoom(session);
 
         String usersKey = "room:" + roomId + ":users";
         redisTemplate.opsForSet().remove(usersKey, kickedUserId);
+        roomSessionIndex.leave(roomId, kickedUserId);
 
         //강제 퇴장 된 유저를 남은 유저에게 알리기
         Set<String> users = redisTemplate.opsForSet().members(usersKey);
@@ -347,9 +355,11 @@ public class RoomService {
         return userId.equals(ownerId);
     }
 
-    public void addRoom(String sessionId, String roomId) {
+    public void addRoom(WebSocketSession session, String roomId) {
+        String sessionId = session.getId();
         log.info("addRoom 메서드 시작 - sessionId: {}, roomId: {}", sessionId, roomId);
         redisTemplate.opsForHash().put(SESSIONID_TO_ROOM_KEY, sessionId, String.valueOf(roomId));
+        session.getAttributes().put(ROOM_ID_ATTRIBUTE, String.valueOf(roomId));
         log.info("addRoom 메서드 완료 - sessionId: {}, roomId: {}", sessionId, roomId);
     }
 
@@ -357,6 +367,29 @@ public class RoomService {
         return (String) redisTemplate.opsForHash().get(SESSIONID_TO_ROOM_KEY, sessionId);
     }
 
+    // 세션 사용자 닉네임 (세션 속성에 없을 때만 Redis 조회)
+    private String nicknameOf(WebSocketSession session, String userId) {
+        String nickname = webSocketSessionService.getNickname(session);
+        return nickname != null ? nickname : userRedisService.getNickname(userId);
+    }
+
+    /**
+     * 세션이 속한 방 ID
+     * - 세션 속성에 저장된 값을 먼저 사용하고, 없을 때만 Redis(session:room)에서 읽어 속성에 저장합니다.
+     * - 세션 → 방 매핑은 이 서버에 연결된 세션의 방 생성/입장/퇴장에서만 바뀌므로 속성과 Redis가 어긋나지 않습니다.
+     */
+    public String getRoom(WebSocketSession session) {
+        Object cached = session.getAttributes().get(ROOM_ID_ATTRIBUTE);
+        if (cached != null) {
+            return (String) cached;
+        }
+        String roomId = getRoom(session.getId());
+        if (roomId != null) {
+            session.getAttributes().put(ROOM_ID_ATTRIBUTE, roomId);
+        }
+        return roomId;
+    }
+
     public FastStartResponse fastStart()  {
         Set<String> roomIdSet = redisTemplate.opsForSet().members(roomIdKey);
 
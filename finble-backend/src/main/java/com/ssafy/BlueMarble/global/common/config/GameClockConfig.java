@@ -0,0 +1,24 @@
+package com.ssafy.BlueMarble.global.common.config;
+
+import com.ssafy.BlueMarble.domain.Timer.Service.GameClock;
+import com.ssafy.BlueMarble.domain.Timer.Service.SystemGameClock;
+import com.ssafy.BlueMarble.domain.Timer.Service.TurnTimerWheel;
+import com.ssafy.BlueMarble.domain.Timer.Service.VirtualGameClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GameClockConfig {
+
+    /**
+     * 게임 시계 (game.clock.virtual=true면 시뮬레이션용 가상 시계, 시작 시각은 현재 시각)
+     */
+    @Bean
+    public GameClock gameClock(@Value("${game.clock.virtual:false}") boolean virtual, TurnTimerWheel turnTimerWheel) {
+        if (virtual) {
+            return new VirtualGameClock(System.currentTimeMillis());
+        }
+        return new SystemGameClock(turnTimerWheel);
+    }
+}
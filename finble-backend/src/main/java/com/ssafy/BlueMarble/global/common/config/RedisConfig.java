@@ -1,5 +1,9 @@
 package com.ssafy.BlueMarble.global.common.config;
 
+import com.ssafy.BlueMarble.domain.game.service.GameActionContext;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +12,7 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -26,7 +31,20 @@ public class RedisConfig {
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+        return new LettuceConnectionFactory(redisHost, redisPort) {
+            @Override
+            protected AbstractRedisClient createClient() {
+                AbstractRedisClient client = super.createClient();
+                // 게임 액션별 Redis 명령 수 집계 (명령을 보낸 스레드에서 호출됨)
+                client.addListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        GameActionContext.recordRedisCommand();
+                    }
+                });
+                return client;
+            }
+        };
     }
 
     @Bean
@@ -54,6 +72,18 @@ public class RedisConfig {
         return template;
     }
 
+    // 게임 상태 스냅샷처럼 값을 바이트 그대로 저장할 때 사용
+    @Bean(name = "redisBytesTemplate")
+    public RedisTemplate<String, byte[]> redisBytesTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
@@ -0,0 +1,17 @@
+package com.ssafy.BlueMarble.global.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 게임 상태를 읽은 뒤 다른 요청이 먼저 저장해 버전이 맞지 않을 때 발생
+ */
+@Getter
+public class GameStateConflictException extends BusinessException {
+
+    private final String roomId;
+
+    public GameStateConflictException(String roomId) {
+        super(BusinessError.GAME_STATE_CONFLICT);
+        this.roomId = roomId;
+    }
+}
@@ -1,10 +1,7 @@
 package com.ssafy.BlueMarble.global.common.game.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.BlueMarble.domain.game.dto.GameMap;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
 import com.ssafy.BlueMarble.domain.user.service.UserService;
-import com.ssafy.BlueMarble.websocket.dto.MessageDto;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.BankrutcyPayload;
 import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
@@ -15,7 +12,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import com.ssafy.BlueMarble.domain.game.entity.Tile;
 
 @Service
@@ -24,40 +20,33 @@ import com.ssafy.BlueMarble.domain.game.entity.Tile;
 public class BankruptcyService {
     private final SessionMessageService sessionMessageService;
     private final UserService userService;
-    private final ObjectMapper objectMapper;
 
-    public void handleBankruptcy(CreateMapPayload state) {
-        // roomId
+    /**
+     * 플레이어 한 명 파산 처리 (소유 땅/건물 초기화, 비활성화, GAME_RETIRED 전송)
+     * @param state 현재 게임 상태
+     * @param userId 파산한 플레이어 ID
+     */
+    public void retire(CreateMapPayload state, String userId) {
         String roomId = state.getRoomId();
-        Map<String, CreateMapPayload.PlayerState> players = state.getPlayers();
-
-        players.forEach((userId, playerState) -> {
-            // 플레이어 상태 비활성화
-            if (playerState.getMoney() < 0) {
-                String username = userService.getUserIdByNickname(state, userId);
-                List<Integer> lands = players.get(userId).getOwnedProperties();
-                
-                // 파산한 플레이어가 소유한 모든 땅의 owner를 null로 초기화
-                GameMap gameMap = state.getCurrentMap();
-                for(int landNum : lands){
-                    if (landNum >= 0 && landNum < gameMap.getCells().size()) {
-                        Tile tile = gameMap.getCells().get(landNum);
-                        if (tile != null) {
-                            tile.setOwnerName(null);
-                            tile.setBuildingType(Tile.BuildingType.FIELD); // 건물도 초기화
-                        }
-                    }
-                }
-                
-                // 플레이어의 소유 땅 목록 초기화
-                playerState.setOwnedProperties(new ArrayList<>());
-                playerState.setActive(false);
-                
-                // GAME_RETIRED 메시지 전송
-                sendGameRetiredMessage(roomId, username);
+        CreateMapPayload.PlayerState playerState = state.getPlayers().get(userId);
+        String username = userService.getUserIdByNickname(state, userId);
+        List<Integer> lands = playerState.getOwnedProperties() != null ? playerState.getOwnedProperties() : List.of();
+
+        // 파산한 플레이어가 소유한 모든 땅의 owner를 null로 초기화
+        BoardState board = state.board();
+        for (int landNum : lands) {
+            if (board.contains(landNum)) {
+                board.setOwner(landNum, BoardState.NO_OWNER);
+                board.setBuildingLevel(landNum, Tile.BuildingType.FIELD.ordinal()); // 건물도 초기화
             }
-        });
+        }
+
+        // 플레이어의 소유 땅 목록 초기화
+        playerState.setOwnedProperties(new ArrayList<>());
+        playerState.setActive(false);
 
+        // GAME_RETIRED 메시지 전송
+        sendGameRetiredMessage(roomId, username);
     }
 
     private void sendGameRetiredMessage(String roomId, String nickname) {
@@ -66,9 +55,7 @@ public class BankruptcyService {
                 .message(String.format("%s이 파산하였습니다.", nickname))
                 .build();
 
-        JsonNode payloadNode = objectMapper.valueToTree(payload);
-        MessageDto message = new MessageDto(MessageType.GAME_RETIRED, payloadNode);
-        sessionMessageService.sendMessageToRoom(roomId, message);
+        sessionMessageService.sendMessageToRoom(roomId, MessageType.GAME_RETIRED, payload);
 
         log.info("GAME_RETIRED 메시지 전송: roomId={}, nickname={}", roomId, nickname);
     }
@@ -4,12 +4,14 @@ import com.ssafy.BlueMarble.domain.auth.security.JwtTokenProvider;
 import com.ssafy.BlueMarble.domain.user.repository.UserRepository;
 import com.ssafy.BlueMarble.websocket.handler.ExceptionHandlingWebSocketHandler;
 import com.ssafy.BlueMarble.websocket.handler.WebSocketHandler;
+import com.ssafy.BlueMarble.websocket.service.CborFrameCodec;
 import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 
 @Configuration
 @EnableWebSocket
@@ -30,8 +32,19 @@ public class WebSocketConfig implements WebSocketConfigurer {
         registry
                 // 클라이언트에서 웹 소켓 연결을 위해 "ws"라는 엔드포인트로 연결을 시도하면 ChatWebSocketHandler 클래스에서 이를 처리합니다.
                 .addHandler(new ExceptionHandlingWebSocketHandler(chatWebSocketHandler, sessionMessageService), "/ws")
+                .setHandshakeHandler(handshakeHandler())
                 .addInterceptors(new CustomHandshakeInterceptor(jwtTokenProvider, userRepository)) // 인터셉터 추가
                 .setAllowedOrigins("*");
     }
 
+    /**
+     * Sec-WebSocket-Protocol 협상
+     * - 클라이언트가 요청한 순서대로 지원하는 하위 프로토콜을 고르고, 요청이 없으면 JSON 텍스트를 사용합니다.
+     */
+    private DefaultHandshakeHandler handshakeHandler() {
+        DefaultHandshakeHandler handshakeHandler = new DefaultHandshakeHandler();
+        handshakeHandler.setSupportedProtocols(CborFrameCodec.PROTOCOL, CborFrameCodec.JSON_PROTOCOL);
+        return handshakeHandler;
+    }
+
 }
\ No newline at end of file
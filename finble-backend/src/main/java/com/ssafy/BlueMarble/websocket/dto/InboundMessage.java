@@ -0,0 +1,13 @@
+package com.ssafy.BlueMarble.websocket.dto;
+
+/**
+ * 클라이언트가 보낸 메시지 (payload는 타입별 요청 클래스로 바로 읽은 객체, 없으면 null)
+ */
+public record InboundMessage(
+        MessageType type,
+        Object payload
+) {
+    public <T> T payload(Class<T> payloadType) {
+        return payloadType.cast(payload);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.BlueMarble.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,4 +14,12 @@ import lombok.NoArgsConstructor;
 public class MessageDto {
     private MessageType type;
     private JsonNode payload; // 다양한 형식을 지원하기 위해 JsonNode 사용
+
+    // 방 브로드캐스트 순번 (방마다 1씩 증가, 클라이언트는 빠진 번호가 있으면 RESYNC 요청)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long seq;
+
+    public MessageDto(MessageType type, JsonNode payload) {
+        this(type, payload, null);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.ssafy.BlueMarble.websocket.dto;
 
+// 바이너리 하위 프로토콜(finble.cbor.v1)은 순서 번호를 타입 코드로 쓰므로 새 타입은 맨 뒤에 추가
 public enum MessageType {
     // 로비/방 관련
     CREATE_ROOM,
@@ -22,6 +23,8 @@ public enum MessageType {
     GAME_RETIRED,
     GAME_END,
     TURN_SKIP,
+    GAME_STATE_DELTA, // 저장된 게임 상태의 변경된 필드만 전송
+    RESYNC,           // 순번 누락 시 전체 게임 상태 재요청/응답
 
     // 게임 로직 관련
     TRADE_LAND,
@@ -37,4 +40,7 @@ public enum MessageType {
     USE_CARD,
     ANGEL_DEFENSE,
 
+    // 전송 관련
+    BATCH, // 한 액션에서 나온 방 메시지 묶음 (payload는 seq가 붙은 메시지 배열)
+
 }
@@ -1,16 +1,24 @@
 package com.ssafy.BlueMarble.websocket.dto.payload.game;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.ssafy.BlueMarble.domain.game.dto.BoardOverlay;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
 import com.ssafy.BlueMarble.domain.game.dto.GameMap;
 import com.ssafy.BlueMarble.domain.game.entity.GameState;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class CreateMapPayload {
     private String roomId;                       // 방 ID
@@ -30,9 +38,59 @@ public class CreateMapPayload {
     private Double buildingCostMultiplier;
     private boolean isBoom;               // 호황/불황 여부
     private int remainingTurns;           // 다음 시대까지 남은 턴 수
+    private Long version;                 // 저장할 때마다 1씩 증가하는 상태 버전 (낙관적 동시성 제어)
+    private Long boardSeed;               // 공유 보드 템플릿 시드 (없으면 currentMap만으로 보드 표현)
+    private BoardOverlay boardOverlay;    // 방별 보드 변경분 (소유자/건물/가격 배수)
+
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient BoardState boardState; // currentMap의 원시 타입 뷰 (저장/전송하지 않음)
     
     // private boolean angelCardInDeck;             // 천사카드가 덱에 있는지 여부 (비활성화됨)
 
+    /**
+     * 게임 로직용 보드 조회 (currentMap이나 playerOrder가 바뀌면 다시 만듦)
+     */
+    public BoardState board() {
+        if (boardState == null || !boardState.isViewOf(currentMap, playerOrder)) {
+            boardState = BoardState.of(currentMap, playerOrder);
+        }
+        return boardState;
+    }
+
+    /**
+     * 변경 가능한 부분(플레이어/순서/칸/오버레이)까지 새로 만든 사본
+     * - 사본을 고쳐도 원본은 바뀌지 않습니다. 문자열과 enum은 불변이라 그대로 공유합니다.
+     */
+    public CreateMapPayload copy() {
+        Map<String, PlayerState> copiedPlayers = null;
+        if (players != null) {
+            copiedPlayers = new LinkedHashMap<>();
+            for (Map.Entry<String, PlayerState> entry : players.entrySet()) {
+                copiedPlayers.put(entry.getKey(), entry.getValue() != null ? entry.getValue().copy() : null);
+            }
+        }
+        GameMap copiedMap = null;
+        if (currentMap != null) {
+            copiedMap = new GameMap();
+            if (currentMap.getCells() != null) {
+                List<Tile> cells = new ArrayList<>(currentMap.getCells().size());
+                for (Tile tile : currentMap.getCells()) {
+                    cells.add(tile != null ? tile.copy() : null);
+                }
+                copiedMap.setCells(cells);
+            }
+        }
+        return toBuilder()
+                .players(copiedPlayers)
+                .playerOrder(playerOrder != null ? new ArrayList<>(playerOrder) : null)
+                .currentMap(copiedMap)
+                .boardOverlay(boardOverlay != null ? boardOverlay.copy() : null)
+                .boardState(null)
+                .build();
+    }
+
     @Data
     @Builder
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -46,5 +104,18 @@ public class CreateMapPayload {
         private int jailTurns;                   // 감옥 남은 턴 수
         private boolean isActive;                // 활성 상태 여부
         // private boolean anglecard;               // 천사카드 보유 여부 (비활성화됨)
+
+        public PlayerState copy() {
+            return PlayerState.builder()
+                    .userId(userId)
+                    .nickname(nickname)
+                    .position(position)
+                    .money(money)
+                    .ownedProperties(ownedProperties != null ? new ArrayList<>(ownedProperties) : null)
+                    .isInJail(isInJail)
+                    .jailTurns(jailTurns)
+                    .isActive(isActive)
+                    .build();
+        }
     }
 }
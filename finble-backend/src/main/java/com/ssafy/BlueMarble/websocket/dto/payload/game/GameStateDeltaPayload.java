@@ -0,0 +1,17 @@
+package com.ssafy.BlueMarble.websocket.dto.payload.game;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameStateDeltaPayload {
+    private Long version;                 // 저장된 게임 상태 버전
+    private Map<String, String> changes;  // 바뀐 필드 ("player.{userId}.money" 등), 값이 null이면 삭제된 필드
+}
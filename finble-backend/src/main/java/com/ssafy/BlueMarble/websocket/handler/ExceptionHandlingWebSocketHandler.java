@@ -5,7 +5,6 @@ import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
-import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
@@ -40,15 +39,10 @@ public class ExceptionHandlingWebSocketHandler extends WebSocketHandlerDecorator
             getDelegate().handleMessage(session, message);  // 실제 핸들러 호출
         } catch (BusinessException e) {
             e.printStackTrace();
-            sendError(session, e.getBusinessError().name(), e.getBusinessError().getMessage());
+            sessionMessageService.sendError(session, e.getBusinessError().name(), e.getBusinessError().getMessage());
         } catch (Exception e) {
             e.printStackTrace();
-            sendError(session, "INTERNAL_SERVER_ERROR", "서버 내부 오류");
+            sessionMessageService.sendError(session, "INTERNAL_SERVER_ERROR", "서버 내부 오류");
         }
     }
-
-    private void sendError(WebSocketSession session, String type, String message) {
-        String json = "{\"type\":\"" + type + "\", \"message\":\"" + message + "\"}";
-        sessionMessageService.sendError(session, new TextMessage(json));
-    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.ssafy.BlueMarble.websocket.handler;
+
+import com.ssafy.BlueMarble.domain.Timer.Service.TimerService;
+import com.ssafy.BlueMarble.domain.game.dto.request.ConstructRequest;
+import com.ssafy.BlueMarble.domain.game.dto.request.JailRequest;
+import com.ssafy.BlueMarble.domain.game.dto.request.NtsRequest;
+import com.ssafy.BlueMarble.domain.game.dto.request.TradeLandRequest;
+import com.ssafy.BlueMarble.domain.game.dto.request.TurnSkipRequest;
+import com.ssafy.BlueMarble.domain.game.dto.request.UseDiceRequest;
+import com.ssafy.BlueMarble.domain.game.dto.request.WorldTravelRequest;
+import com.ssafy.BlueMarble.domain.game.service.EventService;
+import com.ssafy.BlueMarble.domain.game.service.LandService;
+import com.ssafy.BlueMarble.domain.game.service.MapService;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.UseCardPayload;
+import com.ssafy.BlueMarble.websocket.service.WebSocketCardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 게임 진행 메시지 처리 (방이 있으면 방 레인에서 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameMessageHandlers {
+    private final MapService mapService;
+    private final LandService landService;
+    private final EventService eventService;
+    private final WebSocketCardService webSocketCardService;
+    private final TimerService timerService;
+
+    @MessageHandler(value = MessageType.START_GAME, room = true)
+    public void startGame(WebSocketSession session, MessageContext context) {
+        log.info("[WebSocket] 게임 시작 요청: roomId={}, sessionId={}", context.roomId(), session.getId());
+        mapService.createNewGameMapState(context.roomId());
+    }
+
+    @MessageHandler(value = MessageType.RESYNC, room = true)
+    public void resync(WebSocketSession session, MessageContext context) {
+        mapService.resyncGameState(session, context.roomId());
+    }
+
+    @MessageHandler(value = MessageType.TRADE_LAND, payload = TradeLandRequest.class, room = true)
+    public void tradeLand(WebSocketSession session, TradeLandRequest tradeLandRequest) {
+        landService.tradeLand(session, tradeLandRequest);
+    }
+
+    @MessageHandler(value = MessageType.CONSTRUCT_BUILDING, payload = ConstructRequest.class, room = true)
+    public void constructBuilding(WebSocketSession session, ConstructRequest constructRequest) {
+        landService.constructBuilding(session, constructRequest);
+    }
+
+    @MessageHandler(value = MessageType.JAIL_EVENT, payload = JailRequest.class, room = true)
+    public void jail(WebSocketSession session, JailRequest jailRequest) {
+        eventService.handleJailEvent(session, jailRequest);
+    }
+
+    @MessageHandler(value = MessageType.WORLD_TRAVEL_EVENT, payload = WorldTravelRequest.class, room = true)
+    public void worldTravel(WebSocketSession session, WorldTravelRequest worldTravelRequest) {
+        eventService.handleWorldTravelEvent(session, worldTravelRequest);
+    }
+
+    @MessageHandler(value = MessageType.NTS_EVENT, payload = NtsRequest.class, room = true)
+    public void nts(WebSocketSession session, NtsRequest ntsRequest) {
+        eventService.handleNtsEvent(session, ntsRequest);
+    }
+
+    @MessageHandler(value = MessageType.USE_DICE, payload = UseDiceRequest.class, room = true)
+    public void useDice(WebSocketSession session, UseDiceRequest useDiceRequest) {
+        eventService.handleUseDiceEvent(session, useDiceRequest);
+    }
+
+    @MessageHandler(value = MessageType.USE_CARD, payload = UseCardPayload.class, room = true)
+    public void useCard(WebSocketSession session, UseCardPayload useCardPayload) {
+        log.info("[WebSocket] 카드 사용 요청: sessionId={}", session.getId());
+        webSocketCardService.handleUseCard(session, useCardPayload);
+    }
+
+    // DRAW_CARD는 찬스 칸 도착 시 자동으로 처리되므로 수동 요청은 제거
+    @MessageHandler(value = MessageType.ANGEL_DEFENSE, room = true)
+    public void angelDefense(WebSocketSession session) {
+        log.info("[WebSocket] 천사카드 방어 요청 (비활성화됨): sessionId={}", session.getId());
+        webSocketCardService.handleAngelDefense(session); // 비활성화 응답 전송
+    }
+
+    @MessageHandler(value = MessageType.TURN_SKIP, payload = TurnSkipRequest.class, room = true)
+    public void turnSkip(WebSocketSession session, TurnSkipRequest turnSkipRequest) {
+        log.debug("사용자가 턴을 스킵하기로 요청보냈음.");
+        timerService.endTurnManually(session, turnSkipRequest);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ssafy.BlueMarble.websocket.handler;
+
+/**
+ * 메시지 처리에 필요한 세션 정보 (@MessageHandler에서 요구하지 않은 값은 null)
+ */
+public record MessageContext(
+        String roomId,
+        String userId
+) {
+}
@@ -0,0 +1,31 @@
+package com.ssafy.BlueMarble.websocket.handler;
+
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클라이언트 메시지 타입을 처리하는 메서드 표시 (시작 시 MessageHandlerRegistry에 등록)
+ * - 메서드 인자는 타입으로 채웁니다: WebSocketSession, MessageContext, payload 클래스
+ * - room/user가 true면 메시지를 보낸 세션의 방 ID/사용자 ID를 찾아 MessageContext에 담고, 방이 있으면 방 레인에서 실행합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface MessageHandler {
+
+    MessageType value();
+
+    /**
+     * payload를 읽을 요청 클래스 (Void면 payload 없음)
+     */
+    Class<?> payload() default Void.class;
+
+    boolean room() default false;
+
+    boolean user() default false;
+}
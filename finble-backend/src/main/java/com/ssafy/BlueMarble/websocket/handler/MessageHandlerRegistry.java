@@ -0,0 +1,175 @@
+package com.ssafy.BlueMarble.websocket.handler;
+
+import com.ssafy.BlueMarble.websocket.dto.InboundMessage;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.service.InboundMessageDecoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 메시지 타입별 처리 메서드 목록
+ * - 시작할 때 빈의 @MessageHandler 메서드를 찾아 타입별로 등록하고, payload 클래스는 InboundMessageDecoder에 등록합니다.
+ * - 타입별 처리 시간(websocket.message.latency)과 실패 수(websocket.message.errors)를 기록합니다.
+ */
+@Slf4j
+@Component
+public class MessageHandlerRegistry implements SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+    private final MeterRegistry meterRegistry;
+    private final InboundMessageDecoder inboundMessageDecoder;
+
+    private final Map<MessageType, Handler> handlers = new EnumMap<>(MessageType.class);
+
+    public MessageHandlerRegistry(ApplicationContext applicationContext, MeterRegistry meterRegistry,
+                                  InboundMessageDecoder inboundMessageDecoder) {
+        this.applicationContext = applicationContext;
+        this.meterRegistry = meterRegistry;
+        this.inboundMessageDecoder = inboundMessageDecoder;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> beanType = applicationContext.getType(beanName);
+            if (beanType != null && AnnotationUtils.isCandidateClass(beanType, MessageHandler.class)) {
+                register(beanType, () -> applicationContext.getBean(beanName));
+            }
+        }
+        log.info("메시지 처리기 등록 완료: {}개", handlers.size());
+    }
+
+    /**
+     * 메시지 타입의 처리기 (없으면 null)
+     */
+    public Handler get(MessageType type) {
+        return type != null ? handlers.get(type) : null;
+    }
+
+    void register(Object bean) {
+        register(bean.getClass(), () -> bean);
+    }
+
+    private void register(Class<?> beanType, Supplier<Object> bean) {
+        Map<Method, MessageHandler> methods = MethodIntrospector.selectMethods(ClassUtils.getUserClass(beanType),
+                (MethodIntrospector.MetadataLookup<MessageHandler>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, MessageHandler.class));
+        if (methods.isEmpty()) {
+            return;
+        }
+        Object target = bean.get();
+        methods.forEach((method, annotation) -> {
+            Handler previous = handlers.putIfAbsent(annotation.value(), new Handler(target, method, annotation));
+            if (previous != null) {
+                throw new IllegalStateException("메시지 타입 처리기 중복: " + annotation.value()
+                        + " (" + previous.method + ", " + method + ")");
+            }
+            if (annotation.payload() != Void.class) {
+                inboundMessageDecoder.register(annotation.value(), annotation.payload());
+            }
+        });
+    }
+
+    /**
+     * 메시지 타입 하나의 처리 메서드
+     */
+    public final class Handler {
+
+        private final Object bean;
+        private final Method method;
+        private final MessageHandler annotation;
+        // 메서드 인자별로 넣을 값 (SESSION, CONTEXT, PAYLOAD)
+        private final Argument[] arguments;
+        private final Timer latency;
+        private final Counter errors;
+
+        private Handler(Object bean, Method method, MessageHandler annotation) {
+            this.bean = bean;
+            this.method = AopUtils.selectInvocableMethod(method, bean.getClass());
+            this.annotation = annotation;
+            ReflectionUtils.makeAccessible(this.method);
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            this.arguments = new Argument[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i] == WebSocketSession.class) {
+                    arguments[i] = Argument.SESSION;
+                } else if (parameterTypes[i] == MessageContext.class) {
+                    arguments[i] = Argument.CONTEXT;
+                } else if (parameterTypes[i] == annotation.payload()) {
+                    arguments[i] = Argument.PAYLOAD;
+                } else {
+                    throw new IllegalStateException("처리할 수 없는 메시지 처리기 인자: " + method + " [" + i + "]");
+                }
+            }
+            String type = annotation.value().name();
+            this.latency = Timer.builder("websocket.message.latency")
+                    .description("메시지 타입별 처리 시간")
+                    .tag("type", type)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.errors = Counter.builder("websocket.message.errors")
+                    .description("메시지 타입별 처리 실패 수")
+                    .tag("type", type)
+                    .register(meterRegistry);
+        }
+
+        public boolean needsRoom() {
+            return annotation.room();
+        }
+
+        public boolean needsUser() {
+            return annotation.user();
+        }
+
+        /**
+         * 처리 메서드 호출 (인자는 타입으로 채움)
+         */
+        public void invoke(WebSocketSession session, InboundMessage message, MessageContext context) throws Exception {
+            Object[] args = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                args[i] = switch (arguments[i]) {
+                    case SESSION -> session;
+                    case CONTEXT -> context;
+                    case PAYLOAD -> message.payload();
+                };
+            }
+            long startedAt = System.nanoTime();
+            try {
+                method.invoke(bean, args);
+            } catch (InvocationTargetException e) {
+                errors.increment();
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            } finally {
+                latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private enum Argument {
+        SESSION,
+        CONTEXT,
+        PAYLOAD
+    }
+}
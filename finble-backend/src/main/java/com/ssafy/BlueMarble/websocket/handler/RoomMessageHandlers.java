@@ -0,0 +1,47 @@
+package com.ssafy.BlueMarble.websocket.handler;
+
+import com.ssafy.BlueMarble.domain.room.service.RoomService;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.dto.payload.room.CreateRoomPayload;
+import com.ssafy.BlueMarble.websocket.dto.payload.room.EnterRoomPayload;
+import com.ssafy.BlueMarble.websocket.dto.payload.room.KickRoomPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+
+/**
+ * 로비/방 메시지 처리
+ * - 퇴장/강퇴는 방 삭제와 게임 정리까지 이어질 수 있으므로 같은 방의 게임 액션과 함께 방 레인에서 순서대로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomMessageHandlers {
+    private final RoomService roomService;
+
+    @MessageHandler(value = MessageType.CREATE_ROOM, payload = CreateRoomPayload.class)
+    public void createRoom(WebSocketSession session, CreateRoomPayload createRoomPayload) {
+        log.info("[WebSocket] CREATE_ROOM 처리 시작 - sessionId: {}", session.getId());
+        roomService.createRoom(session, createRoomPayload);
+        log.info("[WebSocket] CREATE_ROOM 처리 완료 - sessionId: {}", session.getId());
+    }
+
+    @MessageHandler(value = MessageType.ENTER_ROOM, payload = EnterRoomPayload.class)
+    public void enterRoom(WebSocketSession session, EnterRoomPayload enterRoomPayload) throws IOException {
+        roomService.enterRoom(session, enterRoomPayload);
+    }
+
+    @MessageHandler(value = MessageType.EXIT_ROOM, room = true)
+    public void exitRoom(WebSocketSession session) throws IOException {
+        roomService.exitRoom(session);
+        session.close();
+    }
+
+    @MessageHandler(value = MessageType.KICK, payload = KickRoomPayload.class, room = true)
+    public void kick(WebSocketSession session, KickRoomPayload kickRoomPayload) {
+        roomService.kick(session, kickRoomPayload);
+    }
+}
@@ -1,31 +1,29 @@
 package com.ssafy.BlueMarble.websocket.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.BlueMarble.domain.Timer.Service.TimerService;
-import com.ssafy.BlueMarble.domain.game.dto.request.*;
-import com.ssafy.BlueMarble.domain.game.service.MapService;
-import com.ssafy.BlueMarble.domain.game.service.LandService;
-import com.ssafy.BlueMarble.domain.game.service.EventService;
-import com.ssafy.BlueMarble.websocket.service.WebSocketCardService;
+import com.ssafy.BlueMarble.domain.game.service.GameActionExecutor;
+import com.ssafy.BlueMarble.domain.game.service.RoomExecutionLanes;
 import com.ssafy.BlueMarble.domain.room.service.RoomService;
 import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
+import com.ssafy.BlueMarble.global.common.exception.BusinessException;
 
-import com.ssafy.BlueMarble.websocket.dto.MessageDto;
+import com.ssafy.BlueMarble.websocket.dto.InboundMessage;
 import com.ssafy.BlueMarble.websocket.dto.MessageType;
-import com.ssafy.BlueMarble.websocket.dto.payload.game.UseCardPayload;
-import com.ssafy.BlueMarble.websocket.dto.payload.room.CreateRoomPayload;
-import com.ssafy.BlueMarble.websocket.dto.payload.room.EnterRoomPayload;
-import com.ssafy.BlueMarble.websocket.dto.payload.room.KickRoomPayload;
+import com.ssafy.BlueMarble.websocket.service.InboundMessageDecoder;
+import com.ssafy.BlueMarble.websocket.service.RoomSessionIndex;
 import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
 import com.ssafy.BlueMarble.websocket.service.WebSocketSessionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import java.io.IOException;
+
 
 
 /**
@@ -37,14 +35,13 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 public class WebSocketHandler extends TextWebSocketHandler {
     private final WebSocketSessionService webSocketSessionService;
     private final RoomService roomService;
-    private final ObjectMapper objectMapper;
     private final UserRedisService userRedisService;
-    private final MapService mapService;
-    private final LandService landService;
-    private final EventService eventService;
-    private final WebSocketCardService webSocketCardService;
     private final SessionMessageService sessionMessageService;
-    private final TimerService timerService;
+    private final GameActionExecutor gameActionExecutor;
+    private final RoomExecutionLanes roomExecutionLanes;
+    private final RoomSessionIndex roomSessionIndex;
+    private final InboundMessageDecoder inboundMessageDecoder;
+    private final MessageHandlerRegistry messageHandlerRegistry;
 
     /**
      * [연결 성공] WebSocket 협상이 성공적으로 완료되고 WebSocket 연결이 열려 사용할 준비가 된 후 호출됩니다.
@@ -67,6 +64,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
                 session.getId(), userId, nickname, icon, nameTag);
 
         webSocketSessionService.addSession(userId, session);
+        roomSessionIndex.refreshUser(userId);
         userRedisService.putNickname(userId, nickname, icon);
         log.info("[WebSocket] afterConnectionEstablished 완료 - sessionId: {}", session.getId());
     }
@@ -89,112 +87,90 @@ public class WebSocketHandler extends TextWebSocketHandler {
 
         log.info("[WebSocket] handleTextMessage 시작 - sessionId: {}, payload: {}", session.getId(), message.getPayload());
 
-        MessageDto chatMessageDto = objectMapper.readValue(message.getPayload(), MessageDto.class);
-        log.info("[WebSocket] 메시지 수신: type={}, sessionId={}", chatMessageDto.getType(), session.getId());
+        handleInboundMessage(session, inboundMessageDecoder.decode(message.getPayload()));
 
-        // 중복코드 방지
-        String roomId = null;
-        String userId = null;
+        log.info("[WebSocket] handleTextMessage 종료 - sessionId: {}", session.getId());
 
-        if (needsRoomIdAndUserId(chatMessageDto.getType())) {
-            roomId = roomService.getRoom(session.getId());
-            userId = webSocketSessionService.getUserIdBySessionId(session.getId());
-        } else if (needsRoomId(chatMessageDto.getType())) {
-            roomId = roomService.getRoom(session.getId());
-        }
+    }
 
-        log.info("[WebSocket] switch 문 시작 - type: {}", chatMessageDto.getType());
-        switch (chatMessageDto.getType()) {
-            case CREATE_ROOM:
-                log.info("[WebSocket] CREATE_ROOM 처리 시작 - sessionId: {}", session.getId());
-                CreateRoomPayload createRoomPayload = objectMapper.treeToValue(chatMessageDto.getPayload(), CreateRoomPayload.class);
-                roomService.createRoom(session, createRoomPayload);
-                log.info("[WebSocket] CREATE_ROOM 처리 완료 - sessionId: {}", session.getId());
-                break;
-            case ENTER_ROOM:
-                EnterRoomPayload enterRoomPayload = objectMapper.treeToValue(chatMessageDto.getPayload(), EnterRoomPayload.class);
-                roomService.enterRoom(session, enterRoomPayload);
-                break;
-            case EXIT_ROOM:
-                roomService.exitRoom(session);
-                session.close();
-                break;
-            case KICK:
-                KickRoomPayload kickRoomPayload = objectMapper.treeToValue(chatMessageDto.getPayload(), KickRoomPayload.class);
-                roomService.kick(session, kickRoomPayload);
-                break;
-            case START_GAME:
-                log.info("[WebSocket] 게임 시작 요청: roomId={}, sessionId={}", roomId, session.getId());
-                mapService.createNewGameMapState(roomId);
-                break;
-            case TRADE_LAND:
-                TradeLandRequest tradeLandRequest = objectMapper.treeToValue(chatMessageDto.getPayload(), TradeLandRequest.class);
-                landService.tradeLand(session, tradeLandRequest);
-                break;
-            case CONSTRUCT_BUILDING:
-                ConstructRequest constructRequest = objectMapper.treeToValue(chatMessageDto.getPayload(), ConstructRequest.class);
-                landService.constructBuilding(session, constructRequest);
-                break;
-            case JAIL_EVENT:
-                JailRequest jailRequest = objectMapper.treeToValue(chatMessageDto.getPayload(), JailRequest.class);
-                eventService.handleJailEvent(session, jailRequest);
-                break;
-            case WORLD_TRAVEL_EVENT:
-                WorldTravelRequest worldTravelRequest = objectMapper.treeToValue(chatMessageDto.getPayload(), WorldTravelRequest.class);
-                eventService.handleWorldTravelEvent(session, worldTravelRequest);
-                break;
-            case NTS_EVENT:
-                NtsRequest ntsRequest = objectMapper.treeToValue(chatMessageDto.getPayload(), NtsRequest.class);
-                eventService.handleNtsEvent(session, ntsRequest);
-                break;
-            case USE_DICE:
-                UseDiceRequest useDiceRequest = objectMapper.treeToValue(chatMessageDto.getPayload(), UseDiceRequest.class);
-                eventService.handleUseDiceEvent(session, useDiceRequest);
-                break;
-            case USE_CARD:
-                log.info("[WebSocket] 카드 사용 요청: sessionId={}", session.getId());
-                UseCardPayload useCardPayload = objectMapper.treeToValue(chatMessageDto.getPayload(), UseCardPayload.class);
-                webSocketCardService.handleUseCard(session, useCardPayload);
-                break;
-            // DRAW_CARD는 찬스 칸 도착 시 자동으로 처리되므로 수동 요청은 제거
-            case ANGEL_DEFENSE:
-                log.info("[WebSocket] 천사카드 방어 요청 (비활성화됨): sessionId={}", session.getId());
-                webSocketCardService.handleAngelDefense(session); // 비활성화 응답 전송
-                break;
-            case TURN_SKIP:
-                log.debug("사용자가 턴을 스킵하기로 요청보냈음.");
-                TurnSkipRequest turnSkipRequest = objectMapper.treeToValue(chatMessageDto.getPayload(), TurnSkipRequest.class);
-                timerService.endTurnManually(session , turnSkipRequest);
-                break;
+    /**
+     * [바이너리 메시지] finble.cbor.v1 하위 프로토콜 세션이 보낸 CBOR 프레임을 디코딩해 텍스트 메시지와 같이 처리합니다.
+     */
+    @Override
+    public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+        if (message instanceof BinaryMessage binaryMessage) {
+            byte[] frame = new byte[binaryMessage.getPayloadLength()];
+            binaryMessage.getPayload().get(frame);
+            handleInboundMessage(session, inboundMessageDecoder.decode(frame));
+            return;
         }
-
-        log.info("[WebSocket] handleTextMessage 종료 - sessionId: {}", session.getId());
-
+        super.handleMessage(session, message);
     }
 
+    private void handleInboundMessage(WebSocketSession session, InboundMessage inboundMessage) throws Exception {
+        log.info("[WebSocket] 메시지 수신: type={}, sessionId={}", inboundMessage.type(), session.getId());
 
-    //     roomId와 uid가 필요한 메시지 타입들을 체크하는 헬퍼 메서드
-    private boolean needsRoomIdAndUserId(MessageType messageType) {
-        return messageType == MessageType.TRADE_LAND ||
-               messageType == MessageType.CONSTRUCT_BUILDING ||
-               messageType == MessageType.JAIL_EVENT ||
-               messageType == MessageType.WORLD_TRAVEL_EVENT ||
-               messageType == MessageType.USE_DICE ||
-               messageType == MessageType.USE_CARD ||
-               messageType == MessageType.ANGEL_DEFENSE ||
-               messageType == MessageType.TURN_SKIP;
-    }
+        MessageHandlerRegistry.Handler handler = messageHandlerRegistry.get(inboundMessage.type());
+        if (handler == null) {
+            log.warn("[WebSocket] 처리기가 없는 메시지 타입 - type: {}, sessionId: {}", inboundMessage.type(), session.getId());
+            return;
+        }
 
-    private boolean needsRoomId(MessageType messageType) {
-        return messageType == MessageType.START_GAME;
+        // 처리기가 요구하는 세션 정보만 조회
+        String roomId = handler.needsRoom() ? roomService.getRoom(session) : null;
+        String userId = handler.needsUser() ? webSocketSessionService.getUserId(session) : null;
+        MessageContext context = new MessageContext(roomId, userId);
+
+        if (roomId != null) {
+            // 같은 방의 게임 로직은 방 레인에서 순서대로 하나씩 실행, 버전 충돌 시 재실행
+            roomExecutionLanes.submit(roomId,
+                    () -> gameActionExecutor.execute(roomId, inboundMessage.type().name(),
+                            () -> handler.invoke(session, inboundMessage, context)),
+                    e -> handleLaneError(session, inboundMessage, e));
+        } else {
+            handler.invoke(session, inboundMessage, context);
+        }
     }
 
+    /**
+     * 레인에서 처리 중 예외가 나면 ExceptionHandlingWebSocketHandler와 같이 오류 메시지를 보내고 세션은 유지
+     * - 전송 오류(IOException)로 실패한 경우에만 세션을 종료합니다.
+     */
+    private void handleLaneError(WebSocketSession session, InboundMessage inboundMessage, Exception e) {
+        if (e instanceof BusinessException businessException) {
+            log.warn("[WebSocket] 메시지 처리 실패 - type: {}, sessionId: {}, error: {}",
+                    inboundMessage.type(), session.getId(), businessException.getBusinessError());
+            sessionMessageService.sendError(session, businessException.getBusinessError().name(),
+                    businessException.getBusinessError().getMessage());
+            return;
+        }
+        log.error("[WebSocket] 메시지 처리 실패 - type: {}, sessionId: {}", inboundMessage.type(), session.getId(), e);
+        if (!isTransportFailure(e)) {
+            sessionMessageService.sendError(session, "INTERNAL_SERVER_ERROR", "서버 내부 오류");
+            return;
+        }
+        try {
+            if (session.isOpen()) {
+                session.close(CloseStatus.SERVER_ERROR);
+            }
+        } catch (Exception closeException) {
+            log.warn("[WebSocket] 오류 후 세션 종료 실패 - sessionId: {}", session.getId(), closeException);
+        }
+    }
 
-
+    private static boolean isTransportFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     /**
      * [소켓 종료 및 전송 오류] WebSocket 연결이 어느 쪽에서든 종료되거나 전송 오류가 발생한 후 호출됩니다.
      * - 종료 및 실패하였을 경우 해당 세션을 제거합니다.
+     * - 방에 있던 세션은 방 레인에서 퇴장 처리해 이미 대기 중인 게임 액션과 순서가 뒤바뀌지 않게 합니다.
      *
      * @param session
      * @param status
@@ -202,7 +178,28 @@ public class WebSocketHandler extends TextWebSocketHandler {
      */
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        roomService.exitRoom(session);
+        // 세션 속성에 남은 방 ID를 먼저 사용 (없을 때만 Redis 조회)
+        String roomId = roomService.getRoom(session);
+        if (roomId != null) {
+            roomExecutionLanes.submit(roomId,
+                    () -> gameActionExecutor.execute(roomId, MessageType.EXIT_ROOM.name(),
+                            () -> exitRoomIfStillIn(session, roomId)),
+                    e -> log.error("[WebSocket] 연결 종료 후 퇴장 처리 실패 - sessionId: {}, roomId: {}",
+                            session.getId(), roomId, e));
+        } else {
+            // 방에 없던 세션(또는 EXIT_ROOM으로 이미 나간 세션)은 세션 목록에서만 제거
+            webSocketSessionService.removeSession(session.getId());
+        }
+        sessionMessageService.releaseSession(session.getId());
         log.info("[+] afterConnectionClosed - Session: " + session.getId() + ", CloseStatus: " + status);
     }
+
+    /**
+     * 레인에서 차례가 왔을 때 아직 그 방에 있으면 퇴장 처리 (EXIT_ROOM으로 먼저 나갔으면 건너뜀)
+     */
+    private void exitRoomIfStillIn(WebSocketSession session, String roomId) {
+        if (roomId.equals(roomService.getRoom(session))) {
+            roomService.exitRoom(session);
+        }
+    }
 }
\ No newline at end of file
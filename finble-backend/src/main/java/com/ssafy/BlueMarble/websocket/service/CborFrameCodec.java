@@ -0,0 +1,137 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.ssafy.BlueMarble.websocket.dto.MessageDto;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * 바이너리 WebSocket 하위 프로토콜(finble.cbor.v1) 프레임 변환
+ * - 클라이언트가 Sec-WebSocket-Protocol로 finble.cbor.v1을 요청한 세션만 사용하고, 그 외에는 기존 JSON 텍스트를 그대로 씁니다.
+ * - 메시지 프레임은 CBOR 배열 [타입 코드, payload, seq]이며 타입 코드는 MessageType 순서 번호입니다. (seq가 없으면 2개)
+ * - BATCH 프레임은 [BATCH 코드, [메시지 프레임...]] 입니다.
+ * - 오류 프레임처럼 MessageDto 형식이 아닌 JSON은 같은 구조의 CBOR로 바꿉니다.
+ */
+@Component
+public class CborFrameCodec {
+
+    public static final String PROTOCOL = "finble.cbor.v1";
+    public static final String JSON_PROTOCOL = "finble.json.v1";
+
+    private static final MessageType[] TYPES = MessageType.values();
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final ObjectMapper cborMapper = new ObjectMapper(cborFactory);
+
+    public boolean isBinary(WebSocketSession session) {
+        return PROTOCOL.equals(session.getAcceptedProtocol());
+    }
+
+    public static int code(MessageType type) {
+        return type.ordinal();
+    }
+
+    public static MessageType type(int code) {
+        if (code < 0 || code >= TYPES.length) {
+            throw new IllegalArgumentException("알 수 없는 메시지 타입 코드: " + code);
+        }
+        return TYPES[code];
+    }
+
+    /**
+     * MessageDto 인코딩
+     */
+    public byte[] encode(MessageDto message) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CBORGenerator generator = cborFactory.createGenerator(out)) {
+            generator.writeStartArray();
+            writeType(generator, message.getType());
+            cborMapper.writeTree(generator, message.getPayload());
+            if (message.getSeq() != null) {
+                generator.writeNumber(message.getSeq());
+            }
+            generator.writeEndArray();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 직렬화된 방 메시지 프레임({"type","payload","seq"} 순서의 JSON)을 트리를 만들지 않고 바로 CBOR 프레임으로 변환
+     */
+    public byte[] encodeRoomFrame(String jsonFrame) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jsonFrame.length());
+        try (JsonParser parser = jsonFactory.createParser(jsonFrame);
+             CBORGenerator generator = cborFactory.createGenerator(out)) {
+            parser.nextToken();
+            writeRoomFrame(parser, generator);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 현재 위치의 방 메시지 프레임 객체를 CBOR 배열로 기록 (BATCH 프레임이면 안의 메시지도 같은 형식으로)
+     */
+    private void writeRoomFrame(JsonParser parser, JsonGenerator generator) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("방 메시지 프레임이 JSON 객체가 아닙니다.");
+        }
+        MessageType type = null;
+        generator.writeStartArray();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "type" -> {
+                    type = value == JsonToken.VALUE_NULL ? null : MessageType.valueOf(parser.getText());
+                    writeType(generator, type);
+                }
+                case "payload" -> {
+                    if (type == MessageType.BATCH && value == JsonToken.START_ARRAY) {
+                        generator.writeStartArray();
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            writeRoomFrame(parser, generator);
+                        }
+                        generator.writeEndArray();
+                    } else {
+                        generator.copyCurrentStructure(parser);
+                    }
+                }
+                case "seq" -> generator.writeNumber(parser.getLongValue());
+                default -> parser.skipChildren();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * 임의의 JSON 텍스트를 같은 구조의 CBOR로 변환 (오류 프레임용)
+     */
+    public byte[] fromJson(String json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length());
+        try (JsonParser parser = jsonFactory.createParser(json);
+             CBORGenerator generator = cborFactory.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toByteArray();
+    }
+
+    private void writeType(JsonGenerator generator, MessageType type) throws IOException {
+        if (type == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(code(type));
+        }
+    }
+}
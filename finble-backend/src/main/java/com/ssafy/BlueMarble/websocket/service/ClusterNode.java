@@ -0,0 +1,32 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 이 서버(노드)의 식별자
+ * - 세션이 어느 노드에 연결되어 있는지(user:node) 기록하고, 다른 노드로 방 메시지를 보낼 때 채널 이름으로 사용합니다.
+ * - cluster.node-id를 지정하지 않으면 실행할 때마다 새로 만듭니다.
+ */
+@Slf4j
+@Component
+public class ClusterNode {
+
+    private final String nodeId;
+
+    public ClusterNode(@Value("${cluster.node-id:}") String nodeId) {
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        log.info("클러스터 노드 ID: {}", this.nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isLocal(String nodeId) {
+        return this.nodeId.equals(nodeId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.ssafy.BlueMarble.websocket.dto.InboundMessage;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 클라이언트 메시지 디코더
+ * - JsonNode 트리를 만들지 않고 스트리밍 파서로 type을 먼저 읽은 뒤, payload를 등록된 요청 클래스로 바로 읽습니다.
+ * - payload가 type보다 먼저 오면 토큰만 버퍼에 담아 두었다가 type을 읽은 뒤 바인딩합니다.
+ * - 요청 클래스가 등록되지 않은 타입은 payload를 건너뜁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InboundMessageDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final Map<MessageType, Class<?>> payloadTypes = new EnumMap<>(MessageType.class);
+
+    /**
+     * 메시지 타입의 payload 요청 클래스 등록
+     */
+    public void register(MessageType type, Class<?> payloadType) {
+        payloadTypes.put(type, payloadType);
+    }
+
+    /**
+     * JSON 텍스트 메시지 {"type": ..., "payload": ...} 디코딩
+     */
+    public InboundMessage decode(String json) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("메시지가 JSON 객체가 아닙니다.");
+            }
+            MessageType type = null;
+            Object payload = null;
+            TokenBuffer bufferedPayload = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("type".equals(field)) {
+                    type = value == JsonToken.VALUE_NULL ? null : MessageType.valueOf(parser.getText());
+                } else if ("payload".equals(field)) {
+                    if (type != null) {
+                        payload = readPayload(type, parser);
+                    } else {
+                        bufferedPayload = new TokenBuffer(parser);
+                        bufferedPayload.copyCurrentStructure(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (bufferedPayload != null && type != null) {
+                try (JsonParser buffered = bufferedPayload.asParser(parser.getCodec())) {
+                    buffered.nextToken();
+                    payload = readPayload(type, buffered);
+                }
+            }
+            return new InboundMessage(type, payload);
+        }
+    }
+
+    /**
+     * CBOR 바이너리 메시지 [타입 코드, payload] 디코딩 (finble.cbor.v1)
+     */
+    public InboundMessage decode(byte[] frame) throws IOException {
+        try (JsonParser parser = cborFactory.createParser(frame)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY || parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                throw new IOException("CBOR 메시지 프레임은 [타입 코드, payload] 배열이어야 합니다.");
+            }
+            MessageType type = CborFrameCodec.type(parser.getIntValue());
+            Object payload = null;
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                payload = readPayload(type, parser);
+            }
+            return new InboundMessage(type, payload);
+        }
+    }
+
+    private Object readPayload(MessageType type, JsonParser parser) throws IOException {
+        Class<?> payloadType = payloadTypes.get(type);
+        if (payloadType == null || parser.currentToken() == JsonToken.VALUE_NULL) {
+            parser.skipChildren();
+            return null;
+        }
+        return objectMapper.readValue(parser, payloadType);
+    }
+}
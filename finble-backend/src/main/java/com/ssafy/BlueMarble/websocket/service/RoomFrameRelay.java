@@ -0,0 +1,134 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * 다른 노드에 연결된 방 플레이어에게 방 메시지 프레임 전달 (Redis pub/sub)
+ * - 노드마다 cluster:node:{nodeId} 채널을 구독하고, 받은 프레임을 그 노드의 방 세션에 보냅니다.
+ * - 보낼 프레임은 모아 두었다가 노드별로 묶어 한 번에 발행합니다. (발행 중에 들어온 프레임은 다음 묶음으로)
+ * - 한 묶음은 "roomId|frame" 줄의 목록이며, 프레임은 이미 직렬화된 JSON이라 줄바꿈을 포함하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomFrameRelay {
+
+    static final String CHANNEL_PREFIX = "cluster:node:";
+    private static final char SEPARATOR = '|';
+    private static final char LINE_END = '\n';
+
+    // 발행은 트랜잭션 안에서도 바로 나가야 하므로 트랜잭션 지원이 없는 템플릿 사용
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ClusterNode clusterNode;
+    private final MeterRegistry meterRegistry;
+
+    private final Queue<Frame> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private Executor executor;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-frame-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        batchSizeSummary = DistributionSummary.builder("cluster.relay.batch.size")
+                .description("다른 노드로 한 번에 발행한 방 메시지 프레임 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * 이 노드로 온 프레임을 받을 처리기 등록
+     * @param deliver (roomId, frame)을 받아 이 노드의 방 세션에 전송
+     */
+    public void subscribe(BiConsumer<String, String> deliver) {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onBatch(new String(message.getBody(), StandardCharsets.UTF_8), deliver),
+                new ChannelTopic(CHANNEL_PREFIX + clusterNode.getNodeId()));
+    }
+
+    /**
+     * 다른 노드로 보낼 프레임 추가 (순서대로 묶어서 발행)
+     */
+    public void publish(String nodeId, String roomId, String frame) {
+        pending.add(new Frame(nodeId, roomId, frame));
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Map<String, StringBuilder> batches = new LinkedHashMap<>();
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            Frame frame;
+            while ((frame = pending.poll()) != null) {
+                batches.computeIfAbsent(frame.nodeId(), node -> new StringBuilder())
+                        .append(frame.roomId()).append(SEPARATOR).append(frame.frame()).append(LINE_END);
+                counts.merge(frame.nodeId(), 1, Integer::sum);
+            }
+            batches.forEach((nodeId, batch) -> {
+                try {
+                    stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + nodeId, batch.toString());
+                    batchSizeSummary.record(counts.get(nodeId));
+                } catch (Exception e) {
+                    log.warn("다른 노드로 방 메시지 발행 실패: nodeId={}", nodeId, e);
+                }
+            });
+        } finally {
+            draining.set(false);
+        }
+        // 비우는 스레드가 빠져나가는 사이에 들어온 프레임 처리
+        if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    void onBatch(String batch, BiConsumer<String, String> deliver) {
+        int start = 0;
+        while (start < batch.length()) {
+            int end = batch.indexOf(LINE_END, start);
+            if (end < 0) {
+                end = batch.length();
+            }
+            int separator = batch.indexOf(SEPARATOR, start);
+            if (separator > start && separator < end) {
+                deliver.accept(batch.substring(start, separator), batch.substring(separator + 1, end));
+            }
+            start = end + 1;
+        }
+    }
+
+    private record Frame(String nodeId, String roomId, String frame) {
+    }
+}
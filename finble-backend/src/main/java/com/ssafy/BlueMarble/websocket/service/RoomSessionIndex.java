@@ -0,0 +1,177 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import com.ssafy.BlueMarble.global.common.event.RoomDeletedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에 연결된 방별 WebSocket 세션 목록과 방 플레이어가 연결된 다른 노드 목록 (방 브로드캐스트용)
+ * - 처음 조회할 때만 Redis(room:{roomId}:users + user:session + user:node)에서 읽고, 이후에는 방 생성/입장/퇴장/강퇴 시 직접 갱신합니다.
+ * - 다른 서버에서 방 구성원이 바뀌면 room:index:invalidate 채널로 받은 방 목록을 버리고 다음 조회 때 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomSessionIndex {
+
+    static final String INVALIDATE_CHANNEL = "room:index:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    // 발행은 트랜잭션 안에서도 바로 나가야 하므로 트랜잭션 지원이 없는 템플릿 사용
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WebSocketSessionService webSocketSessionService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    // 자기가 보낸 무효화 메시지를 구분하고, 방 플레이어가 이 노드에 연결되어 있는지 판단
+    private final ClusterNode clusterNode;
+
+    // roomId -> 방 구성원
+    private final Map<String, Members> rooms = new ConcurrentHashMap<>();
+    // userId -> roomId (재접속 시 해당 방 목록 무효화)
+    private final Map<String, String> userRooms = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 방에 있는 이 서버의 열린 세션 목록
+     */
+    public List<WebSocketSession> sessions(String roomId) {
+        Members members = rooms.computeIfAbsent(roomId, this::load);
+        List<WebSocketSession> sessions = new ArrayList<>(members.local.size());
+        for (WebSocketSession session : members.local.values()) {
+            if (session.isOpen()) {
+                sessions.add(session);
+            }
+        }
+        return sessions;
+    }
+
+    /**
+     * 방 플레이어가 연결된 다른 노드 ID 목록
+     */
+    public Set<String> remoteNodes(String roomId) {
+        return rooms.computeIfAbsent(roomId, this::load).remoteNodes;
+    }
+
+    /**
+     * 방 생성/입장 시 세션 추가
+     */
+    public void join(String roomId, String userId, WebSocketSession session) {
+        if (roomId == null || userId == null) {
+            return;
+        }
+        Members members = rooms.get(roomId);
+        if (members != null) {
+            members.local.put(userId, session);
+        }
+        userRooms.put(userId, roomId);
+        publish(roomId);
+    }
+
+    /**
+     * 퇴장/강퇴 시 세션 제거
+     */
+    public void leave(String roomId, String userId) {
+        if (roomId == null || userId == null) {
+            return;
+        }
+        Members members = rooms.get(roomId);
+        if (members != null) {
+            members.local.remove(userId);
+        }
+        userRooms.remove(userId, roomId);
+        publish(roomId);
+    }
+
+    /**
+     * 사용자가 새 세션으로 연결되면 속한 방 목록을 다시 읽도록 표시
+     */
+    public void refreshUser(String userId) {
+        if (userId == null) {
+            return;
+        }
+        String roomId = userRooms.get(userId);
+        if (roomId != null) {
+            rooms.remove(roomId);
+        }
+    }
+
+    @EventListener
+    public void handleRoomDeletedEvent(RoomDeletedEvent event) {
+        rooms.remove(event.getRoomId());
+        userRooms.values().removeIf(event.getRoomId()::equals);
+        publish(event.getRoomId());
+    }
+
+    /**
+     * 다른 서버가 보낸 무효화 메시지 처리 (자기가 보낸 것은 무시)
+     */
+    void onInvalidate(String message) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator < 0 || clusterNode.isLocal(message.substring(0, separator))) {
+            return;
+        }
+        String roomId = message.substring(separator + 1);
+        rooms.remove(roomId);
+        log.debug("방 세션 목록 무효화: roomId={}", roomId);
+    }
+
+    private Members load(String roomId) {
+        Members members = new Members();
+        Set<String> userIds = redisTemplate.opsForSet().members("room:" + roomId + ":users");
+        if (userIds == null || userIds.isEmpty()) {
+            return members;
+        }
+        List<String> users = new ArrayList<>(userIds);
+        List<String> nodeIds = webSocketSessionService.getNodeIdsByUserIds(users);
+        for (int i = 0; i < users.size(); i++) {
+            String userId = users.get(i);
+            String nodeId = i < nodeIds.size() ? nodeIds.get(i) : null;
+            if (nodeId != null && !clusterNode.isLocal(nodeId)) {
+                members.remoteNodes.add(nodeId);
+                continue;
+            }
+            WebSocketSession session = webSocketSessionService.getSessionByUserId(userId);
+            if (session != null) {
+                members.local.put(userId, session);
+                userRooms.put(userId, roomId);
+            }
+        }
+        return members;
+    }
+
+    private void publish(String roomId) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, clusterNode.getNodeId() + SEPARATOR + roomId);
+        } catch (Exception e) {
+            log.warn("방 세션 목록 무효화 발행 실패: roomId={}", roomId, e);
+        }
+    }
+
+    private static final class Members {
+        // userId -> 이 서버의 세션
+        private final Map<String, WebSocketSession> local = new ConcurrentHashMap<>();
+        // 방 플레이어가 연결된 다른 노드 (방을 다시 읽을 때 갱신)
+        private final Set<String> remoteNodes = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -2,35 +2,85 @@ package com.ssafy.BlueMarble.websocket.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.service.GameActionContext;
 import com.ssafy.BlueMarble.websocket.dto.ErrorMessageDto;
 import com.ssafy.BlueMarble.websocket.dto.MessageDto;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SessionMessageService {
     private final ObjectMapper objectMapper;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final WebSocketSessionService webSocketSessionService;
+    // 순번 증가는 트랜잭션 안에서도 즉시 결과가 필요하므로 트랜잭션 지원이 없는 템플릿 사용
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RoomSessionIndex roomSessionIndex;
+    private final RoomFrameRelay roomFrameRelay;
+    private final CborFrameCodec cborFrameCodec;
+    private final MeterRegistry meterRegistry;
     private ExecutorService executorService;
 
+    // 세션별 송신 큐 (세션 종료 시 정리)
+    private final Map<String, SessionOutboundQueue> outboundQueues = new ConcurrentHashMap<>();
+    // 모든 세션 큐에 쌓인 메시지 수
+    private final AtomicInteger totalQueued = new AtomicInteger();
+    private DistributionSummary queueDepthSummary;
+
+    // 세션 하나에 쌓아 둘 수 있는 최대 메시지 수
+    @Value("${websocket.outbound.buffer-size:256}")
+    private int bufferSize;
+
+    // 메시지 하나를 보내는 데 허용하는 최대 시간
+    @Value("${websocket.outbound.send-time-limit-ms:10000}")
+    private long sendTimeLimitMillis;
+
+    // 송신 큐를 비우는 공용 스레드 수 (0이면 CPU 코어 수 x 2)
+    @Value("${websocket.outbound.threads:0}")
+    private int outboundThreads;
+
+    // true면 게임 액션 하나에서 나온 방 메시지를 BATCH 프레임 하나로 묶어 전송
+    @Value("${websocket.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    private static final String ROOM_BATCH_KEY = "roomBatch";
+
     @PostConstruct
     public void init() {
-        // 고정된 10개의 스레드를 가진 풀을 생성 (필요에 따라 조정 가능)
-        executorService = Executors.newFixedThreadPool(10);
+        int threads = outboundThreads > 0 ? outboundThreads : Runtime.getRuntime().availableProcessors() * 2;
+        executorService = Executors.newFixedThreadPool(threads);
+        Gauge.builder("websocket.outbound.queued", totalQueued, AtomicInteger::get)
+                .description("전체 세션 송신 큐에 쌓인 메시지 수")
+                .register(meterRegistry);
+        queueDepthSummary = DistributionSummary.builder("websocket.outbound.queue.depth")
+                .description("메시지를 넣은 직후 세션 송신 큐 길이")
+                .register(meterRegistry);
+        // 다른 노드가 보낸 방 프레임은 이 노드의 방 세션에만 전송
+        roomFrameRelay.subscribe(this::deliverLocal);
     }
 
     @PreDestroy
@@ -43,60 +93,284 @@ public class SessionMessageService {
     public void sendMessage(WebSocketSession session, ErrorMessageDto message) {
         try {
             String jsonString = objectMapper.writeValueAsString(message);
-            send(session, new TextMessage(jsonString));
-        } catch (JsonProcessingException e) {
+            send(session, encode(session, jsonString));
+        } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
     public void sendMessage(WebSocketSession session, MessageDto message) {
         try {
+            if (session != null && cborFrameCodec.isBinary(session)) {
+                send(session, new BinaryMessage(cborFrameCodec.encode(message)));
+                return;
+            }
             String jsonString = objectMapper.writeValueAsString(message);
             System.out.println(jsonString);
             send(session, new TextMessage(jsonString));
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
     /**
      * 방의 모든 플레이어에게 메시지 전송
+     * - 게임 액션 중이면 상태 저장이 성공한 뒤에 보내도록 미룹니다.
      *
      * @param roomId    방 ID
      * @param message   전송할 메시지
      */
     public void sendMessageToRoom(String roomId, MessageDto message) {
+        sendMessageToRoom(roomId, message.getType(), message.getPayload());
+    }
+
+    /**
+     * 방의 모든 플레이어에게 메시지 전송 (payload를 JsonNode로 바꾸지 않고 바로 직렬화)
+     * - payload는 호출 시점에 한 번만 직렬화하므로 이후 원본 객체가 바뀌어도 보낼 내용은 그대로입니다.
+     * - 프레임은 순번을 붙여 한 번만 만들고 모든 세션에 같은 프레임을 보냅니다.
+     *
+     * @param roomId    방 ID
+     * @param type      메시지 타입
+     * @param payload   전송할 payload 객체
+     */
+    public void sendMessageToRoom(String roomId, MessageType type, Object payload) {
+        String payloadJson;
         try {
-            String usersKey = "room:" + roomId + ":users";
-            Set<String> userIds = redisTemplate.opsForSet().members(usersKey);
-
-            for (String userId : userIds) {
-                WebSocketSession session = webSocketSessionService.getSessionByUserId(userId);
-                if (session != null && session.isOpen()) {
-                    sendMessage(session, message);
-                } else {
-                    log.warn("사용자 {}의 세션을 찾을 수 없거나 연결이 닫혀있음", userId);
-                }
-            }
+            payloadJson = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("방 메시지 직렬화 실패: roomId={}, type={}", roomId, type, e);
+            return;
+        }
+        GameActionContext context = GameActionContext.currentFor(roomId);
+        if (context != null && batchEnabled) {
+            // 액션 중 방 메시지는 모아 두었다가 저장 후 BATCH 프레임 하나로 전송 (첫 메시지 때 전송 예약)
+            context.resource(ROOM_BATCH_KEY, () -> {
+                List<RoomMessage> batch = new ArrayList<>();
+                context.afterCommit(() -> broadcastBatch(roomId, batch));
+                return batch;
+            }).add(new RoomMessage(type, payloadJson));
+            return;
+        }
+        if (context != null) {
+            context.afterCommit(() -> broadcast(roomId, type, payloadJson));
+            return;
+        }
+        broadcast(roomId, type, payloadJson);
+    }
+
+    private void broadcast(String roomId, MessageType type, String payloadJson) {
+        try {
+            deliver(roomId, roomFrame(type, payloadJson, nextSequence(roomId)));
         } catch (Exception e) {
             log.error("전송 실패: {}", roomId, e);
         }
     }
 
-    private void send(WebSocketSession session, TextMessage message) {
-        executorService.submit(() -> {
-            if (session != null && session.isOpen()) {
-                try {
-                    session.sendMessage(message);
-                } catch (IOException e) {
-                    // 예외 처리 로깅
-                    e.printStackTrace();
+    /**
+     * 한 액션에서 나온 방 메시지를 순서대로 묶어 전송 (메시지마다 순번은 따로 붙임)
+     */
+    private void broadcastBatch(String roomId, List<RoomMessage> batch) {
+        if (batch.size() == 1) {
+            broadcast(roomId, batch.get(0).type(), batch.get(0).payloadJson());
+            return;
+        }
+        try {
+            long lastSeq = nextSequence(roomId, batch.size());
+            deliver(roomId, batchFrame(batch, lastSeq - batch.size() + 1));
+        } catch (Exception e) {
+            log.error("전송 실패: {}", roomId, e);
+        }
+    }
+
+    /**
+     * 다른 노드에 연결된 플레이어에게는 그 노드로 프레임을 넘기고, 이 노드의 세션에는 바로 전송
+     */
+    private void deliver(String roomId, String frame) {
+        for (String nodeId : roomSessionIndex.remoteNodes(roomId)) {
+            roomFrameRelay.publish(nodeId, roomId, frame);
+        }
+        deliverLocal(roomId, frame);
+    }
+
+    /**
+     * 이 노드에 연결된 방 세션에 프레임 전송
+     * - 받는 세션은 이 서버의 방 세션 목록에서 찾음 (순번 발급 외에는 Redis를 거치지 않음)
+     * - 바이너리 프로토콜 세션이 있으면 CBOR 프레임도 한 번만 만들어 함께 사용합니다.
+     */
+    private void deliverLocal(String roomId, String frame) {
+        TextMessage text = null;
+        BinaryMessage binary = null;
+        for (WebSocketSession session : roomSessionIndex.sessions(roomId)) {
+            if (cborFrameCodec.isBinary(session)) {
+                if (binary == null) {
+                    binary = encodeRoomFrame(roomId, frame);
+                    if (binary == null) {
+                        continue;
+                    }
+                }
+                send(session, binary);
+            } else {
+                if (text == null) {
+                    text = new TextMessage(frame);
                 }
+                send(session, text);
+            }
+        }
+    }
+
+    private BinaryMessage encodeRoomFrame(String roomId, String frame) {
+        try {
+            return new BinaryMessage(cborFrameCodec.encodeRoomFrame(frame));
+        } catch (IOException e) {
+            log.error("방 메시지 CBOR 변환 실패: roomId={}", roomId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 세션 프로토콜에 맞는 프레임 (바이너리 세션이면 같은 구조의 CBOR)
+     */
+    private WebSocketMessage<?> encode(WebSocketSession session, String json) throws IOException {
+        if (session != null && cborFrameCodec.isBinary(session)) {
+            return new BinaryMessage(cborFrameCodec.fromJson(json));
+        }
+        return new TextMessage(json);
+    }
+
+    /**
+     * 직렬화된 payload로 MessageDto와 같은 형식의 방 메시지 프레임 생성
+     */
+    static String roomFrame(MessageType type, String payloadJson, long seq) {
+        return "{\"type\":" + (type != null ? "\"" + type.name() + "\"" : "null")
+                + ",\"payload\":" + payloadJson
+                + ",\"seq\":" + seq + "}";
+    }
+
+    /**
+     * 여러 방 메시지 프레임을 순서대로 담은 BATCH 프레임 ({"type":"BATCH","payload":[프레임...]})
+     * @param firstSeq 첫 메시지의 순번 (이후 메시지는 1씩 증가)
+     */
+    static String batchFrame(List<RoomMessage> batch, long firstSeq) {
+        StringBuilder frame = new StringBuilder("{\"type\":\"").append(MessageType.BATCH.name()).append("\",\"payload\":[");
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                frame.append(',');
             }
-        });
+            frame.append(roomFrame(batch.get(i).type(), batch.get(i).payloadJson(), firstSeq + i));
+        }
+        return frame.append("]}").toString();
+    }
+
+    /**
+     * 방 브로드캐스트 순번 발급 (여러 서버가 같은 방에 보내도 순서가 이어지도록 Redis에서 증가)
+     */
+    public long nextSequence(String roomId) {
+        return nextSequence(roomId, 1);
+    }
+
+    /**
+     * 방 브로드캐스트 순번 count개를 한 번에 발급
+     * @return 발급한 마지막 순번
+     */
+    private long nextSequence(String roomId, int count) {
+        Long seq = stringRedisTemplate.opsForValue().increment(sequenceKey(roomId), count);
+        return seq != null ? seq : 0L;
+    }
+
+    /**
+     * 마지막으로 발급된 방 브로드캐스트 순번
+     */
+    public long currentSequence(String roomId) {
+        String seq = stringRedisTemplate.opsForValue().get(sequenceKey(roomId));
+        return seq != null ? Long.parseLong(seq) : 0L;
+    }
+
+    public void resetSequence(String roomId) {
+        stringRedisTemplate.delete(sequenceKey(roomId));
+    }
+
+    private String sequenceKey(String roomId) {
+        return "room:" + roomId + ":seq";
+    }
+
+    /**
+     * 세션 송신 큐에 넣어 순서대로 전송
+     * - 버퍼가 가득 찼거나 전송이 제한 시간을 넘긴 세션은 느린 클라이언트로 보고 연결을 끊습니다.
+     */
+    private void send(WebSocketSession session, WebSocketMessage<?> message) {
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        SessionOutboundQueue queue = outboundQueues.computeIfAbsent(session.getId(),
+                id -> new SessionOutboundQueue(session, executorService, bufferSize, sendTimeLimitMillis, totalQueued));
+        SessionOutboundQueue.Result result = queue.offer(message);
+        if (result == SessionOutboundQueue.Result.QUEUED) {
+            queueDepthSummary.record(queue.size());
+            return;
+        }
+        if (result == SessionOutboundQueue.Result.CLOSED) {
+            releaseSession(session.getId());
+            return;
+        }
+        dropSlowSession(session, result);
+    }
+
+    /**
+     * 전송이 제한 시간을 넘긴 채 멈춘 세션 종료
+     * - 새 메시지가 들어오지 않으면 offer에서 확인할 기회가 없어 공용 송신 스레드를 계속 붙잡으므로 주기적으로 확인합니다.
+     * - 세션을 닫으면 막혀 있던 전송도 풀려 스레드가 반납됩니다.
+     */
+    @Scheduled(fixedDelayString = "${websocket.outbound.sweep-ms:1000}")
+    public void closeStalledSessions() {
+        long now = System.currentTimeMillis();
+        for (SessionOutboundQueue queue : outboundQueues.values()) {
+            if (queue.isSendTimeExceeded(now)) {
+                dropSlowSession(queue.getSession(), SessionOutboundQueue.Result.SEND_TIME_EXCEEDED);
+            }
+        }
+    }
+
+    private void dropSlowSession(WebSocketSession session, SessionOutboundQueue.Result reason) {
+        log.warn("느린 클라이언트 연결 종료: sessionId={}, reason={}", session.getId(), reason);
+        meterRegistry.counter("websocket.outbound.dropped.sessions", "reason", reason.name().toLowerCase()).increment();
+        releaseSession(session.getId());
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | IllegalStateException e) {
+            // 전송 중인 세션은 종료 프레임을 보내지 못할 수 있음
+            log.warn("느린 클라이언트 세션 종료 실패: sessionId={}", session.getId(), e);
+        }
+    }
+
+    /**
+     * 세션 송신 큐 정리 (연결 종료 시 호출)
+     */
+    public void releaseSession(String sessionId) {
+        SessionOutboundQueue queue = outboundQueues.remove(sessionId);
+        if (queue != null) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * {type, message} 형태의 오류 메시지 전송
+     */
+    public void sendError(WebSocketSession session, String type, String message) {
+        String json = "{\"type\":\"" + type + "\", \"message\":\"" + message + "\"}";
+        sendError(session, new TextMessage(json));
     }
 
     public void sendError(WebSocketSession session, TextMessage textMessage) {
-        send(session, textMessage);
+        try {
+            send(session, encode(session, textMessage.getPayload()));
+        } catch (IOException e) {
+            log.warn("오류 메시지 CBOR 변환 실패: sessionId={}", session.getId(), e);
+        }
+    }
+
+    /**
+     * 묶어서 보낼 방 메시지 (payload는 이미 직렬화됨)
+     */
+    record RoomMessage(MessageType type, String payloadJson) {
     }
 }
@@ -0,0 +1,131 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션 하나의 송신 큐 (소비자 1개)
+ * - 여러 스레드가 넣어도 들어온 순서대로 한 번에 하나씩 보냅니다.
+ * - 보낼 메시지가 생기면 공용 풀에서 비울 때까지 전송하고, 큐가 비면 스레드를 반납합니다.
+ * - 버퍼가 가득 차거나 한 메시지 전송이 제한 시간을 넘기면 느린 클라이언트로 보고 offer가 false를 반환합니다.
+ * - 더 보낼 메시지가 없어도 전송이 멈춘 세션은 SessionMessageService가 주기적으로 isSendTimeExceeded로 찾아 닫습니다.
+ */
+@Slf4j
+final class SessionOutboundQueue {
+
+    enum Result {
+        QUEUED,
+        BUFFER_OVERFLOW,
+        SEND_TIME_EXCEEDED,
+        CLOSED
+    }
+
+    private final WebSocketSession session;
+    private final Executor executor;
+    private final int bufferSize;
+    private final long sendTimeLimitMillis;
+    private final AtomicInteger totalQueued;
+
+    private final Queue<WebSocketMessage<?>> messages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    // 현재 전송을 시작한 시각 (전송 중이 아니면 0)
+    private volatile long sendStartedAt;
+
+    SessionOutboundQueue(WebSocketSession session, Executor executor, int bufferSize, long sendTimeLimitMillis,
+                         AtomicInteger totalQueued) {
+        this.session = session;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.totalQueued = totalQueued;
+    }
+
+    /**
+     * 메시지를 큐에 넣고 전송 예약
+     */
+    Result offer(WebSocketMessage<?> message) {
+        if (!session.isOpen()) {
+            return Result.CLOSED;
+        }
+        if (isSendTimeExceeded(System.currentTimeMillis())) {
+            return Result.SEND_TIME_EXCEEDED;
+        }
+        if (size.incrementAndGet() > bufferSize) {
+            size.decrementAndGet();
+            return Result.BUFFER_OVERFLOW;
+        }
+        messages.add(message);
+        totalQueued.incrementAndGet();
+        scheduleDrain();
+        return Result.QUEUED;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * 지금 보내고 있는 메시지가 제한 시간을 넘겼는지
+     */
+    boolean isSendTimeExceeded(long now) {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && now - startedAt > sendTimeLimitMillis;
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    /**
+     * 남은 메시지 폐기 (세션 종료 시)
+     */
+    void clear() {
+        while (messages.poll() != null) {
+            size.decrementAndGet();
+            totalQueued.decrementAndGet();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            WebSocketMessage<?> message;
+            while ((message = messages.poll()) != null) {
+                size.decrementAndGet();
+                totalQueued.decrementAndGet();
+                if (!session.isOpen()) {
+                    continue;
+                }
+                sendStartedAt = System.currentTimeMillis();
+                try {
+                    session.sendMessage(message);
+                } catch (IOException e) {
+                    log.warn("메시지 전송 실패: sessionId={}", session.getId(), e);
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+        // 비우는 스레드가 빠져나가는 사이에 들어온 메시지 처리
+        if (!messages.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -32,8 +32,8 @@ public class WebSocketCardService {
      */
     public void handleDrawCard(WebSocketSession session, DrawCardPayload payload) {
         try {
-            String roomId = roomService.getRoom(session.getId());
-            String userId = webSocketSessionService.getUserIdBySessionId(session.getId());
+            String roomId = roomService.getRoom(session);
+            String userId = webSocketSessionService.getUserId(session);
             
             log.info("[WebSocket] 카드 뽑기 시작: roomId={}, userName={}", roomId, payload.getUserName());
 
@@ -47,12 +47,7 @@ public class WebSocketCardService {
                         .result(result)
                         .build();
 
-                MessageDto responseMessage = new MessageDto(
-                        MessageType.DRAW_CARD,
-                        objectMapper.valueToTree(responsePayload)
-                );
-
-                sessionMessageService.sendMessageToRoom(roomId, responseMessage);
+                sessionMessageService.sendMessageToRoom(roomId, MessageType.DRAW_CARD, responsePayload);
                 log.info("[WebSocket] 카드 뽑기 성공: roomId={}, cardName={}", roomId, result.getCardName());
             } else {
                 log.error("[WebSocket] 카드 뽑기 실패: roomId={}, userName={}", roomId, payload.getUserName());
@@ -68,8 +63,8 @@ public class WebSocketCardService {
      */
     public void handleUseCard(WebSocketSession session, UseCardPayload payload) {
         try {
-            String roomId = roomService.getRoom(session.getId());
-            String userId = webSocketSessionService.getUserIdBySessionId(session.getId());
+            String roomId = roomService.getRoom(session);
+            String userId = webSocketSessionService.getUserId(session);
             
             log.info("[WebSocket] 카드 사용 시작: roomId={}, userName={}, cardName={}",
                     roomId, payload.getUserName(), payload.getCardName());
@@ -83,12 +78,7 @@ public class WebSocketCardService {
                     .result(success)
                     .build();
 
-            MessageDto responseMessage = new MessageDto(
-                    MessageType.USE_CARD,
-                    objectMapper.valueToTree(responsePayload)
-            );
-
-            sessionMessageService.sendMessageToRoom(roomId, responseMessage);
+            sessionMessageService.sendMessageToRoom(roomId, MessageType.USE_CARD, responsePayload);
             log.info("[WebSocket] 카드 사용 완료: roomId={}, success={}", roomId, success);
 
         } catch (Exception e) {
@@ -102,8 +92,8 @@ public class WebSocketCardService {
      */
     public void handleAngelDefense(WebSocketSession session) {
         try {
-            String roomId = roomService.getRoom(session.getId());
-            String userId = webSocketSessionService.getUserIdBySessionId(session.getId());
+            String roomId = roomService.getRoom(session);
+            String userId = webSocketSessionService.getUserId(session);
 
             log.info("[WebSocket] 천사카드 방어 요청 (비활성화됨): roomId={}, userId={}", roomId, userId);
 
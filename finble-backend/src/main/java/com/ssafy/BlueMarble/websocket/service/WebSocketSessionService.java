@@ -7,6 +7,9 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
@@ -14,9 +17,13 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class WebSocketSessionService {
     private final RedisTemplate<String, String> redisTemplate;
+    private final ClusterNode clusterNode;
 
     private final String USER_TO_SESSION_KEY = "user:session";     // uid -> sessionId
     private final String SESSION_TO_USER_KEY = "session:user";     // sessionId -> uid
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String NICKNAME_ATTRIBUTE = "nickname";
+    private final String USER_TO_NODE_KEY = "user:node";           // uid -> 세션이 연결된 노드 ID
     private static final ConcurrentHashMap<String, WebSocketSession> sessionIdToSession = new ConcurrentHashMap<>();
 
     public void addSession(String userId, WebSocketSession session) {
@@ -26,6 +33,8 @@ public class WebSocketSessionService {
         hashOps.put(USER_TO_SESSION_KEY, userId, session.getId());
         // sessionId -> userId
         hashOps.put(SESSION_TO_USER_KEY, session.getId(), userId);
+        // userId -> nodeId
+        hashOps.put(USER_TO_NODE_KEY, userId, clusterNode.getNodeId());
 
         //sessionId-> session
         sessionIdToSession.put(session.getId(), session);
@@ -38,6 +47,10 @@ public class WebSocketSessionService {
         // 삭제: 양방향
         hashOps.delete(USER_TO_SESSION_KEY, userId);
         hashOps.delete(SESSION_TO_USER_KEY, sessionId);
+        // 다른 노드로 다시 연결된 경우에는 그 노드의 기록을 지우지 않음
+        if (userId != null && clusterNode.isLocal(hashOps.get(USER_TO_NODE_KEY, userId))) {
+            hashOps.delete(USER_TO_NODE_KEY, userId);
+        }
         sessionIdToSession.remove(sessionId);
     }
 
@@ -45,10 +58,34 @@ public class WebSocketSessionService {
         return (String) redisTemplate.opsForHash().get(USER_TO_SESSION_KEY, userId);
     }
 
+    /**
+     * 세션 사용자 ID (핸드셰이크 때 세션 속성에 넣은 값을 사용하고, 없을 때만 Redis 조회)
+     */
+    public String getUserId(WebSocketSession session) {
+        Object userId = session.getAttributes().get(USER_ID_ATTRIBUTE);
+        return userId != null ? (String) userId : getUserIdBySessionId(session.getId());
+    }
+
+    /**
+     * 세션 사용자 닉네임 (핸드셰이크 때 세션 속성에 넣은 값)
+     */
+    public String getNickname(WebSocketSession session) {
+        return (String) session.getAttributes().get(NICKNAME_ATTRIBUTE);
+    }
+
     public String getUserIdBySessionId(String sessionId) {
         return (String) redisTemplate.opsForHash().get(SESSION_TO_USER_KEY, sessionId);
     }
 
+    /**
+     * 사용자들의 세션이 연결된 노드 ID (userIds 순서, 연결이 없으면 null)
+     */
+    public List<String> getNodeIdsByUserIds(Collection<String> userIds) {
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        List<String> nodeIds = hashOps.multiGet(USER_TO_NODE_KEY, userIds);
+        return nodeIds != null ? nodeIds : new ArrayList<>();
+    }
+
     public WebSocketSession getSessionByUserId(String userId) {
         String sessionId = getSessionIdByUserId(userId);
         return sessionIdToSession.get(sessionId);
@@ -0,0 +1,76 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import com.ssafy.BlueMarble.domain.game.service.GameActionExecutor;
+import com.ssafy.BlueMarble.domain.game.service.GameRedisService;
+import com.ssafy.BlueMarble.domain.game.service.RoomGameEngine;
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TimerServiceTest {
+
+    private GameActionExecutor gameActionExecutor;
+    private GameRedisService gameRedisService;
+    private TurnDeadlineScheduler turnDeadlineScheduler;
+    private TimerService timerService;
+
+    @BeforeEach
+    void setUp() {
+        gameActionExecutor = mock(GameActionExecutor.class);
+        gameRedisService = mock(GameRedisService.class);
+        turnDeadlineScheduler = mock(TurnDeadlineScheduler.class);
+        // 가상 시계면 레인을 거치지 않고 호출한 스레드에서 처리
+        timerService = new TimerService(null, gameRedisService, null, null, null, null, gameActionExecutor, null,
+                turnDeadlineScheduler, new VirtualGameClock(0L));
+    }
+
+    @Test
+    void 턴_종료_처리에_실패하면_마감을_지우지_않고_임대가_끝난_뒤_다시_가져가게_둔다() throws Exception {
+        doThrow(new GameStateConflictException("room-1"))
+                .when(gameActionExecutor).execute(eq("room-1"), eq("TURN_TIMEOUT"), any(RoomGameEngine.RoomAction.class));
+
+        timerService.onTurnDeadline("room-1", "token-1");
+
+        verify(turnDeadlineScheduler, never()).complete(anyString(), anyString());
+    }
+
+    @Test
+    void 지난_타이머는_처리하지_않고_마감을_지운다() throws Exception {
+        runActionsInline();
+        when(turnDeadlineScheduler.isCurrent("room-1", "token-1")).thenReturn(false);
+
+        timerService.onTurnDeadline("room-1", "token-1");
+
+        verify(gameRedisService, never()).getGameMapState(anyString());
+        verify(turnDeadlineScheduler).complete("room-1", "token-1");
+    }
+
+    @Test
+    void 턴_종료를_처리하면_마감을_지운다() throws Exception {
+        runActionsInline();
+        when(turnDeadlineScheduler.isCurrent("room-1", "token-1")).thenReturn(true);
+
+        timerService.onTurnDeadline("room-1", "token-1");
+
+        // 게임 상태가 없으면 로그만 남기고 끝나는 경로
+        verify(gameRedisService).getGameMapState("room-1");
+        verify(turnDeadlineScheduler).complete("room-1", "token-1");
+    }
+
+    private void runActionsInline() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<RoomGameEngine.RoomAction>getArgument(2).run();
+            return null;
+        }).when(gameActionExecutor).execute(anyString(), anyString(), any(RoomGameEngine.RoomAction.class));
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TurnDeadlineSchedulerTest {
+
+    private static final Object SCHEDULE = ReflectionTestUtils.getField(TurnDeadlineScheduler.class, "SCHEDULE");
+    private static final Object CLAIM = ReflectionTestUtils.getField(TurnDeadlineScheduler.class, "CLAIM");
+
+    private StringRedisTemplate stringRedisTemplate;
+    private VirtualGameClock clock;
+    private TurnDeadlineScheduler scheduler;
+
+    // CLAIM 스크립트가 차례대로 돌려줄 결과
+    private final Deque<List<String>> claimResults = new ArrayDeque<>();
+    private final List<String> scheduledArgs = new CopyOnWriteArrayList<>();
+    private final List<String> fired = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        when(stringRedisTemplate.execute(ArgumentMatchers.<RedisScript<Object>>any(), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    Object script = invocation.getArgument(0);
+                    if (script == CLAIM) {
+                        synchronized (claimResults) {
+                            List<String> result = claimResults.poll();
+                            return result != null ? result : List.of();
+                        }
+                    }
+                    if (script == SCHEDULE) {
+                        scheduledArgs.add(invocation.getArgument(2) + "|" + invocation.getArgument(4)
+                                + "|" + invocation.getArgument(5));
+                        return 0L;
+                    }
+                    return 0L;
+                });
+
+        clock = new VirtualGameClock(1_000_000L);
+        scheduler = new TurnDeadlineScheduler(stringRedisTemplate, clock);
+        ReflectionTestUtils.setField(scheduler, "claimBatchSize", 2);
+        ReflectionTestUtils.setField(scheduler, "leaseMillis", 30000L);
+        ReflectionTestUtils.setField(scheduler, "horizonMillis", 60000L);
+        scheduler.init();
+        scheduler.subscribe((roomId, token) -> fired.add(roomId + "/" + token));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 가져간_마감_타이머를_방과_토큰으로_나눠_넘기고_가득_차면_다시_가져간다() {
+        claimResults.add(List.of("room-1|a", "room-2|b"));
+        claimResults.add(List.of("room-3|c"));
+
+        scheduler.claimDue();
+
+        assertEquals(List.of("room-1/a", "room-2/b", "room-3/c"), fired);
+    }
+
+    @Test
+    void 예약하면_게임_시계가_마감_시각에_이르렀을_때_이_노드가_바로_가져간다() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.subscribe((roomId, token) -> {
+            fired.add(roomId + "/" + token);
+            latch.countDown();
+        });
+
+        // 턴 시간 30초를 기다리지 않고 가상 시계로 흘림
+        String token = scheduler.schedule("room-1", 30, TimeUnit.SECONDS);
+        synchronized (claimResults) {
+            claimResults.add(List.of(TurnDeadlineScheduler.member("room-1", token)));
+        }
+        assertEquals(List.of("room-1|30000|1000000"), scheduledArgs);
+
+        clock.advance(29, TimeUnit.SECONDS);
+        assertEquals(1, clock.pending());
+        clock.advance(1, TimeUnit.SECONDS);
+
+        assertEquals(0, clock.pending());
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of("room-1/" + token), fired);
+    }
+
+    @Test
+    void 멤버에서_방_ID를_분리한다() {
+        assertEquals("room|with|bar", TurnDeadlineScheduler.roomIdOf("room|with|bar|token"));
+        assertEquals(null, TurnDeadlineScheduler.roomIdOf("no-separator"));
+    }
+}
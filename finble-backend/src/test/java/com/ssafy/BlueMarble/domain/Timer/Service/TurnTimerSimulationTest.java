@@ -0,0 +1,146 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.domain.game.repository.HashGameStateStore;
+import com.ssafy.BlueMarble.domain.game.repository.SnapshotGameStateStore;
+import com.ssafy.BlueMarble.domain.game.repository.StreamGameStateStore;
+import com.ssafy.BlueMarble.domain.game.service.BoardTemplateCatalog;
+import com.ssafy.BlueMarble.domain.game.service.EconomicHistoryService;
+import com.ssafy.BlueMarble.domain.game.service.GameActionExecutor;
+import com.ssafy.BlueMarble.domain.game.service.GameRedisService;
+import com.ssafy.BlueMarble.domain.game.service.GameRulePipeline;
+import com.ssafy.BlueMarble.domain.game.service.GameStateBroadcaster;
+import com.ssafy.BlueMarble.domain.game.service.RoomExecutionLanes;
+import com.ssafy.BlueMarble.domain.game.service.RoomGameEngine;
+import com.ssafy.BlueMarble.domain.room.service.RoomService;
+import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가상 게임 시계로 턴 타이머만으로 진행되는 게임을 끝까지 흘려 보는 시뮬레이션
+ * - 마감 시각은 프로세스 안에서 뜨는 Redis 대역(jedis-mock)에 저장하고, 게임 상태는 메모리 모드로 둡니다.
+ */
+class TurnTimerSimulationTest {
+
+    private static final String ROOM_ID = GameStateFixtures.ROOM_ID;
+    private static final long START_MILLIS = 1_000_000L;
+    private static final int TURNS = 20;
+    private static final int PLAYERS = 2;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private VirtualGameClock clock;
+    private TurnDeadlineScheduler scheduler;
+    private RoomGameEngine roomGameEngine;
+    private SessionMessageService sessionMessageService;
+    private TimerService timerService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        redisServer = RedisServer.newRedisServer().start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        clock = new VirtualGameClock(START_MILLIS);
+        scheduler = new TurnDeadlineScheduler(new StringRedisTemplate(connectionFactory), clock);
+        ReflectionTestUtils.setField(scheduler, "claimBatchSize", 100);
+        ReflectionTestUtils.setField(scheduler, "leaseMillis", 30000L);
+        ReflectionTestUtils.setField(scheduler, "horizonMillis", 60000L);
+        scheduler.init();
+
+        // 게임 상태는 메모리 모드 (보드 템플릿 없이 그대로 저장)
+        roomGameEngine = new RoomGameEngine();
+        BoardTemplateCatalog boardTemplateCatalog = mock(BoardTemplateCatalog.class);
+        when(boardTemplateCatalog.compact(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(boardTemplateCatalog.materialize(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        ObjectProvider<GameRedisService> redisProvider = mock(ObjectProvider.class);
+        ObjectProvider<GameRulePipeline> ruleProvider = mock(ObjectProvider.class);
+        when(ruleProvider.getObject()).thenReturn(mock(GameRulePipeline.class));
+        GameActionExecutor executor = new GameActionExecutor(roomGameEngine, new SimpleMeterRegistry(),
+                redisProvider, ruleProvider);
+        GameRedisService gameRedisService = new GameRedisService(mock(RedisTemplate.class), new ObjectMapper(),
+                roomGameEngine, mock(SnapshotGameStateStore.class), mock(HashGameStateStore.class),
+                mock(StreamGameStateStore.class), executor, boardTemplateCatalog, mock(GameStateBroadcaster.class));
+        ReflectionTestUtils.setField(gameRedisService, "inMemory", true);
+        when(redisProvider.getObject()).thenReturn(gameRedisService);
+
+        UserRedisService userRedisService = mock(UserRedisService.class);
+        for (int i = 0; i < PLAYERS; i++) {
+            when(userRedisService.getUserIdByNickname(GameStateFixtures.nickname(i)))
+                    .thenReturn(GameStateFixtures.userId(i));
+        }
+        sessionMessageService = mock(SessionMessageService.class);
+
+        timerService = new TimerService(mock(RedisTemplate.class), gameRedisService, sessionMessageService,
+                userRedisService, mock(EconomicHistoryService.class), mock(RoomService.class), executor,
+                mock(RoomExecutionLanes.class), scheduler, clock);
+        timerService.subscribeDeadlines();
+
+        roomGameEngine.load(ROOM_ID, createGameState());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        scheduler.shutdown();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void 가상_시계로_턴_타이머만으로_20턴을_기다리지_않고_진행한다() {
+        timerService.startTurnTimer(ROOM_ID, 30L);
+
+        int timeouts = 0;
+        while (roomGameEngine.get(ROOM_ID).getGameTurn() <= TURNS) {
+            // 처리기가 다음 턴 마감을 예약한 뒤에 돌아오므로 다음 예약이 항상 남아 있음
+            assertTrue(clock.advanceToNext(), "다음 턴 마감이 예약되지 않음: timeouts=" + timeouts);
+            timeouts++;
+            assertTrue(timeouts <= TURNS * PLAYERS, "턴이 넘어가지 않음");
+        }
+
+        CreateMapPayload state = roomGameEngine.get(ROOM_ID);
+        assertEquals(TURNS + 1, state.getGameTurn());
+        assertEquals(0, state.getCurrentPlayerIndex());
+        assertEquals(TURNS * PLAYERS, timeouts);
+        assertEquals(START_MILLIS + TimeUnit.SECONDS.toMillis(30) * timeouts, clock.millis());
+        verify(sessionMessageService, times(TURNS * PLAYERS))
+                .sendMessageToRoom(eq(ROOM_ID), eq(MessageType.GAME_STATE_CHANGE), any());
+
+        // 처리한 마감은 지우고 다음 턴 마감 하나만 남음
+        assertEquals(1, clock.pending());
+        assertEquals(1L, new StringRedisTemplate(connectionFactory).opsForZSet()
+                .zCard(TurnDeadlineScheduler.DEADLINES_KEY));
+    }
+
+    private static CreateMapPayload createGameState() {
+        return GameStateFixtures.gameState().players(PLAYERS).noBoard().build();
+    }
+}
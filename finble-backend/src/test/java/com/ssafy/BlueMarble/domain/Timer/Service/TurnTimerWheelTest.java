@@ -0,0 +1,66 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TurnTimerWheelTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TurnTimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 칸 8개 x 10ms: 80ms보다 긴 타이머는 휠을 여러 바퀴 돈 뒤 만료
+        wheel = new TurnTimerWheel(meterRegistry, 10, 8);
+        wheel.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void 예정_시각_순서대로_만료되고_지연을_기록한다() throws Exception {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        wheel.schedule(() -> { fired.add("long"); latch.countDown(); }, 250, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> { fired.add("short"); latch.countDown(); }, 30, TimeUnit.MILLISECONDS);
+        TurnTimerWheel.Timeout middle = wheel.schedule(() -> { fired.add("middle"); latch.countDown(); },
+                120, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of("short", "middle", "long"), fired);
+        assertTrue(middle.isExpired());
+        assertFalse(middle.cancel());
+        assertEquals(3, meterRegistry.get("turn.timer.lag").timer().count());
+        assertEquals(0.0, meterRegistry.get("turn.timer.pending").gauge().value());
+    }
+
+    @Test
+    void 취소한_타이머는_실행하지_않는다() throws Exception {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        TurnTimerWheel.Timeout cancelled = wheel.schedule(() -> fired.add("cancelled"), 40, TimeUnit.MILLISECONDS);
+        wheel.schedule(() -> { fired.add("kept"); latch.countDown(); }, 80, TimeUnit.MILLISECONDS);
+        assertTrue(cancelled.cancel());
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of("kept"), fired);
+        assertTrue(cancelled.isCancelled());
+    }
+}
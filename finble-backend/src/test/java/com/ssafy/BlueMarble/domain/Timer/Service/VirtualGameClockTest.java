@@ -0,0 +1,70 @@
+package com.ssafy.BlueMarble.domain.Timer.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualGameClockTest {
+
+    @Test
+    void 흘린_시간_안의_작업을_예정_시각_순서대로_그_시각에_실행한다() {
+        VirtualGameClock clock = new VirtualGameClock(1_000L);
+        List<String> fired = new ArrayList<>();
+
+        clock.schedule(() -> fired.add("late@" + clock.millis()), 30, TimeUnit.SECONDS);
+        clock.schedule(() -> fired.add("early@" + clock.millis()), 5, TimeUnit.SECONDS);
+        clock.schedule(() -> fired.add("next@" + clock.millis()), 2, TimeUnit.MINUTES);
+
+        clock.advance(1, TimeUnit.MINUTES);
+
+        assertEquals(List.of("early@6000", "late@31000"), fired);
+        assertEquals(61_000L, clock.millis());
+        assertEquals(1, clock.pending());
+    }
+
+    @Test
+    void 실행_중_예약한_작업도_범위_안이면_같은_호출에서_실행한다() {
+        VirtualGameClock clock = new VirtualGameClock(0L);
+        List<Long> turns = new ArrayList<>();
+
+        // 턴이 끝날 때마다 다음 턴 타이머를 거는 게임 20턴
+        Runnable[] turn = new Runnable[1];
+        turn[0] = () -> {
+            turns.add(clock.millis());
+            if (turns.size() < 20) {
+                clock.schedule(turn[0], 30, TimeUnit.SECONDS);
+            }
+        };
+        clock.schedule(turn[0], 35, TimeUnit.SECONDS);
+
+        clock.advance(1, TimeUnit.HOURS);
+
+        assertEquals(20, turns.size());
+        assertEquals(35_000L, turns.get(0));
+        assertEquals(35_000L + 19 * 30_000L, turns.get(19));
+        assertEquals(3_600_000L, clock.millis());
+    }
+
+    @Test
+    void 취소한_작업은_실행하지_않고_다음_예정_시각으로_건너뛸_수_있다() {
+        VirtualGameClock clock = new VirtualGameClock(0L);
+        List<String> fired = new ArrayList<>();
+
+        GameClock.Timeout cancelled = clock.schedule(() -> fired.add("cancelled"), 10, TimeUnit.SECONDS);
+        clock.schedule(() -> fired.add("kept"), 20, TimeUnit.SECONDS);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(clock.advanceToNext());
+
+        assertEquals(List.of("kept"), fired);
+        assertEquals(20_000L, clock.millis());
+        assertFalse(clock.advanceToNext());
+    }
+}
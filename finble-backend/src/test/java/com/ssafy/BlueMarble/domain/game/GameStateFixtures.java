@@ -0,0 +1,165 @@
+package com.ssafy.BlueMarble.domain.game;
+
+import com.ssafy.BlueMarble.domain.game.dto.GameMap;
+import com.ssafy.BlueMarble.domain.game.entity.GameState;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트/벤치마크용 게임 상태 생성기
+ * - 기본값: room-1 방, 진행 중, 1턴, 플레이어 2명(userId 100부터, 닉네임 플레이어0부터, 2천만원), 32칸 보드
+ * - 칸은 0번이 출발, 나머지는 일반땅이며 i번 칸 땅값은 (i + 1) x 10만원입니다.
+ * - 각 테스트는 확인하려는 값만 지정하고 나머지는 기본값을 씁니다.
+ */
+public final class GameStateFixtures {
+
+    public static final String ROOM_ID = "room-1";
+    public static final long START_MONEY = 20_000_000L;
+    public static final int BOARD_SIZE = 32;
+
+    private GameStateFixtures() {
+    }
+
+    public static Builder gameState() {
+        return new Builder();
+    }
+
+    public static String userId(int playerIndex) {
+        return String.valueOf(100 + playerIndex);
+    }
+
+    public static String nickname(int playerIndex) {
+        return "플레이어" + playerIndex;
+    }
+
+    public static final class Builder {
+
+        private int players = 2;
+        private int cells = BOARD_SIZE;
+        private final Map<Integer, Tile.TileType> cellTypes = new HashMap<>();
+        // 칸 번호 -> 소유자의 playerOrder 인덱스
+        private final Map<Integer, Integer> owners = new LinkedHashMap<>();
+        private boolean economicEffect;
+
+        private Builder() {
+        }
+
+        public Builder players(int count) {
+            this.players = count;
+            return this;
+        }
+
+        /**
+         * 보드 칸 수 (0이면 currentMap 없이 만듦)
+         */
+        public Builder cells(int count) {
+            this.cells = count;
+            return this;
+        }
+
+        public Builder noBoard() {
+            return cells(0);
+        }
+
+        public Builder cell(int position, Tile.TileType type) {
+            cellTypes.put(position, type);
+            return this;
+        }
+
+        public Builder cells(Tile.TileType type, int... positions) {
+            for (int position : positions) {
+                cell(position, type);
+            }
+            return this;
+        }
+
+        /**
+         * 칸 소유자 지정 (빌라 한 채를 지은 상태로 두고 플레이어 소유 목록에도 추가)
+         */
+        public Builder owner(int position, int playerIndex) {
+            owners.put(position, playerIndex);
+            return this;
+        }
+
+        /**
+         * 경제 효과 필드(시대/효과명/배수)를 채움
+         */
+        public Builder economicEffect() {
+            this.economicEffect = true;
+            return this;
+        }
+
+        public CreateMapPayload build() {
+            Map<String, CreateMapPayload.PlayerState> playerStates = new LinkedHashMap<>();
+            List<String> playerOrder = new ArrayList<>();
+            for (int i = 0; i < players; i++) {
+                playerStates.put(userId(i), CreateMapPayload.PlayerState.builder()
+                        .userId(userId(i))
+                        .nickname(nickname(i))
+                        .position(0)
+                        .money(START_MONEY)
+                        .ownedProperties(new ArrayList<>())
+                        .isActive(true)
+                        .build());
+                playerOrder.add(nickname(i));
+            }
+
+            CreateMapPayload.CreateMapPayloadBuilder builder = CreateMapPayload.builder()
+                    .roomId(ROOM_ID)
+                    .gameState(GameState.PLAYING)
+                    .gameTurn(1L)
+                    .playerOrder(playerOrder)
+                    .players(playerStates)
+                    .currentPlayerIndex(0);
+            if (cells > 0) {
+                builder.currentMap(createMap(playerOrder, playerStates));
+            }
+            if (economicEffect) {
+                builder.economicPeriodName("근대사")
+                        .economicEffectName("산업혁명")
+                        .economicDescription("산업화로 부동산 가격이 상승하고 있습니다.")
+                        .economicFullName("산업혁명 - 호황")
+                        .salaryMultiplier(1.6)
+                        .buildingCostMultiplier(1.3)
+                        .propertyPriceMultiplier(1.3)
+                        .isBoom(true)
+                        .remainingTurns(2);
+            }
+            return builder.build();
+        }
+
+        private GameMap createMap(List<String> playerOrder, Map<String, CreateMapPayload.PlayerState> playerStates) {
+            List<Tile> tiles = new ArrayList<>();
+            for (int i = 0; i < cells; i++) {
+                Tile.TileType type = cellTypes.getOrDefault(i, i == 0 ? Tile.TileType.START : Tile.TileType.NORMAL);
+                long basePrice = 100_000L * (i + 1);
+                Integer owner = owners.get(i);
+                tiles.add(Tile.builder()
+                        .name(type == Tile.TileType.NORMAL ? "도시 " + i : type.getDescription())
+                        .type(type)
+                        .description(type.getDescription() + " 칸입니다.")
+                        .landPrice(basePrice)
+                        .housePrice(basePrice / 2)
+                        .buildingPrice(basePrice)
+                        .hotelPrice(basePrice * 2)
+                        .cellNumber(i)
+                        .ownerName(owner != null ? playerOrder.get(owner) : null)
+                        .toll(basePrice)
+                        .buildingType(owner != null ? Tile.BuildingType.VILLA : null)
+                        .build());
+                if (owner != null) {
+                    playerStates.get(userId(owner)).getOwnedProperties().add(i);
+                }
+            }
+            GameMap gameMap = new GameMap();
+            gameMap.setCells(tiles);
+            return gameMap;
+        }
+    }
+}
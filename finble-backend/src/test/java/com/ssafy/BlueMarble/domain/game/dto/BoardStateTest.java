@@ -0,0 +1,111 @@
+package com.ssafy.BlueMarble.domain.game.dto;
+
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardStateTest {
+
+    private final List<String> playerOrder = List.of("철수", "영희");
+
+    @Test
+    void 칸_타입과_찬스_특별땅을_배열로_조회한다() {
+        BoardState board = BoardState.of(createMap(), playerOrder);
+
+        assertEquals(32, board.size());
+        assertTrue(board.isChance(3));
+        assertFalse(board.isChance(4));
+        assertTrue(board.isSpecial(5));
+        assertTrue(board.isType(8, Tile.TileType.JAIL));
+        assertEquals(5, board.specialCellCount());
+        assertEquals(1, board.ownerIndex(1));
+        assertEquals("영희", board.ownerName(1));
+        assertEquals(100_000L, board.toll(1));
+    }
+
+    @Test
+    void 변경은_원본_타일에도_반영된다() {
+        GameMap map = createMap();
+        BoardState board = BoardState.of(map, playerOrder);
+
+        board.setOwner(2, 0);
+        board.setBuildingLevel(2, Tile.BuildingType.BUILDING.ordinal());
+        board.setPrices(2, 1L, 2L, 3L, 4L);
+
+        Tile tile = map.getCells().get(2);
+        assertEquals("철수", tile.getOwnerName());
+        assertEquals(Tile.BuildingType.BUILDING, tile.getBuildingType());
+        assertEquals(1L, tile.getLandPrice());
+        assertEquals(2L + 3L, board.totalBuildingCost(2, Tile.BuildingType.FIELD.ordinal(), Tile.BuildingType.BUILDING.ordinal()));
+
+        board.setOwner(2, BoardState.NO_OWNER);
+        assertNull(tile.getOwnerName());
+    }
+
+    @Test
+    void 특별땅_소유_개수를_센다() {
+        BoardState board = BoardState.of(createMap(), playerOrder);
+        for (int position : new int[]{5, 13, 21, 28}) {
+            board.setOwner(position, 0);
+        }
+        assertEquals(4, board.countSpecialOwnedBy(0));
+
+        board.setOwner(31, 0);
+        assertEquals(board.specialCellCount(), board.countSpecialOwnedBy(0));
+        assertEquals(0, board.countSpecialOwnedBy(1));
+    }
+
+    @Test
+    void GameMap으로_변환하면_같은_칸_정보를_갖는다() {
+        GameMap map = createMap();
+        GameMap converted = BoardState.of(map, playerOrder).toGameMap();
+
+        assertEquals(map.getCells().size(), converted.getCells().size());
+        for (int i = 0; i < map.getCells().size(); i++) {
+            Tile expected = map.getCells().get(i);
+            Tile actual = converted.getCells().get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getOwnerName(), actual.getOwnerName());
+            assertEquals(expected.getBuildingType(), actual.getBuildingType());
+            assertEquals(expected.getLandPrice(), actual.getLandPrice());
+            assertEquals(expected.getToll(), actual.getToll());
+            assertEquals(i, actual.getCellNumber());
+        }
+    }
+
+    private GameMap createMap() {
+        List<Tile> cells = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            Tile.TileType type = i == 0 ? Tile.TileType.START
+                    : i % 8 == 3 ? Tile.TileType.CHANCE
+                    : i == 5 || i == 13 || i == 21 || i == 28 || i == 31 ? Tile.TileType.SPECIAL
+                    : i == 8 ? Tile.TileType.JAIL
+                    : Tile.TileType.NORMAL;
+            Tile tile = Tile.builder()
+                    .name("칸 " + i)
+                    .type(type)
+                    .description(type.getDescription())
+                    .landPrice(100_000L * i)
+                    .housePrice(50_000L * i)
+                    .buildingPrice(100_000L * i)
+                    .hotelPrice(200_000L * i)
+                    .cellNumber(i)
+                    .ownerName(i == 1 ? "영희" : null)
+                    .toll(100_000L * i)
+                    .buildingType(i == 1 ? Tile.BuildingType.VILLA : null)
+                    .build();
+            cells.add(tile);
+        }
+        GameMap gameMap = new GameMap();
+        gameMap.setCells(cells);
+        return gameMap;
+    }
+}
@@ -0,0 +1,83 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GameEventReplayerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void 스냅샷과_이후_이벤트로_마지막_상태를_복원한다() throws Exception {
+        CreateMapPayload state = createGameState();
+        state.setVersion(1L);
+        CreateMapPayload snapshot = GameStateFields.restore(GameStateFields.flatten(state));
+
+        List<Map<String, String>> events = new ArrayList<>();
+        Map<String, String> previous = GameStateFields.flatten(state);
+
+        // 주사위 이동 + 통행료
+        CreateMapPayload.PlayerState player = state.getPlayers().get("100");
+        player.setPosition(5);
+        player.setMoney(player.getMoney() - 300_000L);
+        previous = append(events, "USE_DICE", state, 2L, previous);
+
+        // 땅 구매 후 턴 넘김
+        state.getCurrentMap().getCells().get(5).setOwnerName("플레이어0");
+        player.getOwnedProperties().add(5);
+        state.setCurrentPlayerIndex(1);
+        state.setGameTurn(state.getGameTurn() + 1);
+        append(events, "CONSTRUCT_BUILDING", state, 3L, previous);
+
+        CreateMapPayload replayed = GameEventReplayer.replay(snapshot, events);
+        state.setVersion(3L);
+        assertEquals(objectMapper.writeValueAsString(state), objectMapper.writeValueAsString(replayed));
+        assertEquals("USE_DICE", events.get(0).get(GameEventReplayer.TYPE_FIELD));
+    }
+
+    @Test
+    void 스냅샷보다_오래된_이벤트는_건너뛴다() throws Exception {
+        CreateMapPayload state = createGameState();
+        Map<String, String> previous = GameStateFields.flatten(state);
+        List<Map<String, String>> events = new ArrayList<>();
+
+        state.getPlayers().get("101").setMoney(1L);
+        append(events, "NTS_EVENT", state, 1L, previous);
+
+        state.setVersion(1L);
+        CreateMapPayload snapshot = GameStateFields.restore(GameStateFields.flatten(state));
+        assertEquals(objectMapper.writeValueAsString(state),
+                objectMapper.writeValueAsString(GameEventReplayer.replay(snapshot, events)));
+    }
+
+    @Test
+    void 중간_버전이_빠지면_복원하지_않는다() {
+        CreateMapPayload state = createGameState();
+        state.setVersion(1L);
+        CreateMapPayload snapshot = GameStateFields.restore(GameStateFields.flatten(state));
+
+        List<Map<String, String>> events = List.of(GameEventReplayer.toEvent("USE_DICE", 3L, Map.of()));
+        assertNull(GameEventReplayer.replay(snapshot, events));
+    }
+
+    private Map<String, String> append(List<Map<String, String>> events, String type, CreateMapPayload state,
+                                       long version, Map<String, String> previous) {
+        Map<String, String> fields = GameStateFields.flatten(state);
+        events.add(GameEventReplayer.toEvent(type, version, GameStateFields.diff(previous, fields)));
+        return fields;
+    }
+
+    private CreateMapPayload createGameState() {
+        return GameStateFixtures.gameState().build();
+    }
+}
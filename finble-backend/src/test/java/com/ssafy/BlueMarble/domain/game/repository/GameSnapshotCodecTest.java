@@ -0,0 +1,104 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.domain.game.dto.BoardOverlay;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSnapshotCodecTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void 모든_코덱이_같은_게임_상태로_복원된다() throws Exception {
+        CreateMapPayload state = createGameState();
+        String expected = objectMapper.writeValueAsString(state);
+
+        for (GameSnapshotCodec codec : codecs()) {
+            byte[] encoded = codec.encode(state);
+            assertEquals(codec.format(), encoded[0], codec.name());
+            assertEquals(expected, objectMapper.writeValueAsString(codec.decode(encoded)), codec.name());
+        }
+    }
+
+    @Test
+    void 보드_템플릿_오버레이_상태도_복원되고_칸_목록보다_작다() throws Exception {
+        CreateMapPayload full = createGameState();
+        BoardOverlay overlay = BoardOverlay.initial(GameStateFixtures.BOARD_SIZE);
+        for (int i = 0; i < GameStateFixtures.BOARD_SIZE; i++) {
+            Tile tile = full.getCurrentMap().getCells().get(i);
+            overlay.getOwnerIndex()[i] = tile.getOwnerName() != null ? full.getPlayerOrder().indexOf(tile.getOwnerName()) : BoardOverlay.NO_OWNER;
+            overlay.getBuildingLevel()[i] = tile.getBuildingType() != null ? (byte) tile.getBuildingType().ordinal() : BoardOverlay.NO_BUILDING;
+            overlay.getLandMultiplier()[i] = 1.3;
+            overlay.getBuildMultiplier()[i] = 1.3;
+        }
+        CreateMapPayload seeded = full.toBuilder().currentMap(null).boardSeed(5L).boardOverlay(overlay).build();
+        String expected = objectMapper.writeValueAsString(seeded);
+
+        for (GameSnapshotCodec codec : codecs()) {
+            byte[] encoded = codec.encode(seeded);
+            assertEquals(expected, objectMapper.writeValueAsString(codec.decode(encoded)), codec.name());
+            assertTrue(encoded.length < codec.encode(full).length, codec.name() + " 오버레이 스냅샷이 더 커짐");
+        }
+    }
+
+    @Test
+    void 헤더로_형식을_구분해_함께_읽는다() throws Exception {
+        CreateMapPayload state = createGameState();
+        GameSnapshotCodecs binaryCodecs = new GameSnapshotCodecs(objectMapper, "binary-deflate");
+        String expected = objectMapper.writeValueAsString(state);
+
+        // 기존 JSON 스냅샷과 바이너리 스냅샷을 같은 설정에서 모두 읽을 수 있어야 함
+        byte[] legacyJson = objectMapper.writeValueAsBytes(state);
+        byte[] binary = binaryCodecs.encoder().encode(state);
+
+        assertEquals(expected, objectMapper.writeValueAsString(binaryCodecs.decode(legacyJson)));
+        assertEquals(expected, objectMapper.writeValueAsString(binaryCodecs.decode(binary)));
+    }
+
+    @Test
+    void 바이너리_스냅샷이_JSON보다_작다() throws Exception {
+        CreateMapPayload state = createGameState();
+        int jsonBytes = new JsonSnapshotCodec(objectMapper).encode(state).length;
+
+        // 인코딩/디코딩 시간은 src/jmh의 GameSnapshotCodecBenchmark에서 잽니다
+        assertTrue(new BinarySnapshotCodec(false).encode(state).length < jsonBytes);
+        assertTrue(new BinarySnapshotCodec(true).encode(state).length < jsonBytes);
+    }
+
+    private List<GameSnapshotCodec> codecs() {
+        return List.of(
+                new JsonSnapshotCodec(objectMapper),
+                new BinarySnapshotCodec(false),
+                new BinarySnapshotCodec(true));
+    }
+
+    private CreateMapPayload createGameState() {
+        // 코덱이 모든 필드를 다루는지 보도록 소유자/감옥/경제 효과/버전까지 채움
+        CreateMapPayload state = GameStateFixtures.gameState()
+                .players(4)
+                .cells(Tile.TileType.CHANCE, 3, 11, 19, 27)
+                .cell(8, Tile.TileType.JAIL)
+                .owner(1, 1)
+                .owner(6, 2)
+                .owner(16, 3)
+                .economicEffect()
+                .build();
+        CreateMapPayload.PlayerState jailed = state.getPlayers().get(GameStateFixtures.userId(2));
+        jailed.setPosition(8);
+        jailed.setInJail(true);
+        jailed.setJailTurns(3);
+        state.setCurrentPlayerIndex(2);
+        state.setGameTurn(7L);
+        state.setVersion(12L);
+        return state;
+    }
+}
@@ -0,0 +1,134 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.domain.game.dto.BoardOverlay;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameStateFieldsTest {
+
+    private static final int CELLS = 8;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void 칸_목록을_가진_게임_상태를_펼쳤다가_그대로_복원한다() throws Exception {
+        CreateMapPayload state = createGameState();
+
+        Map<String, String> fields = GameStateFields.flatten(state);
+
+        assertEquals("도시 1", fields.get(GameStateFields.BOARD + "1.name"));
+        assertEquals("플레이어1", fields.get(GameStateFields.TILE + "1.ownerName"));
+        assertEquals(objectMapper.writeValueAsString(state),
+                objectMapper.writeValueAsString(GameStateFields.restore(fields)));
+    }
+
+    @Test
+    void 보드_템플릿_오버레이_상태는_board_필드_없이_펼쳤다가_그대로_복원한다() throws Exception {
+        BoardOverlay overlay = BoardOverlay.initial(CELLS);
+        overlay.getOwnerIndex()[1] = 1;
+        overlay.getBuildingLevel()[1] = (byte) Tile.BuildingType.VILLA.ordinal();
+        overlay.getLandMultiplier()[2] = 1.3;
+        overlay.getBuildMultiplier()[2] = 0.7;
+        CreateMapPayload state = createGameState().toBuilder()
+                .currentMap(null)
+                .boardSeed(5L)
+                .boardOverlay(overlay)
+                .build();
+
+        Map<String, String> fields = GameStateFields.flatten(state);
+
+        assertFalse(fields.keySet().stream().anyMatch(key -> key.startsWith(GameStateFields.BOARD)));
+        assertEquals("1", fields.get(GameStateFields.TILE + "1.ownerIndex"));
+        assertEquals(objectMapper.writeValueAsString(state),
+                objectMapper.writeValueAsString(GameStateFields.restore(fields)));
+    }
+
+    @Test
+    void 값이_null인_필드는_기록하지_않고_복원해도_null이다() {
+        CreateMapPayload state = createGameState().toBuilder()
+                .economicFullName(null)
+                .salaryMultiplier(null)
+                .version(null)
+                .build();
+
+        Map<String, String> fields = GameStateFields.flatten(state);
+
+        assertFalse(fields.containsKey(GameStateFields.META + "economicFullName"));
+        assertFalse(fields.containsKey(GameStateFields.META + "salaryMultiplier"));
+        assertFalse(fields.containsKey(GameStateFields.VERSION));
+        assertFalse(fields.containsKey(GameStateFields.META + "boardSeed"));
+        // 소유자/건물이 없는 칸
+        assertFalse(fields.containsKey(GameStateFields.TILE + "2.ownerName"));
+        assertFalse(fields.containsKey(GameStateFields.TILE + "2.buildingType"));
+        assertFalse(fields.containsValue("null"));
+
+        CreateMapPayload restored = GameStateFields.restore(fields);
+        assertNull(restored.getEconomicFullName());
+        assertNull(restored.getSalaryMultiplier());
+        assertNull(restored.getVersion());
+        assertNull(restored.getCurrentMap().getCells().get(2).getOwnerName());
+        assertNull(restored.getCurrentMap().getCells().get(2).getBuildingType());
+    }
+
+    @Test
+    void 플레이어나_필드가_사라지면_diff에_null로_남고_적용하면_이후_상태가_된다() {
+        CreateMapPayload beforeState = createGameState();
+        CreateMapPayload afterState = createGameState();
+        afterState.getPlayers().remove("101");
+        afterState.getPlayerOrder().remove("플레이어1");
+        afterState.getPlayers().get("100").setMoney(19_000_000L);
+        afterState.setEconomicFullName(null);
+        afterState.getCurrentMap().getCells().get(1).setOwnerName(null);
+
+        Map<String, String> before = GameStateFields.flatten(beforeState);
+        Map<String, String> after = GameStateFields.flatten(afterState);
+        Map<String, String> changed = GameStateFields.diff(before, after);
+
+        assertEquals("19000000", changed.get(GameStateFields.PLAYER + "100.money"));
+        assertTrue(changed.containsKey(GameStateFields.PLAYER + "101.money"));
+        assertNull(changed.get(GameStateFields.PLAYER + "101.money"));
+        assertTrue(changed.containsKey(GameStateFields.META + "economicFullName"));
+        assertNull(changed.get(GameStateFields.META + "economicFullName"));
+        assertTrue(changed.containsKey(GameStateFields.TILE + "1.ownerName"));
+        assertNull(changed.get(GameStateFields.TILE + "1.ownerName"));
+        // 바뀌지 않은 필드는 포함하지 않음
+        assertFalse(changed.containsKey(GameStateFields.PLAYER + "100.nickname"));
+        assertFalse(changed.containsKey(GameStateFields.BOARD + "1.name"));
+
+        Map<String, String> applied = new LinkedHashMap<>(before);
+        changed.forEach((key, value) -> {
+            if (value == null) {
+                applied.remove(key);
+            } else {
+                applied.put(key, value);
+            }
+        });
+        assertEquals(after, applied);
+        assertFalse(GameStateFields.restore(applied).getPlayers().containsKey("101"));
+    }
+
+    private CreateMapPayload createGameState() {
+        CreateMapPayload state = GameStateFixtures.gameState()
+                .cells(CELLS)
+                .owner(1, 1)
+                .economicEffect()
+                .build();
+        CreateMapPayload.PlayerState jailed = state.getPlayers().get(GameStateFixtures.userId(1));
+        jailed.setInJail(true);
+        jailed.setJailTurns(2);
+        state.setVersion(4L);
+        return state;
+    }
+}
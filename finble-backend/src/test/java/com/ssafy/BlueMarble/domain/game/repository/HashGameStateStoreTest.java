@@ -0,0 +1,93 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static com.ssafy.BlueMarble.domain.game.GameStateFixtures.ROOM_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HashGameStateStoreTest {
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SnapshotGameStateStore snapshotGameStateStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redisServer = RedisServer.newRedisServer().start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        snapshotGameStateStore = mock(SnapshotGameStateStore.class);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void 마지막_기록_기준이_없으면_방의_Hash를_비우고_전체를_기록한다() {
+        CreateMapPayload state = GameStateFixtures.gameState()
+                .players(3)
+                .owner(1, 1)
+                .economicEffect()
+                .build();
+        newStore().save(ROOM_ID, state);
+
+        // 재시작 등으로 기준을 잊은 서버가 null이 된 필드와 나간 플레이어가 있는 상태를 저장
+        state.setEconomicFullName(null);
+        state.getCurrentMap().getCells().get(1).setOwnerName(null);
+        state.getCurrentMap().getCells().get(1).setBuildingType(null);
+        state.getPlayers().remove(GameStateFixtures.userId(2));
+        state.getPlayerOrder().remove(GameStateFixtures.nickname(2));
+        newStore().save(ROOM_ID, state);
+
+        CreateMapPayload loaded = newStore().load(ROOM_ID);
+        assertNull(loaded.getEconomicFullName());
+        assertNull(loaded.getCurrentMap().getCells().get(1).getOwnerName());
+        assertNull(loaded.getCurrentMap().getCells().get(1).getBuildingType());
+        assertEquals(2, loaded.getPlayers().size());
+        assertEquals(2L, loaded.getVersion());
+        assertFalse(redisTemplate.hasKey("room:game:" + ROOM_ID + ":player:" + GameStateFixtures.userId(2)));
+    }
+
+    @Test
+    void 스냅샷_이전이_충돌하면_먼저_옮긴_Hash_레이아웃을_다시_읽는다() {
+        CreateMapPayload migrated = GameStateFixtures.gameState().build();
+        migrated.setGameTurn(3L);
+        CreateMapPayload legacy = GameStateFixtures.gameState().build();
+        // 스냅샷을 읽는 사이 다른 서버가 먼저 옮기고 다음 턴까지 저장함
+        when(snapshotGameStateStore.load(ROOM_ID)).thenAnswer(invocation -> {
+            newStore().save(ROOM_ID, migrated);
+            return legacy;
+        });
+
+        CreateMapPayload loaded = newStore().load(ROOM_ID);
+
+        assertEquals(3L, loaded.getGameTurn());
+        assertEquals(1L, loaded.getVersion());
+        verify(snapshotGameStateStore, never()).delete(ROOM_ID);
+    }
+
+    private HashGameStateStore newStore() {
+        return new HashGameStateStore(redisTemplate, snapshotGameStateStore);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.BlueMarble.domain.game.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LastWrittenFieldsTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final LastWrittenFields lastWritten = new LastWrittenFields(now::get);
+
+    @Test
+    void 유휴_시간보다_오래_기록이_없던_방만_정리한다() {
+        lastWritten.put("room-1", Map.of("meta.version", "1"));
+        now.addAndGet(500);
+        lastWritten.put("room-2", Map.of("meta.version", "1"));
+        now.addAndGet(600);
+
+        assertEquals(1, lastWritten.evictIdle(1_000));
+        assertNull(lastWritten.get("room-1"));
+        assertEquals("1", lastWritten.get("room-2").get("meta.version"));
+    }
+
+    @Test
+    void 다시_기록한_방은_유휴_시간이_처음부터_다시_시작된다() {
+        lastWritten.put("room-1", Map.of("meta.version", "1"));
+        now.addAndGet(900);
+        lastWritten.put("room-1", Map.of("meta.version", "2"));
+        now.addAndGet(900);
+
+        assertEquals(0, lastWritten.evictIdle(1_000));
+        assertEquals("2", lastWritten.get("room-1").get("meta.version"));
+
+        lastWritten.remove("room-1");
+        assertEquals(0, lastWritten.size());
+    }
+}
@@ -0,0 +1,165 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.global.common.event.RoomDeletedEvent;
+import com.ssafy.BlueMarble.global.common.exception.GameStateConflictException;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameActionExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameRedisService gameRedisService;
+    private GameRulePipeline gameRulePipeline;
+    private GameActionExecutor executor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameRedisService = mock(GameRedisService.class);
+        gameRulePipeline = mock(GameRulePipeline.class);
+        ObjectProvider<GameRedisService> redisProvider = mock(ObjectProvider.class);
+        when(redisProvider.getObject()).thenReturn(gameRedisService);
+        ObjectProvider<GameRulePipeline> ruleProvider = mock(ObjectProvider.class);
+        when(ruleProvider.getObject()).thenReturn(gameRulePipeline);
+        executor = new GameActionExecutor(new RoomGameEngine(), meterRegistry, redisProvider, ruleProvider);
+        ReflectionTestUtils.setField(executor, "maxRetries", 2);
+    }
+
+    @Test
+    void 충돌이_나면_액션을_다시_실행한다() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        executor.execute("room-1", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new GameStateConflictException("room-1");
+            }
+        });
+
+        assertEquals(3, attempts.get());
+        assertEquals(2, executor.getConflictCount("room-1"));
+        assertEquals(2.0, meterRegistry.counter("game.state.conflicts").count());
+    }
+
+    @Test
+    void 재시도_횟수를_넘기면_충돌_예외를_던진다() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(GameStateConflictException.class, () -> executor.execute("room-1", () -> {
+            attempts.incrementAndGet();
+            throw new GameStateConflictException("room-1");
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, meterRegistry.counter("game.state.conflicts.exhausted").count());
+    }
+
+    @Test
+    void 방이_삭제되면_방별_충돌_횟수를_정리한다() {
+        executor.recordConflict("room-1");
+
+        executor.handleRoomDeletedEvent(new RoomDeletedEvent(this, "room-1"));
+
+        assertEquals(0, executor.getConflictCount("room-1"));
+    }
+
+    @Test
+    void 액션_중_상태는_한_번만_읽고_저장은_끝날_때_한_번만_한다() throws Exception {
+        CreateMapPayload state = CreateMapPayload.builder().roomId("room-1").build();
+        AtomicInteger loads = new AtomicInteger();
+
+        executor.execute("room-1", () -> {
+            GameActionContext context = GameActionContext.currentFor("room-1");
+            for (int i = 0; i < 3; i++) {
+                assertSame(state, context.state(() -> {
+                    loads.incrementAndGet();
+                    return state;
+                }));
+                context.deferSave(state);
+                GameActionContext.recordRedisCommand();
+            }
+            verify(gameRedisService, never()).saveGameMapState(any(), any());
+        });
+
+        assertEquals(1, loads.get());
+        verify(gameRulePipeline, times(1)).evaluate(eq("room-1"), eq(state), any());
+        verify(gameRedisService, times(1)).saveGameMapState(eq("room-1"), eq(state));
+        assertEquals(3.0, meterRegistry.summary("game.action.redis.commands").max());
+        assertNull(GameActionContext.currentFor("room-1"));
+    }
+
+    @Test
+    void 규칙_평가_뒤_작업은_평가_다음에_실행하고_그_변경만_다시_평가한다() throws Exception {
+        CreateMapPayload state = CreateMapPayload.builder().roomId("room-1").gameTurn(1L).build();
+        List<String> events = new ArrayList<>();
+        List<GameChangeSet> evaluated = new ArrayList<>();
+        doAnswer(invocation -> {
+            events.add("evaluate");
+            evaluated.add(invocation.getArgument(2));
+            return null;
+        }).when(gameRulePipeline).evaluate(eq("room-1"), eq(state), any());
+
+        executor.execute("room-1", () -> {
+            GameActionContext context = GameActionContext.currentFor("room-1");
+            context.state(() -> state);
+            context.deferSave(state);
+            context.afterRules(() -> {
+                events.add("advance");
+                state.setGameTurn(2L);
+            });
+        });
+
+        assertEquals(List.of("evaluate", "advance", "evaluate"), events);
+        assertTrue(evaluated.get(1).isTurnChanged());
+        verify(gameRedisService, times(1)).saveGameMapState(eq("room-1"), eq(state));
+    }
+
+    @Test
+    void 충돌로_재실행되면_이전_시도의_브로드캐스트는_버린다() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> sent = new ArrayList<>();
+
+        executor.execute("room-1", () -> {
+            int attempt = attempts.incrementAndGet();
+            GameActionContext.currentFor("room-1").afterCommit(() -> sent.add(attempt));
+            if (attempt == 1) {
+                throw new GameStateConflictException("room-1");
+            }
+        });
+
+        assertEquals(List.of(2), sent);
+    }
+
+    @Test
+    void 액션_중_게임이_삭제되면_저장하지_않는다() throws Exception {
+        executor.execute("room-1", () -> {
+            GameActionContext context = GameActionContext.currentFor("room-1");
+            context.deferSave(CreateMapPayload.builder().roomId("room-1").build());
+            context.markDeleted();
+        });
+
+        verify(gameRedisService, never()).saveGameMapState(any(), any());
+    }
+}
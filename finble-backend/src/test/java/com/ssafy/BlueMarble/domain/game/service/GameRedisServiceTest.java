@@ -0,0 +1,109 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.domain.game.dto.BoardOverlay;
+import com.ssafy.BlueMarble.domain.game.repository.HashGameStateStore;
+import com.ssafy.BlueMarble.domain.game.repository.SnapshotGameStateStore;
+import com.ssafy.BlueMarble.domain.game.repository.StreamGameStateStore;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameRedisServiceTest {
+
+    private RoomGameEngine roomGameEngine;
+    private GameActionExecutor executor;
+    private GameRedisService gameRedisService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        roomGameEngine = new RoomGameEngine();
+        BoardTemplateCatalog boardTemplateCatalog = mock(BoardTemplateCatalog.class);
+        when(boardTemplateCatalog.compact(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(boardTemplateCatalog.materialize(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ObjectProvider<GameRedisService> redisProvider = mock(ObjectProvider.class);
+        ObjectProvider<GameRulePipeline> ruleProvider = mock(ObjectProvider.class);
+        when(ruleProvider.getObject()).thenReturn(mock(GameRulePipeline.class));
+        executor = new GameActionExecutor(roomGameEngine, new SimpleMeterRegistry(), redisProvider, ruleProvider);
+
+        gameRedisService = new GameRedisService(mock(RedisTemplate.class), new ObjectMapper(), roomGameEngine,
+                mock(SnapshotGameStateStore.class), mock(HashGameStateStore.class), mock(StreamGameStateStore.class),
+                executor, boardTemplateCatalog, mock(GameStateBroadcaster.class));
+        ReflectionTestUtils.setField(gameRedisService, "inMemory", true);
+        when(redisProvider.getObject()).thenReturn(gameRedisService);
+
+        roomGameEngine.load("room-1", createGameState());
+    }
+
+    @Test
+    void 메모리_모드에서_실패한_액션의_변경은_메모리_상태에_남지_않는다() {
+        assertThrows(IllegalStateException.class, () -> executor.execute("room-1", () -> {
+            CreateMapPayload state = gameRedisService.getGameMapState("room-1");
+            state.getPlayers().get("100").setMoney(0L);
+            state.setGameTurn(2L);
+            throw new IllegalStateException("액션 중간 실패");
+        }));
+
+        CreateMapPayload state = roomGameEngine.get("room-1");
+        assertEquals(GameStateFixtures.START_MONEY, state.getPlayers().get("100").getMoney());
+        assertEquals(1L, state.getGameTurn());
+    }
+
+    @Test
+    void 메모리_모드에서_실패한_액션이_바꾼_칸과_오버레이도_메모리_상태에_남지_않는다() {
+        CreateMapPayload board = GameStateFixtures.gameState().build();
+        board.setBoardSeed(1L);
+        board.setBoardOverlay(BoardOverlay.initial(GameStateFixtures.BOARD_SIZE));
+        roomGameEngine.put("room-2", board);
+
+        assertThrows(IllegalStateException.class, () -> executor.execute("room-2", () -> {
+            CreateMapPayload state = gameRedisService.getGameMapState("room-2");
+            state.board().setOwner(7, 0);
+            state.getPlayers().get("100").getOwnedProperties().add(7);
+            state.getBoardOverlay().getLandMultiplier()[7] = 2.0;
+            state.getPlayerOrder().remove(1);
+            throw new IllegalStateException("액션 중간 실패");
+        }));
+
+        CreateMapPayload state = roomGameEngine.get("room-2");
+        assertNull(state.getCurrentMap().getCells().get(7).getOwnerName());
+        assertTrue(state.getPlayers().get("100").getOwnedProperties().isEmpty());
+        assertEquals(1.0, state.getBoardOverlay().getLandMultiplier()[7]);
+        assertEquals(2, state.getPlayerOrder().size());
+    }
+
+    @Test
+    void 메모리_모드에서_성공한_액션의_변경은_저장할_때_메모리_상태로_교체된다() throws Exception {
+        CreateMapPayload before = roomGameEngine.get("room-1");
+
+        executor.execute("room-1", () -> {
+            CreateMapPayload state = gameRedisService.getGameMapState("room-1");
+            assertNotSame(before, state);
+            state.getPlayers().get("100").setMoney(500_000L);
+            gameRedisService.saveGameMapState("room-1", state);
+        });
+
+        assertEquals(500_000L, roomGameEngine.get("room-1").getPlayers().get("100").getMoney());
+        assertEquals(GameStateFixtures.START_MONEY, before.getPlayers().get("100").getMoney());
+    }
+
+    private static CreateMapPayload createGameState() {
+        return GameStateFixtures.gameState().players(1).noBoard().build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.global.common.game.service.BankruptcyService;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class GameRulePipelineTest {
+
+    private BankruptcyService bankruptcyService;
+    private VictoryService victoryService;
+    private GameRulePipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        bankruptcyService = mock(BankruptcyService.class);
+        victoryService = mock(VictoryService.class);
+        pipeline = new GameRulePipeline(bankruptcyService, victoryService);
+    }
+
+    @Test
+    void 바뀐_플레이어만_파산_여부를_확인한다() {
+        CreateMapPayload state = createGameState();
+        // 이미 음수였던 플레이어는 이번 액션에서 바뀌지 않음
+        state.getPlayers().get("101").setMoney(-1L);
+        GameChangeSet.Baseline baseline = GameChangeSet.capture(state);
+
+        state.getPlayers().get("100").setMoney(-500L);
+        GameChangeSet changes = GameChangeSet.between(baseline, state);
+        pipeline.evaluate("room-1", state, changes);
+
+        assertEquals(List.of("100"), new ArrayList<>(changes.getPlayers()));
+        verify(bankruptcyService).retire(state, "100");
+        verify(bankruptcyService, never()).retire(state, "101");
+        verify(victoryService, never()).checkTurnLimitVictory(anyString(), any());
+    }
+
+    @Test
+    void 스페셜_땅_마지막_칸을_사면_승리_처리한다() {
+        CreateMapPayload state = createGameState();
+        BoardState board = state.board();
+        for (int position : new int[]{5, 13, 21, 28}) {
+            board.setOwner(position, 0);
+        }
+        GameChangeSet.Baseline baseline = GameChangeSet.capture(state);
+
+        board.setOwner(31, 0);
+        GameChangeSet changes = GameChangeSet.between(baseline, state);
+        pipeline.evaluate("room-1", state, changes);
+
+        assertTrue(changes.getTiles().get(31));
+        verify(victoryService).handleGameVictory("room-1", "플레이어0", VictoryService.SPECIAL_LAND_REASON, state);
+        verify(victoryService, never()).checkSpecialLandVictory(anyString(), any());
+    }
+
+    @Test
+    void 턴이_바뀐_경우에만_턴_제한을_확인한다() {
+        CreateMapPayload state = createGameState();
+        GameChangeSet.Baseline baseline = GameChangeSet.capture(state);
+
+        state.getPlayers().get("100").setPosition(7);
+        pipeline.evaluate("room-1", state, GameChangeSet.between(baseline, state));
+        verify(victoryService, never()).checkTurnLimitVictory(anyString(), any());
+
+        state.setGameTurn(state.getGameTurn() + 1);
+        pipeline.evaluate("room-1", state, GameChangeSet.between(baseline, state));
+        verify(victoryService).checkTurnLimitVictory(eq("room-1"), eq(state));
+        verify(victoryService, never()).checkLastSurvivorVictory(anyString(), any());
+    }
+
+    private CreateMapPayload createGameState() {
+        return GameStateFixtures.gameState()
+                .cells(Tile.TileType.SPECIAL, 5, 13, 21, 28, 31)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.GameStateDeltaPayload;
+import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class GameStateBroadcasterTest {
+
+    private SessionMessageService sessionMessageService;
+    private GameStateBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        sessionMessageService = mock(SessionMessageService.class);
+        broadcaster = new GameStateBroadcaster(sessionMessageService);
+        ReflectionTestUtils.setField(broadcaster, "deltaEnabled", true);
+    }
+
+    @Test
+    void 이전_전송과_비교해_바뀐_필드만_보낸다() {
+        CreateMapPayload state = createGameState();
+        broadcaster.broadcastDelta("room-1", state);
+
+        state.getPlayers().get("100").setMoney(1_000L);
+        state.getPlayers().get("100").setPosition(7);
+        broadcaster.broadcastDelta("room-1", state);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(sessionMessageService, times(2))
+                .sendMessageToRoom(eq("room-1"), eq(MessageType.GAME_STATE_DELTA), captor.capture());
+        GameStateDeltaPayload payload = (GameStateDeltaPayload) captor.getAllValues().get(1);
+        Map<String, String> changes = payload.getChanges();
+        assertEquals(Map.of("player.100.money", "1000", "player.100.position", "7"), changes);
+    }
+
+    @Test
+    void 바뀐_필드가_없으면_보내지_않는다() {
+        CreateMapPayload state = createGameState();
+        broadcaster.broadcastDelta("room-1", state);
+        broadcaster.broadcastDelta("room-1", state);
+
+        verify(sessionMessageService, times(1)).sendMessageToRoom(eq("room-1"), any(MessageType.class), any());
+    }
+
+    @Test
+    void 설정이_꺼져_있으면_보내지_않는다() {
+        ReflectionTestUtils.setField(broadcaster, "deltaEnabled", false);
+        broadcaster.broadcastDelta("room-1", createGameState());
+
+        verify(sessionMessageService, never()).sendMessageToRoom(any(), any(MessageType.class), any());
+        assertFalse(broadcaster.isDeltaEnabled());
+    }
+
+    private CreateMapPayload createGameState() {
+        return GameStateFixtures.gameState().noBoard().build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomExecutionLanesTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomExecutionLanes lanes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lanes = new RoomExecutionLanes(meterRegistry);
+        ReflectionTestUtils.setField(lanes, "laneCount", 4);
+        lanes.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        lanes.shutdown();
+    }
+
+    @Test
+    void 같은_방의_작업은_한_스레드에서_들어온_순서대로_실행된다() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            lanes.submit("room-1", () -> {
+                order.add(sequence);
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            }, e -> { });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, order.get(i));
+        }
+        assertEquals(Set.of("room-lane-" + lanes.laneIndex("room-1")), threads);
+        assertEquals(100, meterRegistry.find("room.lane.wait").timers().stream()
+                .mapToLong(timer -> timer.count()).sum());
+        assertEquals(4, meterRegistry.find("room.lane.queue.depth").gauges().size());
+    }
+
+    @Test
+    void 작업이_실패하면_오류_처리기로_전달한다() throws Exception {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        lanes.submit("room-1", () -> {
+            throw new IllegalStateException("실패");
+        }, e -> {
+            failure.set(e);
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("실패", failure.get().getMessage());
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RoomGameEngineTest {
+
+    private final RoomGameEngine engine = new RoomGameEngine();
+
+    @Test
+    void 액션_안에서_상태를_지워도_기다리던_액션은_끝난_뒤에_실행된다() throws Exception {
+        engine.put("room-1", CreateMapPayload.builder().roomId("room-1").build());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch removed = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> removing = pool.submit(() -> {
+                engine.execute("room-1", () -> {
+                    enter(running, maxRunning);
+                    engine.remove("room-1");
+                    removed.countDown();
+                    Thread.sleep(100);
+                    running.decrementAndGet();
+                });
+                return null;
+            });
+            removed.await();
+            engine.execute("room-1", () -> {
+                enter(running, maxRunning);
+                running.decrementAndGet();
+            });
+            removing.get(2, TimeUnit.SECONDS);
+
+            // 방금 지운 방의 액션과 새 액션이 겹치지 않음
+            assertEquals(1, maxRunning.get());
+            assertNull(engine.get("room-1"));
+            assertFalse(engine.contains("room-1"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 액션을_실행_중인_빈_슬롯은_정리하지_않고_끝난_뒤에_정리한다() throws Exception {
+        engine.put("room-1", CreateMapPayload.builder().roomId("room-1").build());
+        engine.remove("room-1");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = pool.submit(() -> {
+                engine.execute("room-1", () -> {
+                    enter(running, maxRunning);
+                    entered.countDown();
+                    release.await();
+                    running.decrementAndGet();
+                });
+                return null;
+            });
+            entered.await();
+            // 잠금을 쥔 슬롯은 비어 있어도 정리하지 않음
+            assertEquals(0, engine.evictIdle(0));
+
+            Future<?> second = pool.submit(() -> {
+                engine.execute("room-1", () -> {
+                    enter(running, maxRunning);
+                    running.decrementAndGet();
+                });
+                return null;
+            });
+            release.countDown();
+            first.get(2, TimeUnit.SECONDS);
+            second.get(2, TimeUnit.SECONDS);
+
+            assertEquals(1, maxRunning.get());
+            // 모두 끝난 뒤 빈 슬롯은 유휴 시간과 관계없이 정리
+            assertEquals(1, engine.evictIdle(Long.MAX_VALUE));
+            assertEquals(0, engine.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 스냅샷이_끝나지_않은_방은_유휴_상태여도_정리하지_않는다() {
+        engine.put("room-1", CreateMapPayload.builder().roomId("room-1").build());
+
+        assertEquals(0, engine.evictIdle(-1));
+        assertEquals(1, engine.drainDirtySnapshots((roomId, state) -> state).size());
+        assertEquals(1, engine.evictIdle(-1));
+        assertEquals(0, engine.size());
+    }
+
+    private static void enter(AtomicInteger running, AtomicInteger maxRunning) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+    }
+}
@@ -0,0 +1,195 @@
+package com.ssafy.BlueMarble.domain.game.service;
+
+import com.ssafy.BlueMarble.domain.Timer.Service.TimerService;
+import com.ssafy.BlueMarble.domain.game.GameStateFixtures;
+import com.ssafy.BlueMarble.domain.game.dto.BoardState;
+import com.ssafy.BlueMarble.domain.game.entity.GameState;
+import com.ssafy.BlueMarble.domain.game.entity.Tile;
+import com.ssafy.BlueMarble.domain.game.entity.TurnPhase;
+import com.ssafy.BlueMarble.websocket.dto.payload.game.CreateMapPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TurnPhaseServiceTest {
+
+    private static final int AIRPLANE = 3;
+    private static final int NTS = 4;
+    private static final int SPECIAL = 5;
+    private static final int JAIL = 8;
+    private static final int LAND = 10;
+
+    private TimerService timerService;
+    private TurnPhaseService turnPhaseService;
+
+    @BeforeEach
+    void setUp() {
+        timerService = mock(TimerService.class);
+        // 인수 가격은 기본 가격의 2배로 둠
+        EconomicHistoryService economicHistoryService = mock(EconomicHistoryService.class);
+        when(economicHistoryService.calculatePropertyPriceWithEffect(anyLong(), anyLong()))
+                .thenAnswer(invocation -> invocation.<Long>getArgument(0) * 2);
+        turnPhaseService = new TurnPhaseService(timerService, economicHistoryService);
+        ReflectionTestUtils.setField(turnPhaseService, "autoAdvance", true);
+    }
+
+    @Test
+    void 도착_칸에_따라_결정이_남았는지_판단한다() {
+        CreateMapPayload state = createGameState();
+        CreateMapPayload.PlayerState player = state.getPlayers().get("100");
+        BoardState board = state.board();
+
+        // 빈 땅: 살 돈이 있을 때만
+        player.setPosition(LAND);
+        assertTrue(turnPhaseService.needsDecision(state, player));
+        player.setMoney(board.landPrice(LAND) - 1);
+        assertFalse(turnPhaseService.needsDecision(state, player));
+        player.setMoney(20_000_000L);
+
+        // 남의 땅: 인수 가격(경제역사 효과 적용)을 낼 돈이 있으면 인수 결정이 남음
+        board.setOwner(LAND, 1);
+        assertTrue(turnPhaseService.needsDecision(state, player));
+        player.setMoney(board.landPrice(LAND) * 2 - 1);
+        assertFalse(turnPhaseService.needsDecision(state, player));
+        player.setMoney(20_000_000L);
+
+        // 자기 땅: 호텔 전까지는 건설 가능
+        board.setOwner(LAND, 0);
+        board.setBuildingLevel(LAND, Tile.BuildingType.BUILDING.ordinal());
+        assertTrue(turnPhaseService.needsDecision(state, player));
+        board.setBuildingLevel(LAND, Tile.BuildingType.HOTEL.ordinal());
+        assertFalse(turnPhaseService.needsDecision(state, player));
+
+        // 자기 특별땅에는 건물을 지을 수 없음
+        board.setOwner(SPECIAL, 0);
+        player.setPosition(SPECIAL);
+        assertFalse(turnPhaseService.needsDecision(state, player));
+
+        // 세계여행/국세청은 클라이언트 요청을 기다림, 감옥은 끝
+        player.setPosition(AIRPLANE);
+        assertTrue(turnPhaseService.needsDecision(state, player));
+        player.setPosition(NTS);
+        assertTrue(turnPhaseService.needsDecision(state, player));
+        player.setPosition(JAIL);
+        player.setInJail(true);
+        assertFalse(turnPhaseService.needsDecision(state, player));
+    }
+
+    @Test
+    void 결정이_남지_않으면_현재_플레이어의_턴을_바로_넘긴다() {
+        CreateMapPayload state = createGameState();
+        CreateMapPayload.PlayerState current = state.getPlayers().get("100");
+        state.board().setOwner(LAND, 1);
+        current.setPosition(LAND);
+        current.setMoney(0L);
+
+        assertEquals(TurnPhase.END, turnPhaseService.resolve("room-1", state, current));
+        verify(timerService).cancelTurnTimer("room-1", "플레이어0");
+
+        // 현재 턴이 아닌 플레이어는 넘기지 않음
+        CreateMapPayload.PlayerState other = state.getPlayers().get("101");
+        other.setPosition(JAIL);
+        assertEquals(TurnPhase.END, turnPhaseService.resolve("room-1", state, other));
+        verify(timerService, never()).cancelTurnTimer("room-1", "플레이어1");
+    }
+
+    @Test
+    void 통행료로_파산하면_턴을_넘기지_않는다() {
+        CreateMapPayload state = createGameState();
+        CreateMapPayload.PlayerState current = state.getPlayers().get("100");
+        state.board().setOwner(LAND, 1);
+        current.setPosition(LAND);
+        // 통행료를 내고 자산이 음수가 됨
+        current.setMoney(-1L);
+
+        assertEquals(TurnPhase.END, turnPhaseService.resolve("room-1", state, current));
+        verify(timerService, never()).cancelTurnTimer(anyString(), anyString());
+    }
+
+    @Test
+    void 액션_중에는_규칙_평가_뒤에_턴을_넘기고_파산이나_게임_종료면_넘기지_않는다() {
+        CreateMapPayload state = createGameState();
+        CreateMapPayload.PlayerState current = state.getPlayers().get("100");
+        current.setPosition(JAIL);
+        current.setInJail(true);
+
+        // 규칙 평가 전에는 넘기지 않고, 평가 뒤에 넘김
+        runAction(state, context -> {
+            assertEquals(TurnPhase.END, turnPhaseService.resolve("room-1", state, current));
+            verify(timerService, never()).cancelTurnTimer(anyString(), anyString());
+            context.runAfterRules();
+        });
+        verify(timerService).cancelTurnTimer("room-1", "플레이어0");
+
+        // 규칙 평가에서 파산 처리됨
+        runAction(state, context -> {
+            turnPhaseService.resolve("room-1", state, current);
+            current.setActive(false);
+            context.runAfterRules();
+        });
+        current.setActive(true);
+
+        // 규칙 평가에서 승리로 게임이 끝남
+        runAction(state, context -> {
+            turnPhaseService.resolve("room-1", state, current);
+            state.setGameState(GameState.FINISHED);
+            context.runAfterRules();
+        });
+        verify(timerService, times(1)).cancelTurnTimer(anyString(), anyString());
+    }
+
+    @Test
+    void 결정이_남았거나_자동_진행을_끄면_타이머를_기다린다() {
+        CreateMapPayload state = createGameState();
+        CreateMapPayload.PlayerState current = state.getPlayers().get("100");
+        current.setPosition(NTS);
+
+        assertEquals(TurnPhase.DECIDE, turnPhaseService.resolve("room-1", state, current));
+        verify(timerService, never()).cancelTurnTimer(anyString(), anyString());
+
+        ReflectionTestUtils.setField(turnPhaseService, "autoAdvance", false);
+        assertEquals(TurnPhase.END, turnPhaseService.complete("room-1", state, current));
+        verify(timerService, never()).cancelTurnTimer(anyString(), anyString());
+    }
+
+    @Test
+    void 결정을_처리하면_다시_도착_칸을_확인하고_끝나면_다음_턴으로_간다() {
+        assertEquals(TurnPhase.RESOLVE, TurnPhase.ROLL.next(false));
+        assertEquals(TurnPhase.DECIDE, TurnPhase.RESOLVE.next(true));
+        assertEquals(TurnPhase.END, TurnPhase.RESOLVE.next(false));
+        assertEquals(TurnPhase.RESOLVE, TurnPhase.DECIDE.next(false));
+        assertEquals(TurnPhase.ROLL, TurnPhase.END.next(false));
+    }
+
+    private static void runAction(CreateMapPayload state, Consumer<GameActionContext> action) {
+        GameActionContext context = GameActionContext.begin("room-1");
+        try {
+            context.state(() -> state);
+            action.accept(context);
+        } finally {
+            context.close();
+        }
+    }
+
+    private CreateMapPayload createGameState() {
+        return GameStateFixtures.gameState()
+                .cell(AIRPLANE, Tile.TileType.AIRPLANE)
+                .cell(NTS, Tile.TileType.NTS)
+                .cell(SPECIAL, Tile.TileType.SPECIAL)
+                .cell(JAIL, Tile.TileType.JAIL)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.BlueMarble.domain.room.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
+import com.ssafy.BlueMarble.websocket.service.RoomSessionIndex;
+import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
+import com.ssafy.BlueMarble.websocket.service.WebSocketSessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomServiceTest {
+
+    private HashOperations<String, Object, Object> hashOperations;
+    private RoomService roomService;
+    private WebSocketSession session;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        roomService = new RoomService(redisTemplate, mock(SessionMessageService.class), mock(UserRedisService.class),
+                new ObjectMapper(), mock(WebSocketSessionService.class), mock(RoomSessionIndex.class),
+                mock(ApplicationEventPublisher.class));
+
+        Map<String, Object> attributes = new HashMap<>();
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        when(session.getAttributes()).thenReturn(attributes);
+    }
+
+    @Test
+    void 방_ID는_처음_한_번만_Redis에서_읽고_세션에_저장한다() {
+        when(hashOperations.get("session:room", "session-1")).thenReturn("7");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("7", roomService.getRoom(session));
+        }
+        verify(hashOperations, times(1)).get("session:room", "session-1");
+    }
+
+    @Test
+    void 방에_들어가면_세션에_방_ID를_저장한다() {
+        roomService.addRoom(session, "12");
+
+        assertEquals("12", roomService.getRoom(session));
+        verify(hashOperations).put("session:room", "session-1", "12");
+        verify(hashOperations, never()).get("session:room", "session-1");
+    }
+}
@@ -0,0 +1,98 @@
+package com.ssafy.BlueMarble.websocket.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.dto.request.UseDiceRequest;
+import com.ssafy.BlueMarble.websocket.dto.InboundMessage;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.service.InboundMessageDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class MessageHandlerRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InboundMessageDecoder decoder;
+    private MessageHandlerRegistry registry;
+    private final WebSocketSession session = mock(WebSocketSession.class);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new InboundMessageDecoder(new ObjectMapper());
+        registry = new MessageHandlerRegistry(mock(ApplicationContext.class), meterRegistry, decoder);
+    }
+
+    @Test
+    void 등록된_메서드에_세션_컨텍스트_payload를_넘기고_처리_시간을_기록한다() throws Exception {
+        TestHandlers handlers = new TestHandlers();
+        registry.register(handlers);
+
+        MessageHandlerRegistry.Handler handler = registry.get(MessageType.USE_DICE);
+        assertTrue(handler.needsRoom());
+        assertTrue(handler.needsUser());
+
+        InboundMessage message = decoder.decode("{\"type\":\"USE_DICE\",\"payload\":{\"userName\":\"플레이어0\"}}");
+        MessageContext context = new MessageContext("room-1", "100");
+        handler.invoke(session, message, context);
+
+        assertSame(session, handlers.calls.get(0)[0]);
+        assertEquals("플레이어0", ((UseDiceRequest) handlers.calls.get(0)[1]).getUserName());
+        assertSame(context, handlers.calls.get(0)[2]);
+        assertEquals(1, meterRegistry.get("websocket.message.latency").tag("type", "USE_DICE").timer().count());
+        assertFalse(registry.get(MessageType.EXIT_ROOM).needsRoom());
+        assertNull(registry.get(MessageType.START_GAME));
+    }
+
+    @Test
+    void 처리_중_예외는_그대로_던지고_실패_수를_센다() {
+        registry.register(new TestHandlers());
+        MessageHandlerRegistry.Handler handler = registry.get(MessageType.EXIT_ROOM);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> handler.invoke(session, new InboundMessage(MessageType.EXIT_ROOM, null), new MessageContext(null, null)));
+
+        assertEquals("퇴장 실패", e.getMessage());
+        assertEquals(1.0, meterRegistry.get("websocket.message.errors").tag("type", "EXIT_ROOM").counter().count());
+    }
+
+    @Test
+    void 같은_타입을_두_번_등록하면_실패한다() {
+        registry.register(new TestHandlers());
+
+        assertThrows(IllegalStateException.class, () -> registry.register(new DuplicateHandlers()));
+    }
+
+    static class TestHandlers {
+        private final List<Object[]> calls = new ArrayList<>();
+
+        @MessageHandler(value = MessageType.USE_DICE, payload = UseDiceRequest.class, room = true, user = true)
+        public void useDice(WebSocketSession session, UseDiceRequest request, MessageContext context) {
+            calls.add(new Object[]{session, request, context});
+        }
+
+        @MessageHandler(MessageType.EXIT_ROOM)
+        public void exitRoom(WebSocketSession session) {
+            throw new IllegalArgumentException("퇴장 실패");
+        }
+    }
+
+    static class DuplicateHandlers {
+        @MessageHandler(MessageType.EXIT_ROOM)
+        public void exitRoom() {
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.ssafy.BlueMarble.websocket.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.domain.game.service.GameActionExecutor;
+import com.ssafy.BlueMarble.domain.game.service.RoomExecutionLanes;
+import com.ssafy.BlueMarble.domain.game.service.RoomGameEngine;
+import com.ssafy.BlueMarble.domain.room.service.RoomService;
+import com.ssafy.BlueMarble.domain.user.service.UserRedisService;
+import com.ssafy.BlueMarble.global.common.exception.BusinessError;
+import com.ssafy.BlueMarble.global.common.exception.BusinessException;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.service.InboundMessageDecoder;
+import com.ssafy.BlueMarble.websocket.service.RoomSessionIndex;
+import com.ssafy.BlueMarble.websocket.service.SessionMessageService;
+import com.ssafy.BlueMarble.websocket.service.WebSocketSessionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebSocketHandlerTest {
+
+    private static final String TRADE = "{\"type\":\"TRADE_LAND\",\"payload\":{\"userName\":\"플레이어0\",\"landNum\":3}}";
+
+    private final WebSocketSession session = mock(WebSocketSession.class);
+    private RoomService roomService;
+    private WebSocketSessionService webSocketSessionService;
+    private RoomExecutionLanes lanes;
+    private MessageHandlerRegistry registry;
+    private SessionMessageService sessionMessageService;
+    private TradeHandlers tradeHandlers;
+    private WebSocketHandler webSocketHandler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        when(session.getId()).thenReturn("session-1");
+        when(session.isOpen()).thenReturn(true);
+
+        roomService = mock(RoomService.class);
+        when(roomService.getRoom(session)).thenReturn("room-1");
+        webSocketSessionService = mock(WebSocketSessionService.class);
+        sessionMessageService = mock(SessionMessageService.class);
+
+        // 레인과 실행기는 호출한 스레드에서 바로 실행
+        lanes = mock(RoomExecutionLanes.class);
+        doAnswer(invocation -> {
+            try {
+                invocation.<RoomGameEngine.RoomAction>getArgument(1).run();
+            } catch (Exception e) {
+                invocation.<Consumer<Exception>>getArgument(2).accept(e);
+            }
+            return null;
+        }).when(lanes).submit(anyString(), any(RoomGameEngine.RoomAction.class), any(Consumer.class));
+        GameActionExecutor executor = mock(GameActionExecutor.class);
+        doAnswer(invocation -> {
+            invocation.<RoomGameEngine.RoomAction>getArgument(2).run();
+            return null;
+        }).when(executor).execute(anyString(), anyString(), any(RoomGameEngine.RoomAction.class));
+
+        InboundMessageDecoder decoder = new InboundMessageDecoder(new ObjectMapper());
+        registry = new MessageHandlerRegistry(mock(ApplicationContext.class),
+                new SimpleMeterRegistry(), decoder);
+        tradeHandlers = new TradeHandlers();
+        registry.register(tradeHandlers);
+
+        webSocketHandler = new WebSocketHandler(webSocketSessionService, roomService, mock(UserRedisService.class),
+                sessionMessageService, executor, lanes, mock(RoomSessionIndex.class), decoder, registry);
+    }
+
+    @Test
+    void 잘못된_거래는_오류_메시지만_보내고_세션을_유지한다() throws Exception {
+        tradeHandlers.failure = new BusinessException(BusinessError.CANNOT_TRADE);
+
+        webSocketHandler.handleMessage(session, new TextMessage(TRADE));
+
+        verify(sessionMessageService).sendError(session, "CANNOT_TRADE", BusinessError.CANNOT_TRADE.getMessage());
+        verify(session, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    void 예상하지_못한_예외는_서버_오류_메시지를_보내고_세션을_유지한다() throws Exception {
+        tradeHandlers.failure = new IllegalStateException("상태 오류");
+
+        webSocketHandler.handleMessage(session, new TextMessage(TRADE));
+
+        verify(sessionMessageService).sendError(session, "INTERNAL_SERVER_ERROR", "서버 내부 오류");
+        verify(session, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    void 전송_오류일_때만_세션을_종료한다() throws Exception {
+        tradeHandlers.failure = new IllegalStateException("전송 실패", new IOException("broken pipe"));
+
+        webSocketHandler.handleMessage(session, new TextMessage(TRADE));
+
+        verify(session).close(CloseStatus.SERVER_ERROR);
+        verify(sessionMessageService, never()).sendError(eq(session), anyString(), anyString());
+    }
+
+    @Test
+    void 퇴장과_강퇴는_방_레인에서_처리한다() {
+        registry.register(new RoomMessageHandlers(roomService));
+
+        assertTrue(registry.get(MessageType.EXIT_ROOM).needsRoom());
+        assertTrue(registry.get(MessageType.KICK).needsRoom());
+    }
+
+    @Test
+    void 연결이_끊기면_방_레인에서_퇴장_처리하고_이미_나갔으면_건너뛴다() {
+        webSocketHandler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        verify(lanes).submit(eq("room-1"), any(RoomGameEngine.RoomAction.class), any());
+        verify(roomService).exitRoom(session);
+
+        // EXIT_ROOM으로 먼저 나간 세션: 레인 차례가 왔을 때 방이 없음
+        WebSocketSession exited = mock(WebSocketSession.class);
+        when(exited.getId()).thenReturn("session-2");
+        when(roomService.getRoom(exited)).thenReturn("room-1", (String) null);
+        webSocketHandler.afterConnectionClosed(exited, CloseStatus.NORMAL);
+        verify(roomService, never()).exitRoom(exited);
+
+        // 방에 없던 세션은 레인을 거치지 않고 세션 목록에서만 제거
+        WebSocketSession lobby = mock(WebSocketSession.class);
+        when(lobby.getId()).thenReturn("session-3");
+        webSocketHandler.afterConnectionClosed(lobby, CloseStatus.NORMAL);
+        verify(webSocketSessionService).removeSession("session-3");
+        verify(roomService, never()).exitRoom(lobby);
+        verify(sessionMessageService).releaseSession("session-3");
+    }
+
+    static class TradeHandlers {
+        private RuntimeException failure;
+
+        // payload 바인딩과 무관하게 레인 오류 처리만 확인
+        @MessageHandler(value = MessageType.TRADE_LAND, room = true)
+        public void tradeLand(MessageContext context) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.ssafy.BlueMarble.websocket.dto.MessageDto;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CborFrameCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final CborFrameCodec codec = new CborFrameCodec();
+
+    @Test
+    void 방_메시지_프레임을_타입_코드_배열로_바꾸고_크기가_줄어든다() throws Exception {
+        String payloadJson = objectMapper.writeValueAsString(gameStatePayload());
+        String jsonFrame = SessionMessageService.roomFrame(MessageType.GAME_STATE_CHANGE, payloadJson, 42L);
+
+        byte[] binaryFrame = codec.encodeRoomFrame(jsonFrame);
+
+        JsonNode decoded = cborMapper.readTree(binaryFrame);
+        assertEquals(CborFrameCodec.code(MessageType.GAME_STATE_CHANGE), decoded.get(0).intValue());
+        assertEquals(objectMapper.readTree(payloadJson), decoded.get(1));
+        assertEquals(42L, decoded.get(2).longValue());
+        assertTrue(binaryFrame.length < jsonFrame.getBytes(StandardCharsets.UTF_8).length,
+                () -> "cbor=" + binaryFrame.length + ", json=" + jsonFrame.length());
+    }
+
+    @Test
+    void 묶음_프레임_안의_메시지도_타입_코드_배열로_바꾼다() throws Exception {
+        String jsonFrame = SessionMessageService.batchFrame(List.of(
+                new SessionMessageService.RoomMessage(MessageType.DRAW_CARD, "{\"card\":\"ANGEL\"}"),
+                new SessionMessageService.RoomMessage(MessageType.USE_DICE, "[3,4]")), 5L);
+
+        JsonNode decoded = cborMapper.readTree(codec.encodeRoomFrame(jsonFrame));
+
+        assertEquals(CborFrameCodec.code(MessageType.BATCH), decoded.get(0).intValue());
+        JsonNode messages = decoded.get(1);
+        assertEquals(CborFrameCodec.code(MessageType.DRAW_CARD), messages.get(0).get(0).intValue());
+        assertEquals("ANGEL", messages.get(0).get(1).get("card").asText());
+        assertEquals(5L, messages.get(0).get(2).longValue());
+        assertEquals(CborFrameCodec.code(MessageType.USE_DICE), messages.get(1).get(0).intValue());
+        assertEquals(6L, messages.get(1).get(2).longValue());
+    }
+
+    @Test
+    void MessageDto와_오류_JSON도_같은_내용으로_변환한다() throws Exception {
+        MessageDto message = new MessageDto(MessageType.RESYNC, objectMapper.valueToTree(Map.of("seq", 3)), 9L);
+        JsonNode encoded = cborMapper.readTree(codec.encode(message));
+        assertEquals(CborFrameCodec.code(MessageType.RESYNC), encoded.get(0).intValue());
+        assertEquals(9L, encoded.get(2).longValue());
+
+        String error = "{\"type\":\"INTERNAL_SERVER_ERROR\", \"message\":\"서버 내부 오류\"}";
+        assertEquals(objectMapper.readTree(error), cborMapper.readTree(codec.fromJson(error)));
+    }
+
+    private Map<String, Object> gameStatePayload() {
+        Map<String, Object> players = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            Map<String, Object> player = new LinkedHashMap<>();
+            player.put("userId", String.valueOf(100 + i));
+            player.put("nickname", "플레이어" + i);
+            player.put("position", i * 3);
+            player.put("money", 20_000_000L - i * 1_250_000L);
+            player.put("ownedProperties", List.of(1, 2, 3 + i));
+            player.put("isActive", true);
+            players.put(String.valueOf(100 + i), player);
+        }
+        List<Map<String, Object>> cells = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            cells.add(Map.of("cellNumber", i, "ownerIndex", i % 5 - 1, "buildingLevel", i % 4, "toll", 100_000L * i));
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("roomId", "1");
+        payload.put("gameTurn", 12);
+        payload.put("currentPlayerIndex", 2);
+        payload.put("players", players);
+        payload.put("cells", cells);
+        return payload;
+    }
+}
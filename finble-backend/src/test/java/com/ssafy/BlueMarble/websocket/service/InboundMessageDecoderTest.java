@@ -0,0 +1,63 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.ssafy.BlueMarble.domain.game.dto.request.UseDiceRequest;
+import com.ssafy.BlueMarble.websocket.dto.InboundMessage;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import com.ssafy.BlueMarble.websocket.dto.payload.room.CreateRoomPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InboundMessageDecoderTest {
+
+    private static final String USE_DICE = "{\"type\":\"USE_DICE\",\"payload\":{\"userName\":\"플레이어0\"}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private InboundMessageDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new InboundMessageDecoder(objectMapper);
+        decoder.register(MessageType.USE_DICE, UseDiceRequest.class);
+        decoder.register(MessageType.CREATE_ROOM, CreateRoomPayload.class);
+    }
+
+    @Test
+    void payload를_등록된_요청_클래스로_바로_읽는다() throws Exception {
+        InboundMessage message = decoder.decode(USE_DICE);
+
+        assertEquals(MessageType.USE_DICE, message.type());
+        assertEquals("플레이어0", message.payload(UseDiceRequest.class).getUserName());
+    }
+
+    @Test
+    void payload가_type보다_먼저_와도_읽고_등록되지_않은_타입은_건너뛴다() throws Exception {
+        InboundMessage reversed = decoder.decode("{\"payload\":{\"userName\":\"플레이어1\"},\"type\":\"USE_DICE\"}");
+        assertEquals("플레이어1", reversed.payload(UseDiceRequest.class).getUserName());
+
+        InboundMessage resync = decoder.decode("{\"type\":\"RESYNC\",\"payload\":{\"seq\":[1,2,3]}}");
+        assertEquals(MessageType.RESYNC, resync.type());
+        assertNull(resync.payload());
+
+        assertNull(decoder.decode("{\"type\":\"EXIT_ROOM\"}").payload());
+    }
+
+    @Test
+    void CBOR_프레임도_같은_요청_클래스로_읽는다() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        byte[] frame = cborMapper.writeValueAsBytes(List.of(CborFrameCodec.code(MessageType.USE_DICE),
+                Map.of("userName", "플레이어2")));
+
+        InboundMessage message = decoder.decode(frame);
+
+        assertEquals(MessageType.USE_DICE, message.type());
+        assertEquals("플레이어2", message.payload(UseDiceRequest.class).getUserName());
+    }
+}
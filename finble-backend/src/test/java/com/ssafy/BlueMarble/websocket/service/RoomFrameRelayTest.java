@@ -0,0 +1,52 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RoomFrameRelayTest {
+
+    @Test
+    void 쌓인_프레임은_노드별로_한_번씩_발행한다() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        RoomFrameRelay relay = new RoomFrameRelay(stringRedisTemplate, mock(RedisMessageListenerContainer.class),
+                new ClusterNode("node-a"), new SimpleMeterRegistry());
+        relay.init();
+        // 비우는 작업을 직접 실행해 발행 전에 프레임이 쌓이도록 함
+        List<Runnable> drains = new ArrayList<>();
+        ReflectionTestUtils.setField(relay, "executor", (Executor) drains::add);
+
+        relay.publish("node-b", "1", "{\"seq\":1}");
+        relay.publish("node-c", "1", "{\"seq\":1}");
+        relay.publish("node-b", "2", "{\"seq\":5}");
+        assertEquals(1, drains.size());
+        drains.get(0).run();
+
+        verify(stringRedisTemplate).convertAndSend("cluster:node:node-b", "1|{\"seq\":1}\n2|{\"seq\":5}\n");
+        verify(stringRedisTemplate).convertAndSend("cluster:node:node-c", "1|{\"seq\":1}\n");
+        verify(stringRedisTemplate, times(2)).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void 받은_묶음은_순서대로_방별로_전달한다() {
+        RoomFrameRelay relay = new RoomFrameRelay(mock(StringRedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), new ClusterNode("node-a"), new SimpleMeterRegistry());
+        List<String> delivered = new ArrayList<>();
+
+        relay.onBatch("1|{\"payload\":\"a|b\"}\n2|{\"seq\":5}\n", (roomId, frame) -> delivered.add(roomId + " " + frame));
+
+        assertEquals(List.of("1 {\"payload\":\"a|b\"}", "2 {\"seq\":5}"), delivered);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomSessionIndexTest {
+
+    private SetOperations<String, String> setOperations;
+    private StringRedisTemplate stringRedisTemplate;
+    private WebSocketSessionService webSocketSessionService;
+    private RoomSessionIndex index;
+    private WebSocketSession first;
+    private WebSocketSession second;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members("room:room-1:users")).thenReturn(Set.of("100"));
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+
+        first = openSession();
+        second = openSession();
+        webSocketSessionService = mock(WebSocketSessionService.class);
+        when(webSocketSessionService.getSessionByUserId("100")).thenReturn(first);
+        when(webSocketSessionService.getNodeIdsByUserIds(anyList())).thenReturn(List.of("node-a"));
+
+        index = new RoomSessionIndex(redisTemplate, stringRedisTemplate, webSocketSessionService,
+                mock(RedisMessageListenerContainer.class), new ClusterNode("node-a"));
+    }
+
+    @Test
+    void 처음_한_번만_Redis에서_읽고_이후에는_메모리에서_찾는다() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(List.of(first), index.sessions("room-1"));
+        }
+        verify(setOperations, times(1)).members(anyString());
+    }
+
+    @Test
+    void 입장과_퇴장은_목록에_바로_반영하고_다른_서버에_알린다() {
+        index.sessions("room-1");
+
+        index.join("room-1", "101", second);
+        assertEquals(Set.of(first, second), Set.copyOf(index.sessions("room-1")));
+
+        index.leave("room-1", "100");
+        assertEquals(List.of(second), index.sessions("room-1"));
+
+        verify(setOperations, times(1)).members(anyString());
+        verify(stringRedisTemplate, times(2)).convertAndSend(eq(RoomSessionIndex.INVALIDATE_CHANNEL), anyString());
+    }
+
+    @Test
+    void 다른_서버의_무효화_메시지를_받으면_다시_읽는다() {
+        index.sessions("room-1");
+
+        index.onInvalidate("node-a|room-1");
+        index.sessions("room-1");
+        verify(setOperations, times(1)).members(anyString());
+
+        index.onInvalidate("node-b|room-1");
+        index.sessions("room-1");
+        verify(setOperations, times(2)).members(anyString());
+    }
+
+    @Test
+    void 다른_노드에_연결된_플레이어는_그_노드로_보낸다() {
+        when(setOperations.members("room:room-2:users")).thenReturn(Set.of("100", "200", "201"));
+        when(webSocketSessionService.getNodeIdsByUserIds(anyList())).thenAnswer(invocation -> {
+            List<String> userIds = invocation.getArgument(0);
+            return userIds.stream().map(userId -> userId.startsWith("2") ? "node-b" : "node-a").toList();
+        });
+
+        assertEquals(List.of(first), index.sessions("room-2"));
+        assertEquals(Set.of("node-b"), index.remoteNodes("room-2"));
+        verify(webSocketSessionService, never()).getSessionByUserId("200");
+    }
+
+    private WebSocketSession openSession() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
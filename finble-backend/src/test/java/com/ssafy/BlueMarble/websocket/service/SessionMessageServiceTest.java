@@ -0,0 +1,115 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.BlueMarble.websocket.dto.MessageDto;
+import com.ssafy.BlueMarble.websocket.dto.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionMessageServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 방_메시지_프레임은_MessageDto_직렬화_결과와_같다() throws Exception {
+        Map<String, Object> payload = Map.of("nickname", "플레이어0", "money", 1_000L);
+        String payloadJson = objectMapper.writeValueAsString(payload);
+
+        String frame = SessionMessageService.roomFrame(MessageType.TRADE_LAND, payloadJson, 7L);
+
+        MessageDto expected = new MessageDto(MessageType.TRADE_LAND, objectMapper.valueToTree(payload), 7L);
+        assertEquals(objectMapper.writeValueAsString(expected), frame);
+    }
+
+    @Test
+    void payload가_없어도_MessageDto와_같은_형식이다() throws Exception {
+        String frame = SessionMessageService.roomFrame(MessageType.RESYNC, objectMapper.writeValueAsString(null), 1L);
+
+        assertEquals(objectMapper.writeValueAsString(new MessageDto(MessageType.RESYNC, null, 1L)), frame);
+    }
+
+    @Test
+    void 묶음_프레임은_순서대로_순번을_붙인_메시지_배열이다() throws Exception {
+        List<SessionMessageService.RoomMessage> batch = List.of(
+                new SessionMessageService.RoomMessage(MessageType.DRAW_CARD, "{\"card\":\"ANGEL\"}"),
+                new SessionMessageService.RoomMessage(MessageType.USE_DICE, "{\"dice1\":3,\"dice2\":4}"),
+                new SessionMessageService.RoomMessage(MessageType.GAME_END, "null"));
+
+        JsonNode frame = objectMapper.readTree(SessionMessageService.batchFrame(batch, 11L));
+
+        assertEquals("BATCH", frame.get("type").asText());
+        assertNull(frame.get("seq"));
+        JsonNode messages = frame.get("payload");
+        assertEquals(3, messages.size());
+        assertEquals("DRAW_CARD", messages.get(0).get("type").asText());
+        assertEquals(11L, messages.get(0).get("seq").asLong());
+        assertEquals(7, messages.get(1).get("payload").get("dice1").asInt() + messages.get(1).get("payload").get("dice2").asInt());
+        assertEquals("GAME_END", messages.get(2).get("type").asText());
+        assertEquals(13L, messages.get(2).get("seq").asLong());
+    }
+
+    @Test
+    void 전송이_제한_시간을_넘긴_채_멈춘_세션은_새_메시지가_없어도_닫는다() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SessionMessageService service = new SessionMessageService(objectMapper, mock(StringRedisTemplate.class),
+                mock(RoomSessionIndex.class), mock(RoomFrameRelay.class), mock(CborFrameCodec.class), meterRegistry);
+        ReflectionTestUtils.setField(service, "bufferSize", 100);
+        ReflectionTestUtils.setField(service, "sendTimeLimitMillis", 200L);
+        ReflectionTestUtils.setField(service, "outboundThreads", 1);
+        service.init();
+
+        // 세션을 닫아야 풀리는 전송
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            sending.countDown();
+            closed.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+        doAnswer(invocation -> {
+            closed.countDown();
+            return null;
+        }).when(session).close(any(CloseStatus.class));
+
+        try {
+            service.sendError(session, "ERROR", "오류");
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+            // 제한 시간 전에는 닫지 않음
+            service.closeStalledSessions();
+            assertEquals(1, closed.getCount());
+
+            Thread.sleep(300);
+            service.closeStalledSessions();
+            service.closeStalledSessions();
+
+            verify(session, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+            assertEquals(1.0, meterRegistry.counter("websocket.outbound.dropped.sessions",
+                    "reason", "send_time_exceeded").count());
+        } finally {
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ssafy.BlueMarble.websocket.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionOutboundQueueTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 여러_스레드가_보내도_한_세션에는_넣은_순서대로_보낸다() throws Exception {
+        List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(200);
+        WebSocketSession session = session();
+        doAnswer(invocation -> {
+            sent.add(((WebSocketMessage<?>) invocation.getArgument(0)).getPayload().toString());
+            done.countDown();
+            return null;
+        }).when(session).sendMessage(any());
+        AtomicInteger totalQueued = new AtomicInteger();
+        SessionOutboundQueue queue = new SessionOutboundQueue(session, executor, 1_000, 10_000, totalQueued);
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(SessionOutboundQueue.Result.QUEUED, queue.offer(new TextMessage(String.valueOf(i))));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 200; i++) {
+            assertEquals(String.valueOf(i), sent.get(i));
+        }
+        assertEquals(0, totalQueued.get());
+    }
+
+    @Test
+    void 전송이_막힌_세션은_버퍼가_차면_거부한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        WebSocketSession session = session();
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+        SessionOutboundQueue queue = new SessionOutboundQueue(session, executor, 2, 10_000, new AtomicInteger());
+
+        queue.offer(new TextMessage("0"));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        assertEquals(SessionOutboundQueue.Result.QUEUED, queue.offer(new TextMessage("1")));
+        assertEquals(SessionOutboundQueue.Result.QUEUED, queue.offer(new TextMessage("2")));
+        assertEquals(SessionOutboundQueue.Result.BUFFER_OVERFLOW, queue.offer(new TextMessage("3")));
+        release.countDown();
+    }
+
+    @Test
+    void 전송_시간이_제한을_넘기면_거부한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        WebSocketSession session = session();
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+        SessionOutboundQueue queue = new SessionOutboundQueue(session, executor, 100, 50, new AtomicInteger());
+
+        queue.offer(new TextMessage("0"));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(SessionOutboundQueue.Result.SEND_TIME_EXCEEDED, queue.offer(new TextMessage("1")));
+        release.countDown();
+    }
+
+    private WebSocketSession session() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getId()).thenReturn("session-1");
+        return session;
+    }
+}